@@ -0,0 +1,28 @@
+#!/usr/bin/env bash
+# Starts the application with the given java arguments and prints the milliseconds until the first
+# successful HTTP request, then stops it.
+#
+#   scripts/time-to-first-request.sh -jar target/crypto-penscrux-0.0.1-SNAPSHOT.jar
+#   scripts/time-to-first-request.sh -XX:SharedArchiveFile=target/faststart/application.jsa \
+#       -Dspring.aot.enabled=true -Dspring.profiles.active=faststart -jar target/faststart/crypto-penscrux-0.0.1-SNAPSHOT.jar
+set -euo pipefail
+
+URL="${URL:-http://localhost:8080/actuator/health}"
+RUNS="${RUNS:-5}"
+
+for run in $(seq 1 "$RUNS"); do
+  start=$(date +%s%N)
+  java --add-modules jdk.incubator.vector "$@" --vaadin.launch-browser=false > /dev/null 2>&1 &
+  pid=$!
+  until curl -fs -o /dev/null "$URL"; do
+    if ! kill -0 "$pid" 2> /dev/null; then
+      echo "application exited before serving a request" >&2
+      exit 1
+    fi
+    sleep 0.02
+  done
+  end=$(date +%s%N)
+  echo "run $run: $(( (end - start) / 1000000 )) ms"
+  kill "$pid"
+  wait "$pid" 2> /dev/null || true
+done
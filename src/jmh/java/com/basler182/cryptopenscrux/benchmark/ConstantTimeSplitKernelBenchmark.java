@@ -0,0 +1,10 @@
+package com.basler182.cryptopenscrux.benchmark;
+
+import org.openjdk.jmh.annotations.Fork;
+
+/**
+ * {@link SplitKernelBenchmark} on the constant-time bitsliced GF(256) kernel, which is selected once per JVM.
+ */
+@Fork(value = 1, jvmArgsAppend = {"--add-modules=jdk.incubator.vector", "-Dcryptopenscrux.gf256.constant-time=true"})
+public class ConstantTimeSplitKernelBenchmark extends SplitKernelBenchmark {
+}
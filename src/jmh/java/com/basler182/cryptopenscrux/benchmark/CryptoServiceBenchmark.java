@@ -0,0 +1,65 @@
+package com.basler182.cryptopenscrux.benchmark;
+
+import com.basler182.cryptopenscrux.service.CryptoService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end split/combine across secret sizes and (k, n) schemes. Select a subset with JMH's {@code -p}, e.g.
+ * {@code -Djmh.args="CryptoServiceBenchmark -p secretSize=1024 -p scheme=3/5"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules=jdk.incubator.vector", "-Xmx3g"})
+public class CryptoServiceBenchmark {
+
+    @Param({"16", "1024", "65536", "1048576"})
+    public int secretSize;
+
+    /** {@code k/n}. */
+    @Param({"2/3", "3/5", "10/50", "128/255"})
+    public String scheme;
+
+    private CryptoService cryptoService;
+    private String secret;
+    private int k;
+    private int n;
+    private List<String> shares;
+
+    @Setup
+    public void setup() {
+        String[] parts = scheme.split("/");
+        k = Integer.parseInt(parts[0]);
+        n = Integer.parseInt(parts[1]);
+        cryptoService = new CryptoService();
+
+        // Printable ASCII without leading/trailing blanks so combineShares returns the secret unchanged.
+        Random random = new Random(42);
+        char[] chars = new char[secretSize];
+        for (int i = 0; i < secretSize; i++) {
+            chars[i] = (char) ('!' + random.nextInt(94));
+        }
+        secret = new String(chars);
+
+        Map<Integer, String> all = cryptoService.splitSecret(secret, k, n);
+        shares = new ArrayList<>(all.values()).subList(0, k);
+    }
+
+    @Benchmark
+    public Map<Integer, String> splitSecret() {
+        return cryptoService.splitSecret(secret, k, n);
+    }
+
+    @Benchmark
+    public String combineShares() {
+        return cryptoService.combineShares(shares);
+    }
+}
@@ -0,0 +1,99 @@
+package com.basler182.cryptopenscrux.benchmark;
+
+import com.basler182.cryptopenscrux.util.BitslicedGf256;
+import com.basler182.cryptopenscrux.util.Gf256Util;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scalar field operations over {@value #OPS} random operands per invocation, plus the bulk row kernel. The
+ * {@code bitsliced*} variants do the same operations 64 lanes at a time on {@link BitslicedGf256} planes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class Gf256UtilBenchmark {
+
+    static final int OPS = 1024;
+
+    private final byte[] a = new byte[OPS];
+    private final byte[] b = new byte[OPS];
+    private final byte[] dst = new byte[OPS];
+    private final long[] aPlanes = new long[OPS / BitslicedGf256.BLOCK_BYTES * BitslicedGf256.PLANES];
+    private final long[] bPlanes = new long[aPlanes.length];
+    private final long[] x = new long[BitslicedGf256.PLANES];
+    private final long[] y = new long[BitslicedGf256.PLANES];
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        random.nextBytes(a);
+        random.nextBytes(b);
+        for (int i = 0; i < OPS; i++) {
+            if (b[i] == 0) b[i] = 1;
+        }
+        for (int i = 0; i < OPS; i += BitslicedGf256.BLOCK_BYTES) {
+            int at = i / BitslicedGf256.BLOCK_BYTES * BitslicedGf256.PLANES;
+            BitslicedGf256.load(a, i, BitslicedGf256.BLOCK_BYTES, aPlanes, at);
+            BitslicedGf256.load(b, i, BitslicedGf256.BLOCK_BYTES, bPlanes, at);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPS)
+    public void mul(Blackhole bh) {
+        for (int i = 0; i < OPS; i++) {
+            bh.consume(Gf256Util.mul(a[i], b[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPS)
+    public void inv(Blackhole bh) {
+        for (int i = 0; i < OPS; i++) {
+            bh.consume(Gf256Util.inv(b[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPS)
+    public void div(Blackhole bh) {
+        for (int i = 0; i < OPS; i++) {
+            bh.consume(Gf256Util.div(a[i], b[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPS)
+    public byte[] mulAdd() {
+        Gf256Util.mulAdd(dst, a, (byte) 0x57);
+        return dst;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPS)
+    public void bitslicedMul(Blackhole bh) {
+        for (int at = 0; at < aPlanes.length; at += BitslicedGf256.PLANES) {
+            System.arraycopy(aPlanes, at, x, 0, BitslicedGf256.PLANES);
+            System.arraycopy(bPlanes, at, y, 0, BitslicedGf256.PLANES);
+            BitslicedGf256.mul(x, y, x);
+            bh.consume(x[0]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPS)
+    public void bitslicedInv(Blackhole bh) {
+        for (int at = 0; at < bPlanes.length; at += BitslicedGf256.PLANES) {
+            System.arraycopy(bPlanes, at, y, 0, BitslicedGf256.PLANES);
+            BitslicedGf256.inv(y, y);
+            bh.consume(y[0]);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.basler182.cryptopenscrux.benchmark;
+
+import com.basler182.cryptopenscrux.util.HexUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class HexUtilBenchmark {
+
+    @Param({"16", "1024", "65536", "1048576"})
+    public int size;
+
+    private byte[] bytes;
+    private String hex;
+
+    @Setup
+    public void setup() {
+        bytes = new byte[size];
+        new Random(42).nextBytes(bytes);
+        hex = HexUtil.bytesToHex(bytes);
+    }
+
+    @Benchmark
+    public String bytesToHex() {
+        return HexUtil.bytesToHex(bytes);
+    }
+
+    @Benchmark
+    public byte[] hexToBytes() {
+        return HexUtil.hexToBytes(hex);
+    }
+}
@@ -0,0 +1,66 @@
+package com.basler182.cryptopenscrux.benchmark;
+
+import com.basler182.cryptopenscrux.metrics.CryptoMetrics;
+import com.basler182.cryptopenscrux.random.BufferedSecureRandomProvider;
+import com.basler182.cryptopenscrux.service.CryptoService;
+import com.basler182.cryptopenscrux.service.ParallelSettings;
+import com.basler182.cryptopenscrux.util.BinaryShareCodec;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Binary split/combine of multi-MB secrets, sequential ({@code parallelism=1}) against fork/join on a pool of
+ * {@code parallelism} workers ({@code 0} = common pool).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules=jdk.incubator.vector", "-Xmx3g"})
+public class ParallelSplitBenchmark {
+
+    @Param({"4194304", "33554432"})
+    public int secretSize;
+
+    @Param({"1", "0"})
+    public int parallelism;
+
+    private ParallelSettings settings;
+    private CryptoService cryptoService;
+    private byte[] secret;
+    private ByteBuffer[] shares;
+
+    @Setup
+    public void setup() {
+        settings = parallelism == 1 ? ParallelSettings.sequential()
+                : ParallelSettings.of(parallelism, ParallelSettings.DEFAULT_THRESHOLD, ParallelSettings.DEFAULT_CHUNK_SIZE);
+        cryptoService = new CryptoService(BufferedSecureRandomProvider.createDefault(), CryptoMetrics.noop(), settings);
+        secret = new byte[secretSize];
+        new Random(42).nextBytes(secret);
+        shares = new ByteBuffer[5];
+        for (int i = 0; i < shares.length; i++) {
+            shares[i] = ByteBuffer.allocate(BinaryShareCodec.encodedLength(secretSize));
+        }
+        cryptoService.splitSecret(secret, 3, 5, shares);
+    }
+
+    @TearDown
+    public void tearDown() {
+        settings.close();
+    }
+
+    @Benchmark
+    public long splitSecret() {
+        for (ByteBuffer share : shares) share.clear();
+        return cryptoService.splitSecret(secret, 3, 5, shares);
+    }
+
+    @Benchmark
+    public byte[] combineShares() {
+        return cryptoService.combineShares(shares[0].duplicate().flip(), shares[2].duplicate().flip(), shares[4].duplicate().flip());
+    }
+}
@@ -0,0 +1,76 @@
+package com.basler182.cryptopenscrux.benchmark;
+
+import com.basler182.cryptopenscrux.random.RandomnessProvider;
+import com.basler182.cryptopenscrux.service.CryptoService;
+import com.basler182.cryptopenscrux.util.BinaryShareCodec;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Split throughput of binary secrets without hex encoding, into codec buffers and into raw caller buffers.
+ * {@code kernelOnly} replays pre-generated coefficients instead of drawing from DRBG, isolating the matrix kernel
+ * from random number generation, which dominates the real path.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class SplitKernelBenchmark {
+
+    @Param({"4096"})
+    public int secretSize;
+
+    /** {@code k/n}. */
+    @Param({"3/5"})
+    public String scheme;
+
+    private CryptoService cryptoService;
+    private CryptoService kernelOnly;
+    private int k;
+    private int n;
+    private byte[] secret;
+    private ByteBuffer[] encoded;
+    private byte[][] outputs;
+
+    @Setup
+    public void setup() {
+        String[] parts = scheme.split("/");
+        k = Integer.parseInt(parts[0]);
+        n = Integer.parseInt(parts[1]);
+        cryptoService = new CryptoService();
+        byte[] pool = new byte[1 << 20];
+        new Random(7).nextBytes(pool);
+        RandomnessProvider replay = (dst, off, len) -> System.arraycopy(pool, 0, dst, off, len);
+        kernelOnly = new CryptoService(replay);
+        secret = new byte[secretSize];
+        new Random(42).nextBytes(secret);
+        encoded = new ByteBuffer[n];
+        for (int i = 0; i < n; i++) {
+            encoded[i] = ByteBuffer.allocate(BinaryShareCodec.encodedLength(secretSize));
+        }
+        outputs = new byte[n][secretSize];
+    }
+
+    @Benchmark
+    public long splitEncoded() {
+        for (ByteBuffer buffer : encoded) buffer.clear();
+        return cryptoService.splitSecret(secret, k, n, encoded);
+    }
+
+    @Benchmark
+    public byte[][] splitInto() {
+        cryptoService.splitSecret(secret, 0, secretSize, k, outputs, 0);
+        return outputs;
+    }
+
+    @Benchmark
+    public byte[][] splitIntoKernelOnly() {
+        kernelOnly.splitSecret(secret, 0, secretSize, k, outputs, 0);
+        return outputs;
+    }
+}
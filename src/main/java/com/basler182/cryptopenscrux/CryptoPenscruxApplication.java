@@ -1,12 +1,26 @@
 package com.basler182.cryptopenscrux;
 
+import com.basler182.cryptopenscrux.cli.CliRunner;
+import com.vaadin.flow.component.page.AppShellConfigurator;
+import com.vaadin.flow.component.page.Push;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.ConfigurableApplicationContext;
 
+import java.io.Serial;
+
+@Push
 @SpringBootApplication
-public class CryptoPenscruxApplication {
+public class CryptoPenscruxApplication implements AppShellConfigurator {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
 
     public static void main(String[] args) {
-        SpringApplication.run(CryptoPenscruxApplication.class, args);
+        ConfigurableApplicationContext context = SpringApplication.run(CryptoPenscruxApplication.class, args);
+        if (context.getEnvironment().matchesProfiles(CliRunner.PROFILE)) {
+            // Headless runs end after the runner; report its exit code instead of idling.
+            System.exit(SpringApplication.exit(context));
+        }
     }
 }
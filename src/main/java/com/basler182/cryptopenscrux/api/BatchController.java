@@ -0,0 +1,32 @@
+package com.basler182.cryptopenscrux.api;
+
+import com.basler182.cryptopenscrux.service.BatchProcessor;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+/**
+ * Bulk HTTP entry point: {@code POST /api/batch} with an {@code application/x-ndjson} body of
+ * {@link com.basler182.cryptopenscrux.service.BatchJob}s. Results stream back as NDJSON while the upload is read.
+ */
+@RestController
+public class BatchController {
+
+    public static final String NDJSON = "application/x-ndjson";
+
+    private final BatchProcessor batchProcessor;
+
+    public BatchController(BatchProcessor batchProcessor) {
+        this.batchProcessor = batchProcessor;
+    }
+
+    @PostMapping(path = "/api/batch", consumes = NDJSON, produces = NDJSON)
+    public void batch(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding("UTF-8");
+        batchProcessor.process(request.getInputStream(), response.getOutputStream());
+    }
+}
@@ -0,0 +1,191 @@
+package com.basler182.cryptopenscrux.bip39;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * BIP-39 entropy/mnemonic conversion with SHA-256 checksum bits, and seed derivation with
+ * PBKDF2-HMAC-SHA512 (2048 rounds, salt {@code "mnemonic" + passphrase}, both NFKD-normalized).
+ * <p>
+ * PBKDF2 is implemented directly on a per-thread {@link Mac} so that batch derivation on a {@link ForkJoinPool}
+ * does not look up a provider or allocate a key factory per seed.
+ */
+public final class Bip39Engine {
+
+    public static final int PBKDF2_ROUNDS = 2048;
+    public static final int SEED_LENGTH = 64;
+
+    private static final int BITS_PER_WORD = 11;
+    private static final String HMAC_ALGORITHM = "HmacSHA512";
+
+    private static final ThreadLocal<Mac> MAC = ThreadLocal.withInitial(() -> {
+        try {
+            return Mac.getInstance(HMAC_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    /**
+     * One seed-derivation job for {@link #toSeeds(List, ForkJoinPool)}.
+     */
+    public record SeedRequest(String mnemonic, String passphrase) {
+    }
+
+    private final Bip39Wordlist wordlist;
+
+    public Bip39Engine(Bip39Wordlist wordlist) {
+        this.wordlist = Objects.requireNonNull(wordlist, "wordlist must not be null");
+    }
+
+    public static Bip39Engine english() {
+        return new Bip39Engine(Bip39Wordlist.english());
+    }
+
+    /**
+     * Number of entropy bytes behind a mnemonic of {@code wordCount} words (12, 15, 18, 21 or 24).
+     */
+    public static int entropyLength(int wordCount) {
+        if (wordCount < 12 || wordCount > 24 || wordCount % 3 != 0) {
+            throw new IllegalArgumentException("Word count must be 12, 15, 18, 21 or 24");
+        }
+        return wordCount * BITS_PER_WORD * 32 / 33 / 8;
+    }
+
+    /**
+     * Encodes 16 to 32 bytes of entropy (a multiple of 4) as a mnemonic.
+     */
+    public List<String> toMnemonic(byte[] entropy) {
+        Objects.requireNonNull(entropy, "entropy must not be null");
+        if (entropy.length < 16 || entropy.length > 32 || entropy.length % 4 != 0) {
+            throw new IllegalArgumentException("Entropy must be 16, 20, 24, 28 or 32 bytes");
+        }
+        byte[] hash = SHA256.get().digest(entropy);
+        int entropyBits = entropy.length * 8;
+        int totalBits = entropyBits + entropyBits / 32;
+
+        List<String> words = new ArrayList<>(totalBits / BITS_PER_WORD);
+        for (int w = 0; w < totalBits / BITS_PER_WORD; w++) {
+            int index = 0;
+            for (int b = w * BITS_PER_WORD; b < (w + 1) * BITS_PER_WORD; b++) {
+                index = (index << 1) | (b < entropyBits ? bit(entropy, b) : bit(hash, b - entropyBits));
+            }
+            words.add(wordlist.word(index));
+        }
+        return words;
+    }
+
+    /**
+     * Decodes a mnemonic back to its entropy, verifying every word and the checksum.
+     *
+     * @throws IllegalArgumentException on a wrong word count, unknown word or checksum mismatch
+     */
+    public byte[] toEntropy(List<String> words) {
+        Objects.requireNonNull(words, "words must not be null");
+        int entropyLength = entropyLength(words.size());
+        int entropyBits = entropyLength * 8;
+        byte[] entropy = new byte[entropyLength];
+        int checksum = 0;
+        for (int w = 0; w < words.size(); w++) {
+            int index = wordlist.indexOf(words.get(w));
+            if (index < 0) throw new IllegalArgumentException("Unknown mnemonic word at position " + (w + 1));
+            for (int i = 0; i < BITS_PER_WORD; i++) {
+                int b = w * BITS_PER_WORD + i;
+                int v = (index >>> (BITS_PER_WORD - 1 - i)) & 1;
+                if (b < entropyBits) entropy[b >>> 3] |= (byte) (v << (7 - (b & 7)));
+                else checksum = (checksum << 1) | v;
+            }
+        }
+        int checksumBits = entropyBits / 32;
+        int expected = (SHA256.get().digest(entropy)[0] & 0xFF) >>> (8 - checksumBits);
+        if (checksum != expected) throw new IllegalArgumentException("Invalid mnemonic checksum");
+        return entropy;
+    }
+
+    public boolean isValid(List<String> words) {
+        try {
+            toEntropy(words);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    public byte[] toSeed(List<String> words, String passphrase) {
+        return toSeed(String.join(" ", words), passphrase);
+    }
+
+    /**
+     * Derives the 64-byte BIP-39 seed. The mnemonic is not validated, as the standard prescribes.
+     */
+    public static byte[] toSeed(String mnemonic, String passphrase) {
+        Objects.requireNonNull(mnemonic, "mnemonic must not be null");
+        byte[] password = Normalizer.normalize(mnemonic, Normalizer.Form.NFKD).getBytes(StandardCharsets.UTF_8);
+        byte[] salt = Normalizer.normalize("mnemonic" + (passphrase == null ? "" : passphrase), Normalizer.Form.NFKD)
+                .getBytes(StandardCharsets.UTF_8);
+        try {
+            return pbkdf2(MAC.get(), password, salt);
+        } finally {
+            Arrays.fill(password, (byte) 0);
+        }
+    }
+
+    /**
+     * Derives seeds for all requests in parallel on {@code pool}, preserving the request order.
+     */
+    public static List<byte[]> toSeeds(List<SeedRequest> requests, ForkJoinPool pool) {
+        Objects.requireNonNull(requests, "requests must not be null");
+        return pool.submit(() -> requests.parallelStream()
+                        .map(r -> toSeed(r.mnemonic(), r.passphrase()))
+                        .toList())
+                .join();
+    }
+
+    /** PBKDF2 for a single output block, which covers the whole 64-byte SHA-512 seed. */
+    private static byte[] pbkdf2(Mac mac, byte[] password, byte[] salt) {
+        try {
+            mac.init(new SecretKeySpec(password, HMAC_ALGORITHM));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+        mac.update(salt);
+        mac.update(new byte[]{0, 0, 0, 1});
+        byte[] u = mac.doFinal();
+        byte[] t = u.clone();
+        for (int i = 1; i < PBKDF2_ROUNDS; i++) {
+            mac.update(u);
+            try {
+                mac.doFinal(u, 0);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+            for (int j = 0; j < SEED_LENGTH; j++) {
+                t[j] ^= u[j];
+            }
+        }
+        Arrays.fill(u, (byte) 0);
+        return t;
+    }
+
+    private static int bit(byte[] data, int b) {
+        return (data[b >>> 3] >>> (7 - (b & 7))) & 1;
+    }
+}
@@ -0,0 +1,23 @@
+package com.basler182.cryptopenscrux.bip39;
+
+/**
+ * BIP-39 wordlist languages known to {@link Bip39Wordlist}. Each list is read from
+ * {@code /bip-39/<resourceName>.txt} on first use.
+ * <p>
+ * Only English is bundled and supported, so this stays package-private. Adding a language needs its official list
+ * under {@code src/main/resources/bip-39}, a published test vector, and for Japanese a mnemonic joined with U+3000
+ * instead of a space in {@link Bip39Engine#toSeed(java.util.List, String)}.
+ */
+enum Bip39Language {
+    ENGLISH("english");
+
+    private final String resourceName;
+
+    Bip39Language(String resourceName) {
+        this.resourceName = resourceName;
+    }
+
+    String resourcePath() {
+        return "/bip-39/" + resourceName + ".txt";
+    }
+}
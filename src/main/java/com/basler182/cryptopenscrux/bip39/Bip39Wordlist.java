@@ -0,0 +1,250 @@
+package com.basler182.cryptopenscrux.bip39;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A BIP-39 wordlist packed into one {@code char[]} with an offsets array.
+ * <p>
+ * Word-to-index lookups go through an open-addressing hash table of word indexes, so they need no per-word
+ * {@code String}s. A second table maps the first {@value #PREFIX_LENGTH} characters of each word to its index
+ * (BIP-39 lists such as English are unique on that prefix), and a sorted index supports prefix completion. All
+ * words are stored and looked up in Unicode NFKD form, as BIP-39 requires. The list is loaded lazily, once, and
+ * shared; only the English list is bundled.
+ */
+public final class Bip39Wordlist {
+
+    private static final Logger LOG = LoggerFactory.getLogger(Bip39Wordlist.class);
+
+    public static final int SIZE = 2048;
+    public static final int PREFIX_LENGTH = 4;
+
+    private static final int TABLE_SIZE = 4096;
+    private static final int AMBIGUOUS = -2;
+
+    private static final AtomicReferenceArray<Bip39Wordlist> LOADED =
+            new AtomicReferenceArray<>(Bip39Language.values().length);
+
+    private final Bip39Language language;
+    private final char[] chars;
+    /** Word {@code i} is {@code chars[offsets[i], offsets[i + 1])}. */
+    private final int[] offsets;
+    /** Word index + 1 per slot, 0 for empty slots. */
+    private final int[] wordTable;
+    /** Prefix slot: first word index + 1 with that prefix; {@link #prefixIndex} holds the resolved index. */
+    private final int[] prefixTable;
+    private final int[] prefixIndex;
+    /** Word indexes in lexicographic (char) order. */
+    private final int[] sorted;
+
+    private Bip39Wordlist(Bip39Language language, List<String> words) {
+        if (words.size() != SIZE) {
+            throw new IllegalStateException("BIP-39 wordlist " + language + " must have " + SIZE + " words, found " + words.size());
+        }
+        this.language = language;
+        this.offsets = new int[SIZE + 1];
+        int total = 0;
+        for (int i = 0; i < SIZE; i++) {
+            offsets[i] = total;
+            total += words.get(i).length();
+        }
+        offsets[SIZE] = total;
+        this.chars = new char[total];
+        for (int i = 0; i < SIZE; i++) {
+            words.get(i).getChars(0, words.get(i).length(), chars, offsets[i]);
+        }
+
+        this.wordTable = new int[TABLE_SIZE];
+        this.prefixTable = new int[TABLE_SIZE];
+        this.prefixIndex = new int[TABLE_SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            int start = offsets[i];
+            int len = offsets[i + 1] - start;
+            if (indexOf(chars, start, len) >= 0) throw new IllegalStateException("Duplicate word in " + language + ": " + words.get(i));
+            wordTable[freeSlot(wordTable, hash(chars, start, len))] = i + 1;
+
+            int prefixLen = Math.min(len, PREFIX_LENGTH);
+            int slot = findPrefixSlot(chars, start, prefixLen);
+            if (prefixTable[slot] == 0) {
+                prefixTable[slot] = i + 1;
+                prefixIndex[slot] = i;
+            } else {
+                prefixIndex[slot] = AMBIGUOUS;
+            }
+        }
+
+        Integer[] order = new Integer[SIZE];
+        for (int i = 0; i < SIZE; i++) order[i] = i;
+        Arrays.sort(order, Comparator.comparing(this::word));
+        this.sorted = Arrays.stream(order).mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * The English wordlist, loaded on first use.
+     */
+    public static Bip39Wordlist english() {
+        return of(Bip39Language.ENGLISH);
+    }
+
+    /**
+     * Returns the wordlist of {@code language}, loading it on first use.
+     *
+     * @throws IllegalStateException if the list is not bundled or malformed
+     */
+    static Bip39Wordlist of(Bip39Language language) {
+        Bip39Wordlist list = LOADED.get(language.ordinal());
+        if (list != null) return list;
+        synchronized (LOADED) {
+            list = LOADED.get(language.ordinal());
+            if (list == null) {
+                list = load(language);
+                LOADED.set(language.ordinal(), list);
+            }
+            return list;
+        }
+    }
+
+    public int size() {
+        return SIZE;
+    }
+
+    public String word(int index) {
+        return new String(chars, offsets[index], offsets[index + 1] - offsets[index]);
+    }
+
+    /**
+     * Index of {@code word} (any Unicode normalization form), or -1 if it is not in the list.
+     */
+    public int indexOf(CharSequence word) {
+        char[] w = normalize(word);
+        return indexOf(w, 0, w.length);
+    }
+
+    /**
+     * Resolves a word abbreviated to its first {@value #PREFIX_LENGTH} characters (shorter words in full), or any
+     * longer input that still matches that word. Returns -1 if the prefix is unknown or not unique in this list.
+     */
+    public int indexOfPrefix(CharSequence input) {
+        char[] w = normalize(input);
+        int prefixLen = Math.min(w.length, PREFIX_LENGTH);
+        int slot = findPrefixSlot(w, 0, prefixLen);
+        if (prefixTable[slot] == 0) return -1;
+        int index = prefixIndex[slot];
+        if (index < 0) return -1;
+        // Longer input must still agree with the word it abbreviates.
+        return startsWith(index, w) ? index : -1;
+    }
+
+    /**
+     * Words starting with {@code prefix}, in lexicographic order, at most {@code limit} of them.
+     */
+    public List<String> complete(CharSequence prefix, int limit) {
+        char[] p = normalize(prefix);
+        int lo = 0;
+        int hi = SIZE;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (compare(sorted[mid], p) < 0) lo = mid + 1;
+            else hi = mid;
+        }
+        List<String> result = new ArrayList<>();
+        for (int i = lo; i < SIZE && result.size() < limit && startsWith(sorted[i], p); i++) {
+            result.add(word(sorted[i]));
+        }
+        return result;
+    }
+
+    private int indexOf(char[] w, int start, int len) {
+        for (int slot = hash(w, start, len); ; slot = (slot + 1) & (TABLE_SIZE - 1)) {
+            int entry = wordTable[slot];
+            if (entry == 0) return -1;
+            int idx = entry - 1;
+            if (Arrays.equals(chars, offsets[idx], offsets[idx + 1], w, start, start + len)) return idx;
+        }
+    }
+
+    private int findPrefixSlot(char[] w, int start, int len) {
+        for (int slot = hash(w, start, len); ; slot = (slot + 1) & (TABLE_SIZE - 1)) {
+            int entry = prefixTable[slot];
+            if (entry == 0) return slot;
+            int idx = entry - 1;
+            int wordStart = offsets[idx];
+            int keyLen = Math.min(offsets[idx + 1] - wordStart, PREFIX_LENGTH);
+            if (Arrays.equals(chars, wordStart, wordStart + keyLen, w, start, start + len)) return slot;
+        }
+    }
+
+    private boolean startsWith(int index, char[] prefix) {
+        int start = offsets[index];
+        int len = offsets[index + 1] - start;
+        return len >= prefix.length && Arrays.equals(chars, start, start + prefix.length, prefix, 0, prefix.length);
+    }
+
+    private int compare(int index, char[] other) {
+        return Arrays.compare(chars, offsets[index], offsets[index + 1], other, 0, other.length);
+    }
+
+    private static int freeSlot(int[] table, int slot) {
+        while (table[slot] != 0) slot = (slot + 1) & (TABLE_SIZE - 1);
+        return slot;
+    }
+
+    private static int hash(char[] w, int start, int len) {
+        int h = 0;
+        for (int i = start; i < start + len; i++) {
+            h = 31 * h + w[i];
+        }
+        h ^= h >>> 16;
+        h *= 0x45d9f3b;
+        h ^= h >>> 16;
+        return h & (TABLE_SIZE - 1);
+    }
+
+    private static char[] normalize(CharSequence s) {
+        String trimmed = s.toString().strip();
+        return nfkd(trimmed).toCharArray();
+    }
+
+    /** NFKD form; ASCII is its own NFKD form, which keeps the normalizer data unloaded for English. */
+    private static String nfkd(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) >= 0x80) {
+                return Normalizer.isNormalized(s, Normalizer.Form.NFKD) ? s : Normalizer.normalize(s, Normalizer.Form.NFKD);
+            }
+        }
+        return s;
+    }
+
+    private static Bip39Wordlist load(Bip39Language language) {
+        List<String> words = new ArrayList<>(SIZE);
+        try (InputStream is = Bip39Wordlist.class.getResourceAsStream(language.resourcePath())) {
+            if (is == null) throw new IllegalStateException("BIP-39 wordlist not bundled: " + language.resourcePath());
+            try (BufferedReader br = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = br.readLine()) != null) {
+                    line = line.strip();
+                    if (!line.isEmpty()) words.add(nfkd(line));
+                }
+            }
+        } catch (IOException e) {
+            LOG.warn("Error when loading word list {}: {}.", language, e.getMessage(), e);
+            throw new UncheckedIOException(e);
+        }
+        Bip39Wordlist list = new Bip39Wordlist(language, words);
+        LOG.debug("Wordlist {} initialized ({} words, {} chars).", language, SIZE, list.chars.length);
+        return list;
+    }
+}
@@ -0,0 +1,144 @@
+package com.basler182.cryptopenscrux.cli;
+
+import com.basler182.cryptopenscrux.service.BatchProcessor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.ExitCodeGenerator;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Headless batch mode, active with the {@value #PROFILE} profile (which also turns off the web server).
+ * <p>
+ * Reads NDJSON {@link com.basler182.cryptopenscrux.service.BatchJob}s ({@code split}, {@code combine},
+ * {@code mnemonic}) from the files in {@code cryptopenscrux.cli.input} in order, or from stdin for {@code -}, runs
+ * them through {@link BatchProcessor} with {@code cryptopenscrux.cli.parallelism} jobs in flight (0 = one per
+ * processor), and streams the results to {@code cryptopenscrux.cli.output} or stdout. A throughput and
+ * p50/p99 latency summary goes to stderr. The exit code is 1 if any job failed and 2 if input or output failed,
+ * in which case the results are incomplete.
+ */
+@Component
+@Profile(CliRunner.PROFILE)
+public class CliRunner implements ApplicationRunner, ExitCodeGenerator {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CliRunner.class);
+
+    public static final String PROFILE = "cli";
+    static final String STDIO = "-";
+
+    private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+
+    static final int EXIT_JOB_FAILED = 1;
+    static final int EXIT_IO_FAILED = 2;
+
+    private final BatchProcessor batchProcessor;
+    private final List<String> inputs;
+    private final String output;
+    private final int parallelism;
+
+    private volatile int exitCode;
+
+    public CliRunner(BatchProcessor batchProcessor,
+                     @Value("${cryptopenscrux.cli.input:" + STDIO + "}") List<String> inputs,
+                     @Value("${cryptopenscrux.cli.output:" + STDIO + "}") String output,
+                     @Value("${cryptopenscrux.cli.parallelism:0}") int parallelism) {
+        this.batchProcessor = batchProcessor;
+        this.inputs = List.copyOf(inputs);
+        this.output = output;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        LatencyStats stats;
+        try (InputStream in = openInputs(); OutputStream out = openOutput()) {
+            stats = run(in, out);
+        } catch (IOException e) {
+            exitCode = EXIT_IO_FAILED;
+            LOG.error("CLI batch aborted, results are incomplete.", e);
+            return;
+        }
+        System.err.print(stats.report());
+        System.err.flush();
+    }
+
+    /**
+     * Processes all jobs from {@code in} into {@code out} and returns their latencies. Neither stream is closed.
+     *
+     * @throws IOException if reading or writing fails; the exit code is then {@value #EXIT_IO_FAILED}
+     */
+    LatencyStats run(InputStream in, OutputStream out) throws IOException {
+        LatencyStats stats = new LatencyStats();
+        long jobs;
+        try {
+            jobs = batchProcessor.process(in, out, parallelism, false, (op, nanos, failed) -> {
+                stats.record(op, nanos, failed);
+                if (failed && exitCode == 0) exitCode = EXIT_JOB_FAILED;
+            });
+        } catch (IOException e) {
+            exitCode = EXIT_IO_FAILED;
+            throw e;
+        }
+        stats.finish();
+        LOG.debug("CLI batch finished ({} jobs, parallelism {}).", jobs, parallelism);
+        return stats;
+    }
+
+    @Override
+    public int getExitCode() {
+        return exitCode;
+    }
+
+    private InputStream openInputs() throws IOException {
+        List<InputStream> streams = new ArrayList<>();
+        try {
+            for (String input : inputs) {
+                streams.add(STDIO.equals(input) ? uncloseable(System.in) : Files.newInputStream(Path.of(input)));
+            }
+        } catch (IOException e) {
+            for (InputStream s : streams) s.close();
+            throw e;
+        }
+        return streams.size() == 1 ? streams.getFirst() : new SequenceInputStream(Collections.enumeration(streams));
+    }
+
+    private OutputStream openOutput() throws IOException {
+        OutputStream target = STDIO.equals(output) ? new FilterOutputStream(System.out) {
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+            }
+
+            @Override
+            public void close() throws IOException {
+                flush();
+            }
+        } : Files.newOutputStream(Path.of(output));
+        return new BufferedOutputStream(target, OUTPUT_BUFFER_SIZE);
+    }
+
+    private static InputStream uncloseable(InputStream in) {
+        return new FilterInputStream(in) {
+            @Override
+            public void close() {
+                // stdin stays open for the JVM
+            }
+        };
+    }
+}
@@ -0,0 +1,98 @@
+package com.basler182.cryptopenscrux.cli;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Per-operation job latencies of one CLI run, kept in full so that percentiles are exact.
+ * <p>
+ * Samples go into growable {@code long[]}s, eight bytes per job, so a run of millions of jobs stays within a few
+ * tens of megabytes. Recording is synchronized per operation; the work per job dwarfs that lock.
+ */
+public final class LatencyStats {
+
+    private static final String UNKNOWN_OP = "invalid";
+
+    private final Map<String, Samples> byOp = new TreeMap<>();
+    private final long startNanos = System.nanoTime();
+    private long endNanos;
+
+    /**
+     * Summary of one operation; latencies in nanoseconds.
+     */
+    public record Summary(String op, long count, long failed, long p50, long p99, long max) {
+    }
+
+    public void record(String op, long nanos, boolean failed) {
+        samples(op == null ? UNKNOWN_OP : op).add(nanos, failed);
+    }
+
+    /** Marks the end of the run for the throughput figure. */
+    public void finish() {
+        endNanos = System.nanoTime();
+    }
+
+    public Summary summary(String op) {
+        Samples samples;
+        synchronized (byOp) {
+            samples = byOp.get(op);
+        }
+        return samples == null ? new Summary(op, 0, 0, 0, 0, 0) : samples.summary(op);
+    }
+
+    /**
+     * Multi-line report: totals and throughput, then one line per operation with p50, p99 and max.
+     */
+    public String report() {
+        long elapsed = (endNanos == 0 ? System.nanoTime() : endNanos) - startNanos;
+        long total = 0;
+        long failed = 0;
+        StringBuilder lines = new StringBuilder();
+        synchronized (byOp) {
+            for (String op : byOp.keySet()) {
+                Summary s = byOp.get(op).summary(op);
+                total += s.count();
+                failed += s.failed();
+                lines.append(String.format(Locale.ROOT, "%-9s n=%d failed=%d p50=%.3f ms p99=%.3f ms max=%.3f ms%n",
+                        op, s.count(), s.failed(), s.p50() / 1e6, s.p99() / 1e6, s.max() / 1e6));
+            }
+        }
+        double seconds = elapsed / 1e9;
+        return String.format(Locale.ROOT, "jobs=%d failed=%d elapsed=%.3f s throughput=%.1f jobs/s%n",
+                total, failed, seconds, seconds > 0 ? total / seconds : 0) + lines;
+    }
+
+    private Samples samples(String op) {
+        synchronized (byOp) {
+            return byOp.computeIfAbsent(op, o -> new Samples());
+        }
+    }
+
+    private static final class Samples {
+
+        private long[] nanos = new long[1024];
+        private int count;
+        private long failed;
+
+        synchronized void add(long value, boolean fail) {
+            if (count == nanos.length) nanos = Arrays.copyOf(nanos, count * 2);
+            nanos[count++] = value;
+            if (fail) failed++;
+        }
+
+        synchronized Summary summary(String op) {
+            if (count == 0) return new Summary(op, 0, failed, 0, 0, 0);
+            long[] sorted = Arrays.copyOf(nanos, count);
+            Arrays.sort(sorted);
+            return new Summary(op, count, failed, percentile(sorted, 0.50), percentile(sorted, 0.99), sorted[count - 1]);
+        }
+
+        /** Nearest-rank percentile. */
+        private static long percentile(long[] sorted, double p) {
+            int rank = (int) Math.ceil(p * sorted.length);
+            return sorted[Math.max(0, rank - 1)];
+        }
+    }
+}
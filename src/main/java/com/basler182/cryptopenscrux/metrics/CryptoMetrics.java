@@ -0,0 +1,135 @@
+package com.basler182.cryptopenscrux.metrics;
+
+import com.basler182.cryptopenscrux.service.ShareValidationException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer instrumentation of the {@code CryptoService} hot paths.
+ * <p>
+ * Only durations, sizes, scheme parameters and failure reasons are recorded; secret and share material never
+ * reaches a meter or tag. All meters are registered up front, so recording is a handful of field reads and
+ * atomic adds. The {@link #noop()} instance skips even the clock read.
+ */
+public final class CryptoMetrics {
+
+    public static final String PREFIX = "cryptopenscrux";
+
+    /** Failure reason tag for rejections that are not {@link ShareValidationException}s, e.g. bad hex. */
+    static final String MALFORMED_REASON = "malformed";
+
+    public enum Operation {
+        SPLIT,
+        COMBINE,
+        MNEMONIC;
+
+        String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private static final CryptoMetrics NOOP = new CryptoMetrics();
+
+    private final boolean enabled;
+    private final Map<Operation, Timer> timers = new EnumMap<>(Operation.class);
+    private final Map<Operation, DistributionSummary> secretSizes = new EnumMap<>(Operation.class);
+    private final Map<Operation, DistributionSummary> thresholds = new EnumMap<>(Operation.class);
+    private final Map<Operation, DistributionSummary> shareCounts = new EnumMap<>(Operation.class);
+    private final Map<Operation, Map<ShareValidationException.Reason, Counter>> failures = new EnumMap<>(Operation.class);
+    private final Map<Operation, Counter> malformed = new EnumMap<>(Operation.class);
+
+    private CryptoMetrics() {
+        this.enabled = false;
+    }
+
+    public CryptoMetrics(MeterRegistry registry) {
+        this.enabled = true;
+        for (Operation op : Operation.values()) {
+            timers.put(op, Timer.builder(PREFIX + "." + op.tag())
+                    .description("Duration of successful " + op.tag() + " calls")
+                    .publishPercentileHistogram()
+                    .register(registry));
+            secretSizes.put(op, DistributionSummary.builder(PREFIX + ".secret.size")
+                    .description("Secret size in bytes")
+                    .baseUnit("bytes")
+                    .tag("operation", op.tag())
+                    .register(registry));
+            thresholds.put(op, DistributionSummary.builder(PREFIX + ".scheme.threshold")
+                    .description("Threshold k of the share scheme")
+                    .tag("operation", op.tag())
+                    .register(registry));
+            shareCounts.put(op, DistributionSummary.builder(PREFIX + ".scheme.shares")
+                    .description("Number of shares n produced or supplied")
+                    .tag("operation", op.tag())
+                    .register(registry));
+            Map<ShareValidationException.Reason, Counter> byReason = new EnumMap<>(ShareValidationException.Reason.class);
+            for (ShareValidationException.Reason reason : ShareValidationException.Reason.values()) {
+                byReason.put(reason, failureCounter(registry, op, reason.tag()));
+            }
+            failures.put(op, byReason);
+            malformed.put(op, failureCounter(registry, op, MALFORMED_REASON));
+        }
+    }
+
+    public static CryptoMetrics noop() {
+        return NOOP;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** Start timestamp for a later {@code record...} call; {@code 0} when disabled. */
+    public long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    public void recordSplit(long start, long secretBytes, int k, int n) {
+        if (!enabled) return;
+        record(Operation.SPLIT, start, secretBytes);
+        thresholds.get(Operation.SPLIT).record(k);
+        shareCounts.get(Operation.SPLIT).record(n);
+    }
+
+    public void recordCombine(long start, long secretBytes, int k, int shares) {
+        if (!enabled) return;
+        record(Operation.COMBINE, start, secretBytes);
+        thresholds.get(Operation.COMBINE).record(k);
+        shareCounts.get(Operation.COMBINE).record(shares);
+    }
+
+    public void recordMnemonic(long start, int entropyBytes) {
+        if (!enabled) return;
+        record(Operation.MNEMONIC, start, entropyBytes);
+    }
+
+    /** Counts a rejected call by reason. Only {@link IllegalArgumentException}s are treated as validation failures. */
+    public void recordFailure(Operation op, IllegalArgumentException e) {
+        if (!enabled) return;
+        if (e instanceof ShareValidationException sve) {
+            failures.get(op).get(sve.reason()).increment();
+        } else {
+            malformed.get(op).increment();
+        }
+    }
+
+    private void record(Operation op, long start, long secretBytes) {
+        timers.get(op).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        secretSizes.get(op).record(secretBytes);
+    }
+
+    private static Counter failureCounter(MeterRegistry registry, Operation op, String reason) {
+        return Counter.builder(PREFIX + ".failures")
+                .description("Rejected calls by validation failure reason")
+                .tag("operation", op.tag())
+                .tag("reason", reason)
+                .register(registry);
+    }
+}
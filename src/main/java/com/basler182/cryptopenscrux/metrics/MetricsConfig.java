@@ -0,0 +1,27 @@
+package com.basler182.cryptopenscrux.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MetricsConfig.class);
+
+    @Bean
+    public CryptoMetrics cryptoMetrics(
+            ObjectProvider<MeterRegistry> registry,
+            @Value("${cryptopenscrux.metrics.enabled:true}") boolean enabled) {
+        MeterRegistry meterRegistry = registry.getIfAvailable();
+        if (!enabled || meterRegistry == null) {
+            LOG.debug("CryptoService metrics disabled.");
+            return CryptoMetrics.noop();
+        }
+        return new CryptoMetrics(meterRegistry);
+    }
+}
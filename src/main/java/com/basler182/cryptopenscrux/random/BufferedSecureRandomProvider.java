@@ -0,0 +1,125 @@
+package com.basler182.cryptopenscrux.random;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link RandomnessProvider} backed by one {@link SecureRandom} per thread, refilled in bulk.
+ * <p>
+ * Platform threads get their own generator through a {@link ThreadLocal}, so they never contend. Virtual threads
+ * are short-lived and numerous, so instead of seeding a generator per virtual thread they are spread over a fixed
+ * set of lock-striped generators, each seeded on first use. Each generator serves requests from a buffer of
+ * {@code bufferSize} bytes that is refilled with a single {@code nextBytes} call; bytes handed out are wiped from
+ * the buffer immediately.
+ */
+public final class BufferedSecureRandomProvider implements RandomnessProvider {
+
+    public static final String DEFAULT_ALGORITHM = "DRBG";
+    public static final int DEFAULT_BUFFER_SIZE = 4096;
+
+    private final String algorithm;
+    private final int bufferSize;
+    private final ThreadLocal<Source> perThread;
+    private final AtomicReferenceArray<Source> stripes;
+
+    public BufferedSecureRandomProvider(String algorithm, int bufferSize) {
+        if (bufferSize < 16) throw new IllegalArgumentException("bufferSize must be >= 16");
+        this.algorithm = algorithm;
+        this.bufferSize = bufferSize;
+        newSecureRandom(); // fail fast on an unknown algorithm
+        this.perThread = ThreadLocal.withInitial(() -> new Source(newSecureRandom(), bufferSize));
+        // power of two >= 2 * cores, so the stripe is a mask of the thread id; seeded on first use
+        int stripeCount = Integer.highestOneBit(2 * Runtime.getRuntime().availableProcessors() - 1) << 1;
+        this.stripes = new AtomicReferenceArray<>(stripeCount);
+    }
+
+    public static BufferedSecureRandomProvider createDefault() {
+        return new BufferedSecureRandomProvider(DEFAULT_ALGORITHM, DEFAULT_BUFFER_SIZE);
+    }
+
+    @Override
+    public void nextBytes(byte[] dst, int off, int len) {
+        if (off < 0 || len < 0 || off + len > dst.length) throw new IndexOutOfBoundsException("Invalid range");
+        Thread thread = Thread.currentThread();
+        if (!thread.isVirtual()) {
+            perThread.get().nextBytes(dst, off, len);
+            return;
+        }
+        Source source = stripe((int) thread.threadId() & (stripes.length() - 1));
+        source.lock.lock();
+        try {
+            source.nextBytes(dst, off, len);
+        } finally {
+            source.lock.unlock();
+        }
+    }
+
+    public String algorithm() {
+        return algorithm;
+    }
+
+    public int bufferSize() {
+        return bufferSize;
+    }
+
+    /** Unconsumed bytes in the calling platform thread's buffer; consumed bytes are always zero. */
+    byte[] currentThreadBuffer() {
+        return perThread.get().buffer;
+    }
+
+    private Source stripe(int i) {
+        Source source = stripes.get(i);
+        if (source == null) {
+            Source created = new Source(newSecureRandom(), bufferSize);
+            source = stripes.compareAndExchange(i, null, created);
+            if (source == null) source = created;
+        }
+        return source;
+    }
+
+    private SecureRandom newSecureRandom() {
+        if ("default".equalsIgnoreCase(algorithm)) return new SecureRandom();
+        try {
+            return SecureRandom.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SecureRandom algorithm not available: " + algorithm, e);
+        }
+    }
+
+    private static final class Source {
+
+        private final SecureRandom random;
+        private final byte[] buffer;
+        private final ReentrantLock lock = new ReentrantLock();
+        /** Bytes before {@code pos} have been handed out and wiped. */
+        private int pos;
+
+        Source(SecureRandom random, int bufferSize) {
+            this.random = random;
+            this.buffer = new byte[bufferSize];
+            this.pos = bufferSize;
+        }
+
+        void nextBytes(byte[] dst, int off, int len) {
+            if (len >= buffer.length && off == 0 && len == dst.length) {
+                random.nextBytes(dst);
+                return;
+            }
+            while (len > 0) {
+                if (pos == buffer.length) {
+                    random.nextBytes(buffer);
+                    pos = 0;
+                }
+                int n = Math.min(len, buffer.length - pos);
+                System.arraycopy(buffer, pos, dst, off, n);
+                Arrays.fill(buffer, pos, pos + n, (byte) 0);
+                pos += n;
+                off += n;
+                len -= n;
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.basler182.cryptopenscrux.random;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RandomnessConfig {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RandomnessConfig.class);
+
+    @Bean
+    public RandomnessProvider randomnessProvider(
+            @Value("${cryptopenscrux.random.algorithm:" + BufferedSecureRandomProvider.DEFAULT_ALGORITHM + "}") String algorithm,
+            @Value("${cryptopenscrux.random.buffer-size:" + BufferedSecureRandomProvider.DEFAULT_BUFFER_SIZE + "}") int bufferSize) {
+        LOG.debug("Randomness provider: {} (buffer {} bytes).", algorithm, bufferSize);
+        return new BufferedSecureRandomProvider(algorithm, bufferSize);
+    }
+}
@@ -0,0 +1,53 @@
+package com.basler182.cryptopenscrux.random;
+
+/**
+ * Source of cryptographically strong random bytes for polynomial coefficients, share-set IDs and mnemonics.
+ * Implementations must be safe for concurrent use.
+ */
+public interface RandomnessProvider {
+
+    /**
+     * Fills {@code dst[off, off + len)} with random bytes.
+     */
+    void nextBytes(byte[] dst, int off, int len);
+
+    default void nextBytes(byte[] dst) {
+        nextBytes(dst, 0, dst.length);
+    }
+
+    /**
+     * Returns a uniformly distributed value in {@code [0, bound)}.
+     */
+    default int nextInt(int bound) {
+        if (bound <= 0) throw new IllegalArgumentException("bound must be positive");
+        byte[] buf = new byte[4];
+        int mask = bound - 1;
+        if ((bound & mask) == 0) {
+            nextBytes(buf);
+            return toInt(buf) & mask;
+        }
+        // Rejection sampling over 31 random bits, as in java.util.Random#nextInt(int).
+        int u;
+        int r;
+        do {
+            nextBytes(buf);
+            u = toInt(buf) >>> 1;
+            r = u % bound;
+        } while (u - r + mask < 0);
+        return r;
+    }
+
+    default long nextLong() {
+        byte[] buf = new byte[8];
+        nextBytes(buf);
+        long v = 0;
+        for (byte b : buf) {
+            v = (v << 8) | (b & 0xFF);
+        }
+        return v;
+    }
+
+    private static int toInt(byte[] b) {
+        return (b[0] & 0xFF) << 24 | (b[1] & 0xFF) << 16 | (b[2] & 0xFF) << 8 | (b[3] & 0xFF);
+    }
+}
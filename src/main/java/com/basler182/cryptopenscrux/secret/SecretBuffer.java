@@ -0,0 +1,86 @@
+package com.basler182.cryptopenscrux.secret;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Secret bytes held off-heap in a direct {@link ByteBuffer} drawn from a {@link SecretBufferPool}.
+ * <p>
+ * Unlike {@code String} or {@code byte[]} copies, the memory is never moved by the garbage collector and is zeroed
+ * deterministically by {@link #close()} before it is handed back to the pool. Instances are not thread safe.
+ */
+public final class SecretBuffer implements AutoCloseable {
+
+    private final SecretBufferPool pool;
+    private final int length;
+    private ByteBuffer memory;
+
+    SecretBuffer(SecretBufferPool pool, ByteBuffer memory, int length) {
+        this.pool = pool;
+        this.memory = memory;
+        this.length = length;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public boolean isClosed() {
+        return memory == null;
+    }
+
+    /**
+     * A view of the secret bytes with position 0 and limit {@link #length()}, sharing this buffer's memory. The
+     * view must not be used after {@link #close()}.
+     */
+    public ByteBuffer buffer() {
+        return memory().slice(0, length);
+    }
+
+    public byte get(int index) {
+        return memory().get(checkIndex(index));
+    }
+
+    public SecretBuffer put(int index, byte value) {
+        memory().put(checkIndex(index), value);
+        return this;
+    }
+
+    /** Copies {@code this[off, off + len)} into {@code dst[dstOff, dstOff + len)}. */
+    public void get(int off, byte[] dst, int dstOff, int len) {
+        checkRange(off, len);
+        memory().get(off, dst, dstOff, len);
+    }
+
+    /** Copies {@code src[srcOff, srcOff + len)} into {@code this[off, off + len)}. */
+    public SecretBuffer put(int off, byte[] src, int srcOff, int len) {
+        checkRange(off, len);
+        memory().put(off, src, srcOff, len);
+        return this;
+    }
+
+    /**
+     * Zeroes the memory and returns it to the pool. Idempotent.
+     */
+    @Override
+    public void close() {
+        ByteBuffer m = memory;
+        if (m == null) return;
+        memory = null;
+        pool.release(m);
+    }
+
+    private ByteBuffer memory() {
+        ByteBuffer m = memory;
+        if (m == null) throw new IllegalStateException("SecretBuffer is closed");
+        return m;
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= length) throw new IndexOutOfBoundsException("Index " + index + " out of " + length);
+        return index;
+    }
+
+    private void checkRange(int off, int len) {
+        if (off < 0 || len < 0 || off > length - len) throw new IndexOutOfBoundsException("Invalid range");
+    }
+}
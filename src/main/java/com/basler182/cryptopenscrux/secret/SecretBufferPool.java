@@ -0,0 +1,144 @@
+package com.basler182.cryptopenscrux.secret;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Pool of direct {@link ByteBuffer}s backing {@link SecretBuffer}s.
+ * <p>
+ * Buffers are grouped in power-of-two size classes from {@value #MIN_CLASS_SIZE} bytes up to
+ * {@code maxPooledSize}; each class retains at most {@code maxPerClass} idle buffers. Larger requests get an
+ * unpooled buffer. Every buffer is zeroed over its full capacity when released, whether it is retained or not,
+ * so idle pooled memory never holds secret bytes.
+ */
+public final class SecretBufferPool {
+
+    public static final int DEFAULT_MAX_PER_CLASS = 16;
+    public static final int DEFAULT_MAX_POOLED_SIZE = 4 * 1024 * 1024;
+
+    static final int MIN_CLASS_SIZE = 256;
+
+    private static final byte[] ZEROS = new byte[4096];
+
+    private static final SecretBufferPool SHARED = new SecretBufferPool(DEFAULT_MAX_PER_CLASS, DEFAULT_MAX_POOLED_SIZE);
+
+    private final int maxPerClass;
+    private final int maxPooledSize;
+    /** Idle buffers per size class. */
+    private final List<ConcurrentLinkedDeque<ByteBuffer>> idle;
+    private final AtomicIntegerArray idleCounts;
+
+    public SecretBufferPool(int maxPerClass, int maxPooledSize) {
+        if (maxPerClass < 0) throw new IllegalArgumentException("maxPerClass must be >= 0");
+        if (maxPooledSize < MIN_CLASS_SIZE || Integer.bitCount(maxPooledSize) != 1) {
+            throw new IllegalArgumentException("maxPooledSize must be a power of two >= " + MIN_CLASS_SIZE);
+        }
+        this.maxPerClass = maxPerClass;
+        this.maxPooledSize = maxPooledSize;
+        int classes = sizeClass(maxPooledSize) + 1;
+        List<ConcurrentLinkedDeque<ByteBuffer>> deques = new ArrayList<>(classes);
+        for (int i = 0; i < classes; i++) {
+            deques.add(new ConcurrentLinkedDeque<>());
+        }
+        this.idle = List.copyOf(deques);
+        this.idleCounts = new AtomicIntegerArray(classes);
+    }
+
+    public static SecretBufferPool shared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns a zero-filled buffer of exactly {@code length} bytes.
+     */
+    public SecretBuffer acquire(int length) {
+        if (length < 0) throw new IllegalArgumentException("length must be >= 0");
+        if (length > maxPooledSize) return new SecretBuffer(this, ByteBuffer.allocateDirect(length), length);
+        int cls = sizeClass(length);
+        ByteBuffer memory = idle.get(cls).pollFirst();
+        if (memory != null) {
+            idleCounts.decrementAndGet(cls);
+        } else {
+            memory = ByteBuffer.allocateDirect(MIN_CLASS_SIZE << cls);
+        }
+        return new SecretBuffer(this, memory, length);
+    }
+
+    /**
+     * Encodes {@code chars} as UTF-8 straight into a pooled buffer, without an intermediate {@code byte[]}.
+     *
+     * @throws IllegalArgumentException if {@code chars} contains unpaired surrogates
+     */
+    public SecretBuffer acquireUtf8(CharSequence chars) {
+        int length = utf8Length(chars);
+        SecretBuffer buffer = acquire(length);
+        CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+        CoderResult result = encoder.encode(CharBuffer.wrap(chars), buffer.buffer(), true);
+        if (result.isError()) {
+            buffer.close();
+            throw new IllegalArgumentException("Secret is not valid UTF-16 text");
+        }
+        return buffer;
+    }
+
+    /** Idle buffers currently retained by the pool. */
+    public int idleCount() {
+        int total = 0;
+        for (int i = 0; i < idleCounts.length(); i++) {
+            total += idleCounts.get(i);
+        }
+        return total;
+    }
+
+    void release(ByteBuffer memory) {
+        zero(memory);
+        int capacity = memory.capacity();
+        if (capacity > maxPooledSize || Integer.bitCount(capacity) != 1 || capacity < MIN_CLASS_SIZE) return;
+        int cls = sizeClass(capacity);
+        if (idleCounts.incrementAndGet(cls) > maxPerClass) {
+            idleCounts.decrementAndGet(cls);
+            return;
+        }
+        idle.get(cls).offerFirst(memory);
+    }
+
+    static void zero(ByteBuffer memory) {
+        int capacity = memory.capacity();
+        for (int off = 0; off < capacity; off += ZEROS.length) {
+            memory.put(off, ZEROS, 0, Math.min(ZEROS.length, capacity - off));
+        }
+    }
+
+    private static int sizeClass(int length) {
+        if (length <= MIN_CLASS_SIZE) return 0;
+        return 32 - Integer.numberOfLeadingZeros(length - 1) - Integer.numberOfTrailingZeros(MIN_CLASS_SIZE);
+    }
+
+    private static int utf8Length(CharSequence chars) {
+        int length = 0;
+        for (int i = 0; i < chars.length(); i++) {
+            char c = chars.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < chars.length() && Character.isLowSurrogate(chars.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+}
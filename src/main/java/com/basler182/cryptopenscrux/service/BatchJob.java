@@ -0,0 +1,10 @@
+package com.basler182.cryptopenscrux.service;
+
+import java.util.List;
+
+/**
+ * One line of an NDJSON batch: a {@code split} job ({@code secret}, {@code k}, {@code n}), a {@code combine} job
+ * ({@code shares}) or a {@code mnemonic} job ({@code words}). The {@code id} is echoed in the result.
+ */
+public record BatchJob(String id, String op, String secret, Integer k, Integer n, List<String> shares, Integer words) {
+}
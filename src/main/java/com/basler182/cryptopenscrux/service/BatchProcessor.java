@@ -0,0 +1,175 @@
+package com.basler182.cryptopenscrux.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Runs newline-delimited JSON batches of {@link BatchJob}s against {@link CryptoService}.
+ * <p>
+ * Every job runs on its own virtual thread. At most {@code maxConcurrency} jobs are in flight: the reader blocks
+ * before parsing the next line until a slot frees up, so an upload is consumed only as fast as it is processed.
+ * Results are written as one JSON line each, in completion order, and by default flushed immediately. The first
+ * write failure (a disconnected client, a full disk) stops reading further jobs and is rethrown once the jobs in
+ * flight have finished.
+ */
+@Service
+public class BatchProcessor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BatchProcessor.class);
+
+    public static final String OP_SPLIT = "split";
+    public static final String OP_COMBINE = "combine";
+    public static final String OP_MNEMONIC = "mnemonic";
+
+    /**
+     * Notified after every job with its op ({@code null} for malformed lines), duration and outcome, on the
+     * job's thread.
+     */
+    @FunctionalInterface
+    public interface JobListener {
+        void onJob(String op, long nanos, boolean failed);
+    }
+
+    private final CryptoService cryptoService;
+    private final ObjectMapper objectMapper;
+    private final int maxConcurrency;
+
+    public BatchProcessor(CryptoService cryptoService, ObjectMapper objectMapper,
+                          @Value("${cryptopenscrux.batch.max-concurrency:64}") int maxConcurrency) {
+        if (maxConcurrency < 1) throw new IllegalArgumentException("maxConcurrency must be >= 1");
+        this.cryptoService = cryptoService;
+        this.objectMapper = objectMapper;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Processes all jobs from {@code ndjson} and writes one result line per non-blank input line to {@code out}.
+     * Returns the number of jobs processed once all results are written. Neither stream is closed.
+     *
+     * @throws IOException if reading fails or writing a result fails; in the latter case no further jobs are read
+     */
+    public long process(InputStream ndjson, OutputStream out) throws IOException {
+        return process(ndjson, out, maxConcurrency, true, (op, nanos, failed) -> { });
+    }
+
+    /**
+     * Like {@link #process(InputStream, OutputStream)} with at most {@code concurrency} jobs in flight, reporting
+     * every job to {@code listener}. Without {@code flushEachLine}, {@code out} is flushed only at the end, which
+     * suits buffered file output.
+     */
+    public long process(InputStream ndjson, OutputStream out, int concurrency, boolean flushEachLine,
+                        JobListener listener) throws IOException {
+        if (concurrency < 1) throw new IllegalArgumentException("concurrency must be >= 1");
+        Semaphore permits = new Semaphore(concurrency);
+        ReentrantLock writeLock = new ReentrantLock();
+        AtomicReference<IOException> writeFailure = new AtomicReference<>();
+        long jobs = 0;
+        long lineNumber = 0;
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(ndjson, StandardCharsets.UTF_8));
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            String line;
+            while (writeFailure.get() == null && (line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) continue;
+                permits.acquireUninterruptibly();
+                if (writeFailure.get() != null) {
+                    permits.release();
+                    break;
+                }
+                jobs++;
+                String jobLine = line;
+                long jobLineNumber = lineNumber;
+                executor.execute(() -> {
+                    try {
+                        long start = System.nanoTime();
+                        BatchResult result = run(jobLine, jobLineNumber);
+                        listener.onJob(result.op(), System.nanoTime() - start, result.error() != null);
+                        writeLine(out, writeLock, result, flushEachLine, writeFailure);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+        IOException failure = writeFailure.get();
+        if (failure != null) {
+            LOG.warn("Batch aborted after {} jobs: writing results failed.", jobs);
+            throw failure;
+        }
+        out.flush();
+        LOG.debug("Batch finished ({} jobs).", jobs);
+        return jobs;
+    }
+
+    /**
+     * Runs the job on input line {@code lineNumber} (1-based). A malformed line is reported by its number only:
+     * parser messages quote the input, which may hold secrets or shares.
+     */
+    BatchResult run(String line, long lineNumber) {
+        BatchJob job;
+        try {
+            job = objectMapper.readValue(line, BatchJob.class);
+        } catch (JsonProcessingException e) {
+            return BatchResult.failed(null, null, "Malformed job on line " + lineNumber);
+        }
+        try {
+            return execute(job);
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            return BatchResult.failed(job.id(), job.op(), e.getMessage());
+        } catch (Exception e) {
+            LOG.error("Batch job {} failed.", job.id(), e);
+            return BatchResult.failed(job.id(), job.op(), "Internal error");
+        }
+    }
+
+    private BatchResult execute(BatchJob job) {
+        if (OP_SPLIT.equals(job.op())) {
+            if (job.k() == null || job.n() == null) throw new IllegalArgumentException("k and n are required");
+            return BatchResult.split(job, cryptoService.splitSecret(job.secret(), job.k(), job.n()));
+        }
+        if (OP_COMBINE.equals(job.op())) {
+            return BatchResult.combine(job, cryptoService.combineShares(job.shares()));
+        }
+        if (OP_MNEMONIC.equals(job.op())) {
+            if (job.words() == null) throw new IllegalArgumentException("words is required");
+            return BatchResult.mnemonic(job, cryptoService.generateMnemonic(job.words()));
+        }
+        throw new IllegalArgumentException("Unknown op: " + job.op());
+    }
+
+    /** Writes one result line; the first failure is kept in {@code failure} and later lines are dropped. */
+    private void writeLine(OutputStream out, ReentrantLock writeLock, BatchResult result, boolean flush,
+                           AtomicReference<IOException> failure) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(result);
+            writeLock.lock();
+            try {
+                if (failure.get() != null) return;
+                out.write(json);
+                out.write('\n');
+                if (flush) out.flush();
+            } finally {
+                writeLock.unlock();
+            }
+        } catch (IOException e) {
+            failure.compareAndSet(null, e);
+        }
+    }
+}
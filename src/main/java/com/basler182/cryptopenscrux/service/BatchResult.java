@@ -0,0 +1,32 @@
+package com.basler182.cryptopenscrux.service;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result line for a {@link BatchJob}. Exactly one of {@code shares}, {@code secret}, {@code mnemonic} or
+ * {@code error} is set.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchResult(String id, String op, Map<Integer, String> shares, String secret, List<String> mnemonic,
+                          String error) {
+
+    static BatchResult split(BatchJob job, Map<Integer, String> shares) {
+        return new BatchResult(job.id(), job.op(), shares, null, null, null);
+    }
+
+    static BatchResult combine(BatchJob job, String secret) {
+        return new BatchResult(job.id(), job.op(), null, secret, null, null);
+    }
+
+    static BatchResult mnemonic(BatchJob job, List<String> mnemonic) {
+        return new BatchResult(job.id(), job.op(), null, null, mnemonic, null);
+    }
+
+    static BatchResult failed(String id, String op, String error) {
+        return new BatchResult(id, op, null, null, null, error);
+    }
+
+}
@@ -1,16 +1,38 @@
 package com.basler182.cryptopenscrux.service;
 
+import com.basler182.cryptopenscrux.bip39.Bip39Engine;
+import com.basler182.cryptopenscrux.metrics.CryptoMetrics;
+import com.basler182.cryptopenscrux.metrics.CryptoMetrics.Operation;
+import com.basler182.cryptopenscrux.random.BufferedSecureRandomProvider;
+import com.basler182.cryptopenscrux.random.RandomnessProvider;
+import com.basler182.cryptopenscrux.secret.SecretBuffer;
+import com.basler182.cryptopenscrux.secret.SecretBufferPool;
+import com.basler182.cryptopenscrux.service.ShareValidationException.Reason;
+import com.basler182.cryptopenscrux.slip39.Slip39Codec;
+import com.basler182.cryptopenscrux.slip39.Slip39Engine;
+import com.basler182.cryptopenscrux.slip39.Slip39Group;
+import com.basler182.cryptopenscrux.slip39.Slip39Share;
+import com.basler182.cryptopenscrux.util.BerlekampWelch;
+import com.basler182.cryptopenscrux.util.BinaryShare;
+import com.basler182.cryptopenscrux.util.BinaryShareCodec;
 import com.basler182.cryptopenscrux.util.HexUtil;
+import com.basler182.cryptopenscrux.util.VandermondeMatrix;
+import com.basler182.cryptopenscrux.vault.ShareVault;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Serial;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
-import java.security.SecureRandom;
 import java.util.*;
+import java.util.concurrent.RecursiveAction;
 
 import static com.basler182.cryptopenscrux.util.Gf256Util.*;
 
@@ -19,132 +41,875 @@ public class CryptoService {
 
     private static final Logger LOG = LoggerFactory.getLogger(CryptoService.class);
 
-    private static final String WORDLIST_RESOURCE = "/bip-39/english.txt";
+    private static final int LAGRANGE_CACHE_SIZE = 256;
 
-    private final SecureRandom random = new SecureRandom();
+    /** Per-thread coefficient rows for {@link #splitRanges}, grown on demand and wiped after every use. */
+    private static final ThreadLocal<byte[]> COEFFICIENT_SCRATCH = ThreadLocal.withInitial(() -> new byte[0]);
 
-    private final List<String> WORD_LIST;
+    static final int STREAM_CHUNK_SIZE = 64 * 1024;
+
+    static final long MAP_WINDOW_SIZE = 64L * 1024 * 1024;
+
+    private final RandomnessProvider random;
+
+    private final LagrangeWeightCache lagrangeCache = new LagrangeWeightCache(LAGRANGE_CACHE_SIZE);
+
+    private final CryptoMetrics metrics;
+
+    private final SecretBufferPool bufferPool = SecretBufferPool.shared();
+
+    private final ParallelSettings parallel;
+
+    private final Slip39Engine slip39;
 
     public CryptoService() {
-        List<String> tmp = new ArrayList<>();
-        try (InputStream is = getClass().getResourceAsStream(WORDLIST_RESOURCE)) {
-            if (is != null) {
-                try (BufferedReader br = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
-                    String line;
-                    while ((line = br.readLine()) != null) {
-                        line = line.trim();
-                        if (!line.isEmpty()) tmp.add(line);
-                    }
+        this(BufferedSecureRandomProvider.createDefault());
+    }
+
+    public CryptoService(RandomnessProvider random) {
+        this(random, CryptoMetrics.noop());
+    }
+
+    public CryptoService(RandomnessProvider random, CryptoMetrics metrics) {
+        this(random, metrics, ParallelSettings.defaults());
+    }
+
+    @Autowired
+    public CryptoService(RandomnessProvider random, CryptoMetrics metrics, ParallelSettings parallel) {
+        this.random = Objects.requireNonNull(random, "random must not be null");
+        this.metrics = Objects.requireNonNull(metrics, "metrics must not be null");
+        this.parallel = Objects.requireNonNull(parallel, "parallel must not be null");
+        this.slip39 = new Slip39Engine(random);
+    }
+
+    /**
+     * Generates a BIP-39 mnemonic of {@code count} words (12, 15, 18, 21 or 24) from fresh entropy, including the
+     * checksum word bits.
+     */
+    public List<String> generateMnemonic(int count) {
+        long start = metrics.start();
+        try {
+            byte[] entropy = new byte[Bip39Engine.entropyLength(count)];
+            random.nextBytes(entropy);
+            try {
+                List<String> mnemonic = Bip39Engine.english().toMnemonic(entropy);
+                metrics.recordMnemonic(start, entropy.length);
+                return mnemonic;
+            } finally {
+                Arrays.fill(entropy, (byte) 0);
+            }
+        } catch (IllegalArgumentException e) {
+            metrics.recordFailure(Operation.MNEMONIC, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Splits a binary master secret (at least 16 bytes, even length) into SLIP-39 share mnemonics, one list per
+     * group, so that any {@code groupThreshold} groups with their member thresholds of shares recover it.
+     *
+     * @param passphrase printable ASCII, possibly empty; the same passphrase is required for recovery
+     */
+    public List<List<String>> splitSecretSlip39(byte[] masterSecret, String passphrase, int groupThreshold, List<Slip39Group> groups) {
+        long start = metrics.start();
+        try {
+            Objects.requireNonNull(masterSecret, "masterSecret must not be null");
+            Objects.requireNonNull(groups, "groups must not be null");
+            Slip39Codec codec = Slip39Codec.english();
+            List<List<Slip39Share>> shares = slip39.split(masterSecret, slip39Passphrase(passphrase), groupThreshold, groups,
+                    true, Slip39Engine.DEFAULT_ITERATION_EXPONENT);
+            List<List<String>> result = new ArrayList<>(shares.size());
+            int shareCount = 0;
+            for (List<Slip39Share> group : shares) {
+                List<String> mnemonics = new ArrayList<>(group.size());
+                for (Slip39Share share : group) {
+                    mnemonics.add(codec.toMnemonic(share));
+                    share.wipe();
                 }
+                shareCount += group.size();
+                result.add(mnemonics);
             }
-        } catch (Exception e) {
-            LOG.warn("Error when loading word list: {}.", e.getMessage(), e);
-            throw new RuntimeException(e);
+            metrics.recordSplit(start, masterSecret.length, groupThreshold, shareCount);
+            return result;
+        } catch (IllegalArgumentException e) {
+            metrics.recordFailure(Operation.SPLIT, e);
+            throw e;
         }
-        WORD_LIST = Collections.unmodifiableList(tmp);
-        LOG.debug("Wordlist initialized ({} words).", WORD_LIST.size());
     }
 
-    public List<String> generateMnemonic(int count) {
-        List<String> words = new ArrayList<>();
-        for (int i = 0; i < count; i++) {
-            words.add(WORD_LIST.get(random.nextInt(WORD_LIST.size())));
+    /**
+     * Recovers the master secret from SLIP-39 share mnemonics of one split.
+     *
+     * @throws IllegalArgumentException on invalid mnemonics, insufficient shares or a failed digest check
+     */
+    public byte[] combineSharesSlip39(List<String> mnemonics, String passphrase) {
+        long start = metrics.start();
+        try {
+            if (mnemonics == null || mnemonics.isEmpty()) throw new ShareValidationException(Reason.MISSING_SHARES, "No shares provided");
+            Slip39Codec codec = Slip39Codec.english();
+            List<Slip39Share> shares = new ArrayList<>(mnemonics.size());
+            for (String mnemonic : mnemonics) {
+                shares.add(codec.parse(mnemonic));
+            }
+            try {
+                byte[] secret = slip39.recover(shares, slip39Passphrase(passphrase));
+                Slip39Share first = shares.get(0);
+                metrics.recordCombine(start, secret.length, first.groupThreshold(), shares.size());
+                return secret;
+            } finally {
+                shares.forEach(Slip39Share::wipe);
+            }
+        } catch (IllegalArgumentException e) {
+            metrics.recordFailure(Operation.COMBINE, e);
+            throw e;
         }
-        return words;
     }
 
-    public Map<Integer, String> splitSecret(String secret, int k, int n) {
-        Objects.requireNonNull(secret, "secret must not be null");
-        if (k < 2) throw new IllegalArgumentException("k must be >= 2");
-        if (n < k) throw new IllegalArgumentException("n must be >= k");
-        if (n > 255) throw new IllegalArgumentException("n must be <= 255 (index fits in one byte)");
+    /**
+     * Hit/miss counters of the Lagrange weight cache used by {@link #combineShares(List)}.
+     */
+    public LagrangeWeightCache.Stats lagrangeCacheStats() {
+        return lagrangeCache.stats();
+    }
 
-        byte[] secretBytes = secret.getBytes(StandardCharsets.UTF_8);
-        if (secretBytes.length == 0) throw new IllegalArgumentException("secret must not be empty");
+    public Map<Integer, String> splitSecret(String secret, int k, int n) {
+        long start = metrics.start();
+        try {
+            Objects.requireNonNull(secret, "secret must not be null");
+            validateScheme(k, n);
 
-        int secretLen = secretBytes.length;
-        byte[][] sharesData = new byte[n][secretLen];
+            byte[] secretBytes = secret.getBytes(StandardCharsets.UTF_8);
+            if (secretBytes.length == 0) throw new ShareValidationException(Reason.EMPTY_SECRET, "secret must not be empty");
 
-        for (int i = 0; i < secretLen; i++) {
-            byte[] coeffs = new byte[k];
-            coeffs[0] = secretBytes[i];
-            for (int j = 1; j < k; j++) {
-                coeffs[j] = (byte) random.nextInt(256);
-            }
+            int secretLen = secretBytes.length;
+            byte[][] shares = new byte[n][secretLen + 1];
             for (int x = 1; x <= n; x++) {
-                sharesData[x - 1][i] = evaluatePolynomial(coeffs, (byte) x);
+                shares[x - 1][0] = (byte) x;
             }
-        }
+            splitRanges(secretBytes, 0, secretLen, k, shares, 1);
 
-        Map<Integer, String> result = new LinkedHashMap<>();
-        for (int x = 1; x <= n; x++) {
-            byte[] combined = new byte[secretLen + 1];
-            combined[0] = (byte) x;
-            System.arraycopy(sharesData[x - 1], 0, combined, 1, secretLen);
-            result.put(x, HexUtil.bytesToHex(combined));
+            Map<Integer, String> result = new LinkedHashMap<>();
+            for (int x = 1; x <= n; x++) {
+                result.put(x, HexUtil.bytesToHex(shares[x - 1]));
+            }
+            metrics.recordSplit(start, secretLen, k, n);
+            return result;
+        } catch (IllegalArgumentException e) {
+            metrics.recordFailure(Operation.SPLIT, e);
+            throw e;
         }
-        return result;
     }
 
     public String combineShares(List<String> shareStrings) {
-        Objects.requireNonNull(shareStrings, "shareStrings must not be null");
-        if (shareStrings.isEmpty() || shareStrings.size() < 2) throw new IllegalArgumentException("No shares provided");
+        long start = metrics.start();
+        try {
+            return combine(decodeHexShares(shareStrings), start);
+        } catch (IllegalArgumentException e) {
+            metrics.recordFailure(Operation.COMBINE, e);
+            throw e;
+        }
+    }
 
-        List<byte[]> shares = shareStrings.stream()
-                .map(HexUtil::hexToBytes)
-                .toList();
+    /**
+     * Splits {@code secret} like {@link #splitSecret(String, int, int)} and stores the shares in {@code vault} under
+     * a fresh share-set ID.
+     *
+     * @return the share-set ID for {@link #combineShares(ShareVault, long)}
+     */
+    public long splitSecret(String secret, int k, int n, ShareVault vault) throws IOException {
+        long start = metrics.start();
+        try {
+            Objects.requireNonNull(secret, "secret must not be null");
+            Objects.requireNonNull(vault, "vault must not be null");
+            validateScheme(k, n);
+            byte[] secretBytes = secret.getBytes(StandardCharsets.UTF_8);
+            if (secretBytes.length == 0) throw new ShareValidationException(Reason.EMPTY_SECRET, "secret must not be empty");
 
-        // Validierungen
-        int shareLen = shares.getFirst().length;
-        if (shareLen < 2) throw new IllegalArgumentException("Invalid share length");
-        for (byte[] s : shares) {
-            if (s.length != shareLen) throw new IllegalArgumentException("Inconsistent share lengths detected");
+            byte[][] shares = new byte[n][secretBytes.length];
+            splitRanges(secretBytes, 0, secretBytes.length, k, shares, 0);
+            long setId;
+            do {
+                setId = random.nextLong();
+            } while (vault.containsSet(setId));
+            try {
+                for (int x = 1; x <= n; x++) {
+                    vault.put(setId, x, k, shares[x - 1], 0, secretBytes.length);
+                }
+            } finally {
+                for (byte[] share : shares) Arrays.fill(share, (byte) 0);
+                Arrays.fill(secretBytes, (byte) 0);
+            }
+            metrics.recordSplit(start, shares[0].length, k, n);
+            return setId;
+        } catch (IllegalArgumentException e) {
+            metrics.recordFailure(Operation.SPLIT, e);
+            throw e;
         }
+    }
 
-        int k = shares.size();
-        byte[] xCoords = new byte[k];
-        Set<Integer> seenIndexes = new HashSet<>();
-        for (int i = 0; i < k; i++) {
-            int idx = Byte.toUnsignedInt(shares.get(i)[0]);
-            if (idx == 0) throw new IllegalArgumentException("Share index cannot be zero");
-            if (!seenIndexes.add(idx)) throw new IllegalArgumentException("Duplicate share index detected: " + idx);
-            xCoords[i] = shares.get(i)[0];
+    /**
+     * Reconstructs the secret of share set {@code setId} from the first {@code k} shares stored in {@code vault}.
+     */
+    public String combineShares(ShareVault vault, long setId) {
+        long start = metrics.start();
+        try {
+            Objects.requireNonNull(vault, "vault must not be null");
+            List<ShareVault.StoredShare> stored = vault.getSet(setId);
+            if (stored.isEmpty()) throw new ShareValidationException(Reason.MISSING_SHARES, "Unknown share set: " + setId);
+            int k = stored.getFirst().threshold();
+            if (stored.size() < k) throw new ShareValidationException(Reason.MISSING_SHARES, "Insufficient shares: " + k + " required");
+            int shareLen = stored.getFirst().data().length + 1;
+            byte[] data = new byte[k * shareLen];
+            byte[] xCoords = new byte[k];
+            for (int j = 0; j < k; j++) {
+                ShareVault.StoredShare share = stored.get(j);
+                if (share.data().length != shareLen - 1) throw new ShareValidationException(Reason.INVALID_LENGTH, "Inconsistent share lengths detected");
+                xCoords[j] = (byte) share.index();
+                data[j * shareLen] = xCoords[j];
+                System.arraycopy(share.data(), 0, data, j * shareLen + 1, shareLen - 1);
+            }
+            stored.forEach(share -> Arrays.fill(share.data(), (byte) 0));
+            return combine(new HexShares(data, shareLen, xCoords), start);
+        } catch (IllegalArgumentException e) {
+            metrics.recordFailure(Operation.COMBINE, e);
+            throw e;
         }
+    }
+
+    /** Interpolates the decoded shares at zero and wipes them; the secret is decoded as trimmed UTF-8. */
+    private String combine(HexShares decoded, long start) {
+        int k = decoded.xCoords().length;
+        int shareLen = decoded.shareLen();
+        byte[] shares = decoded.data();
 
         int secretLen = shareLen - 1;
         byte[] secretBytes = new byte[secretLen];
 
-        for (int i = 0; i < secretLen; i++) {
-            byte[] yCoords = new byte[k];
+        // secret = sum_i y_i * l_i(0): a one-row matrix product over the share rows.
+        byte[] weights = lagrangeCache.weightsFor(decoded.xCoords());
+        byte[][] secretRow = {secretBytes};
+        forEachRange(secretLen, (from, len) -> mulAddMatrix(secretRow, from, weights, k, shares, 1 + from, shareLen, len));
+        Arrays.fill(shares, (byte) 0);
+        metrics.recordCombine(start, secretLen, k, k);
+
+        return new String(secretBytes, StandardCharsets.UTF_8).trim();
+    }
+
+    /**
+     * Reconstructs a secret of threshold {@code k} from {@code m >= k} hex shares while tolerating up to
+     * {@code (m - k) / 2} corrupted shares, which are reported in the result.
+     * <p>
+     * The first {@code k} shares are interpolated and every further share is checked against that polynomial
+     * with whole-row operations. Only byte positions where some share disagrees are decoded with
+     * {@link BerlekampWelch}, so the common case of intact shares costs one extra weighted row per share.
+     * <p>
+     * With more than {@code (m - k) / 2} corrupt shares the result is undefined: the shares may be rejected, or a
+     * byte position may decode to a different polynomial and yield a wrong secret without any error. Callers that
+     * need certainty must bound corruption or check the secret independently.
+     * <p>
+     * Not constant time, even with
+     * {@value com.basler182.cryptopenscrux.util.Gf256Util#CONSTANT_TIME_PROPERTY}: detection and decoding branch
+     * on share bytes, see {@link BerlekampWelch}.
+     *
+     * @throws IllegalArgumentException if fewer than {@code k} shares are given, or if corruption is detected but
+     *                                  cannot be corrected
+     */
+    public RecoveryResult combineSharesRobust(List<String> shareStrings, int k) {
+        long start = metrics.start();
+        try {
+            if (k < 2) throw new ShareValidationException(Reason.INVALID_SCHEME, "k must be >= 2");
+            HexShares decoded = decodeHexShares(shareStrings);
+            byte[] xCoords = decoded.xCoords();
+            int m = xCoords.length;
+            if (m < k) throw new ShareValidationException(Reason.MISSING_SHARES, "Insufficient shares: " + k + " required");
+            int shareLen = decoded.shareLen();
+            int secretLen = shareLen - 1;
+            byte[] shares = decoded.data();
+
+            byte[] baseX = Arrays.copyOf(xCoords, k);
+            byte[] secretBytes = new byte[secretLen];
+            byte[] weights = lagrangeCache.weightsFor(baseX);
+            mulAddMatrix(new byte[][]{secretBytes}, 0, weights, k, shares, 1, shareLen, secretLen);
+
+            // Predict every further share from the first k; a non-zero byte in (prediction ^ actual) marks a
+            // position where at least one share is corrupt.
+            boolean[] suspect = new boolean[secretLen];
+            boolean anySuspect = false;
+            byte[] residual = new byte[secretLen];
+            for (int t = k; t < m; t++) {
+                System.arraycopy(shares, t * shareLen + 1, residual, 0, secretLen);
+                byte[] atX = lagrangeWeightsAt(baseX, xCoords[t]);
+                for (int j = 0; j < k; j++) {
+                    mulAdd(residual, 0, shares, j * shareLen + 1, secretLen, atX[j]);
+                }
+                for (int p = 0; p < secretLen; p++) {
+                    if (residual[p] != 0) {
+                        suspect[p] = true;
+                        anySuspect = true;
+                    }
+                }
+            }
+            Arrays.fill(residual, (byte) 0);
+
+            Set<Integer> corrupt = new TreeSet<>();
+            if (anySuspect) {
+                byte[] ys = new byte[m];
+                for (int p = 0; p < secretLen; p++) {
+                    if (!suspect[p]) continue;
+                    for (int i = 0; i < m; i++) {
+                        ys[i] = shares[i * shareLen + 1 + p];
+                    }
+                    byte[] coeffs = BerlekampWelch.decode(xCoords, ys, k);
+                    if (coeffs == null) {
+                        Arrays.fill(shares, (byte) 0);
+                        Arrays.fill(secretBytes, (byte) 0);
+                        throw new ShareValidationException(Reason.UNCORRECTABLE, "Too many corrupt shares to recover");
+                    }
+                    secretBytes[p] = coeffs[0];
+                    for (int i = 0; i < m; i++) {
+                        if (evaluate(coeffs, xCoords[i]) != ys[i]) corrupt.add(Byte.toUnsignedInt(xCoords[i]));
+                    }
+                    Arrays.fill(coeffs, (byte) 0);
+                }
+                Arrays.fill(ys, (byte) 0);
+                LOG.warn("Corrected corrupt shares {}.", corrupt);
+            }
+            Arrays.fill(shares, (byte) 0);
+            metrics.recordCombine(start, secretLen, k, m);
+
+            return new RecoveryResult(new String(secretBytes, StandardCharsets.UTF_8).trim(), Collections.unmodifiableSet(corrupt));
+        } catch (IllegalArgumentException e) {
+            metrics.recordFailure(Operation.COMBINE, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Splits a binary secret into {@code n} shares in the {@link BinaryShareCodec} format, writing share {@code x}
+     * at the position of {@code destinations[x - 1]}. Each buffer needs
+     * {@code BinaryShareCodec.encodedLength(secret.length)} bytes remaining.
+     *
+     * @return the random share-set ID recorded in every share
+     */
+    public long splitSecret(byte[] secret, int k, int n, ByteBuffer[] destinations) {
+        long start = metrics.start();
+        try {
+            Objects.requireNonNull(secret, "secret must not be null");
+            Objects.requireNonNull(destinations, "destinations must not be null");
+            validateScheme(k, n);
+            if (secret.length == 0) throw new ShareValidationException(Reason.EMPTY_SECRET, "secret must not be empty");
+            if (destinations.length != n) throw new ShareValidationException(Reason.INVALID_ARGUMENT, "Expected " + n + " destination buffers");
+            int encodedLength = BinaryShareCodec.encodedLength(secret.length);
+            for (ByteBuffer dst : destinations) {
+                if (dst.remaining() < encodedLength) throw new ShareValidationException(Reason.INVALID_ARGUMENT, "Destination buffer too small");
+            }
+
+            byte[][] shares = new byte[n][secret.length];
+            splitRanges(secret, 0, secret.length, k, shares, 0);
+            long setId = random.nextLong();
+            for (int x = 1; x <= n; x++) {
+                BinaryShareCodec.encode(k, setId, x, shares[x - 1], 0, secret.length, destinations[x - 1]);
+            }
+            metrics.recordSplit(start, secret.length, k, n);
+            return setId;
+        } catch (IllegalArgumentException e) {
+            metrics.recordFailure(Operation.SPLIT, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Splits {@code secret[off, off + len)} into {@code shareOutputs.length} shares, writing share {@code x} to
+     * {@code shareOutputs[x - 1][outOff, outOff + len)} (share data only, without the index byte). The coefficient
+     * rows live in a per-thread scratch array that is reused and wiped, so a call allocates nothing.
+     */
+    public void splitSecret(byte[] secret, int off, int len, int k, byte[][] shareOutputs, int outOff) {
+        long start = metrics.start();
+        try {
+            Objects.requireNonNull(secret, "secret must not be null");
+            Objects.requireNonNull(shareOutputs, "shareOutputs must not be null");
+            int n = shareOutputs.length;
+            validateScheme(k, n);
+            Objects.checkFromIndexSize(off, len, secret.length);
+            if (len == 0) throw new ShareValidationException(Reason.EMPTY_SECRET, "secret must not be empty");
+            for (byte[] out : shareOutputs) {
+                if (outOff < 0 || out.length - outOff < len) {
+                    throw new ShareValidationException(Reason.INVALID_ARGUMENT, "Share output too small");
+                }
+            }
+            splitRanges(secret, off, len, k, shareOutputs, outOff);
+            metrics.recordSplit(start, len, k, n);
+        } catch (IllegalArgumentException e) {
+            metrics.recordFailure(Operation.SPLIT, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Reconstructs a secret from shares in the {@link BinaryShareCodec} format, reading each buffer from its
+     * position. Every share is checksum-verified and checked for a matching set ID, threshold and length before
+     * any interpolation; the first {@code threshold} shares are then used.
+     */
+    public byte[] combineShares(ByteBuffer... shareBuffers) {
+        long start = metrics.start();
+        try {
+            Objects.requireNonNull(shareBuffers, "shareBuffers must not be null");
+            if (shareBuffers.length < 2) throw new ShareValidationException(Reason.MISSING_SHARES, "No shares provided");
+
+            BinaryShare[] shares = new BinaryShare[shareBuffers.length];
+            for (int i = 0; i < shares.length; i++) {
+                shares[i] = BinaryShareCodec.decode(shareBuffers[i].duplicate());
+            }
+            BinaryShare first = shares[0];
+            for (BinaryShare share : shares) {
+                if (share.setId() != first.setId()) throw new ShareValidationException(Reason.MISMATCHED_SET, "Shares belong to different share sets");
+                if (share.threshold() != first.threshold()) throw new ShareValidationException(Reason.MISMATCHED_SET, "Inconsistent share thresholds detected");
+                if (share.dataLength() != first.dataLength()) throw new ShareValidationException(Reason.INVALID_LENGTH, "Inconsistent share lengths detected");
+            }
+            int k = first.threshold();
+            if (shares.length < k) throw new ShareValidationException(Reason.MISSING_SHARES, "Insufficient shares: " + k + " required");
+            if (first.dataLength() == 0) throw new ShareValidationException(Reason.INVALID_LENGTH, "Invalid share length");
+
+            byte[] xCoords = new byte[k];
+            for (int i = 0; i < k; i++) {
+                xCoords[i] = (byte) shares[i].index();
+            }
+            validateIndexes(xCoords);
+
+            int secretLen = first.dataLength();
+            byte[] secret = new byte[secretLen];
+            byte[] weights = lagrangeCache.weightsFor(xCoords);
+            forEachRange(secretLen, (from, len) -> {
+                byte[] scratch = null;
+                for (int j = 0; j < k; j++) {
+                    ByteBuffer data = shares[j].data();
+                    if (data.hasArray()) {
+                        mulAdd(secret, from, data.array(), data.arrayOffset() + data.position() + from, len, weights[j]);
+                    } else {
+                        if (scratch == null) scratch = new byte[len];
+                        data.get(data.position() + from, scratch, 0, len);
+                        mulAdd(secret, from, scratch, 0, len, weights[j]);
+                    }
+                }
+                if (scratch != null) Arrays.fill(scratch, (byte) 0);
+            });
+            metrics.recordCombine(start, secretLen, k, shares.length);
+            return secret;
+        } catch (IllegalArgumentException e) {
+            metrics.recordFailure(Operation.COMBINE, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Splits an off-heap secret into {@code n} pooled share buffers. Share {@code x} is returned at index
+     * {@code x - 1} and holds its one-byte index followed by the share data, the binary form of the hex shares
+     * returned by {@link #splitSecret(String, int, int)}.
+     * <p>
+     * The secret is processed in chunks of at most {@value #STREAM_CHUNK_SIZE} bytes through scratch arrays that
+     * are wiped afterwards, so no full-size heap copy of the secret or the shares is made. The caller owns and
+     * must close the returned buffers.
+     */
+    public SecretBuffer[] splitSecret(SecretBuffer secret, int k, int n) {
+        long start = metrics.start();
+        try {
+            Objects.requireNonNull(secret, "secret must not be null");
+            validateScheme(k, n);
+            int secretLen = secret.length();
+            if (secretLen == 0) throw new ShareValidationException(Reason.EMPTY_SECRET, "secret must not be empty");
+
+            SecretBuffer[] result = new SecretBuffer[n];
+            int chunkLen = Math.min(STREAM_CHUNK_SIZE, secretLen);
+            byte[] chunk = new byte[chunkLen];
+            byte[] coeffs = newCoefficientRows(k, chunkLen);
+            byte[][] shares = new byte[n][chunkLen];
+            try {
+                for (int x = 1; x <= n; x++) {
+                    result[x - 1] = bufferPool.acquire(secretLen + 1).put(0, (byte) x);
+                }
+                for (int off = 0; off < secretLen; off += chunkLen) {
+                    int len = Math.min(chunkLen, secretLen - off);
+                    secret.get(off, chunk, 0, len);
+                    splitChunk(chunk, 0, len, k, coeffs, shares, 0);
+                    for (int x = 1; x <= n; x++) {
+                        result[x - 1].put(off + 1, shares[x - 1], 0, len);
+                    }
+                }
+            } catch (RuntimeException e) {
+                closeAll(result);
+                throw e;
+            } finally {
+                wipe(chunk, coeffs, shares);
+            }
+            metrics.recordSplit(start, secretLen, k, n);
+            return result;
+        } catch (IllegalArgumentException e) {
+            metrics.recordFailure(Operation.SPLIT, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Reconstructs a secret from share buffers produced by {@link #splitSecret(SecretBuffer, int, int)} into a new
+     * pooled buffer, chunk by chunk like {@link #splitSecret(SecretBuffer, int, int)}. The caller owns and must
+     * close the returned buffer; the share buffers are left open.
+     */
+    public SecretBuffer combineShares(SecretBuffer... shareBuffers) {
+        long start = metrics.start();
+        try {
+            Objects.requireNonNull(shareBuffers, "shareBuffers must not be null");
+            if (shareBuffers.length < 2) throw new ShareValidationException(Reason.MISSING_SHARES, "No shares provided");
+            int shareLen = shareBuffers[0].length();
+            if (shareLen < 2) throw new ShareValidationException(Reason.INVALID_LENGTH, "Invalid share length");
+            int k = shareBuffers.length;
+            byte[] xCoords = new byte[k];
             for (int j = 0; j < k; j++) {
-                yCoords[j] = shares.get(j)[i + 1];
+                if (shareBuffers[j].length() != shareLen) {
+                    throw new ShareValidationException(Reason.INVALID_LENGTH, "Inconsistent share lengths detected");
+                }
+                xCoords[j] = shareBuffers[j].get(0);
+            }
+            validateIndexes(xCoords);
+            byte[] weights = lagrangeCache.weightsFor(xCoords);
+
+            int secretLen = shareLen - 1;
+            int chunkLen = Math.min(STREAM_CHUNK_SIZE, secretLen);
+            byte[] chunk = new byte[chunkLen];
+            byte[] secret = new byte[chunkLen];
+            SecretBuffer result = bufferPool.acquire(secretLen);
+            try {
+                for (int off = 0; off < secretLen; off += chunkLen) {
+                    int len = Math.min(chunkLen, secretLen - off);
+                    Arrays.fill(secret, (byte) 0);
+                    for (int j = 0; j < k; j++) {
+                        shareBuffers[j].get(off + 1, chunk, 0, len);
+                        mulAdd(secret, 0, chunk, 0, len, weights[j]);
+                    }
+                    result.put(off, secret, 0, len);
+                }
+            } catch (RuntimeException e) {
+                result.close();
+                throw e;
+            } finally {
+                Arrays.fill(chunk, (byte) 0);
+                Arrays.fill(secret, (byte) 0);
             }
-            secretBytes[i] = interpolate(xCoords, yCoords);
+            metrics.recordCombine(start, secretLen, k, k);
+            return result;
+        } catch (IllegalArgumentException e) {
+            metrics.recordFailure(Operation.COMBINE, e);
+            throw e;
         }
+    }
 
-        return new String(secretBytes, StandardCharsets.UTF_8).trim();
+    /**
+     * Splits a binary secret read from {@code secret} into {@code n} share streams.
+     * <p>
+     * Each share stream starts with its one-byte index followed by the share data, i.e. the binary form of the
+     * hex shares returned by {@link #splitSecret(String, int, int)}. The secret is processed in chunks of
+     * {@value #STREAM_CHUNK_SIZE} bytes, so memory use is bounded by {@code (k + n)} chunks. Streams are neither
+     * flushed nor closed.
+     */
+    public void splitStream(InputStream secret, int k, int n, List<? extends OutputStream> shareOutputs) throws IOException {
+        long start = metrics.start();
+        try {
+            Objects.requireNonNull(secret, "secret must not be null");
+            validateScheme(k, n);
+            validateOutputs(shareOutputs, n);
+
+            byte[] chunk = new byte[STREAM_CHUNK_SIZE];
+            byte[] coeffs = newCoefficientRows(k, STREAM_CHUNK_SIZE);
+            byte[][] shares = new byte[n][STREAM_CHUNK_SIZE];
+            long total = 0;
+            try {
+                int read;
+                while ((read = secret.readNBytes(chunk, 0, STREAM_CHUNK_SIZE)) > 0) {
+                    if (total == 0) writeShareIndexes(shareOutputs);
+                    splitChunk(chunk, 0, read, k, coeffs, shares, 0);
+                    for (int x = 0; x < n; x++) {
+                        shareOutputs.get(x).write(shares[x], 0, read);
+                    }
+                    total += read;
+                }
+            } finally {
+                wipe(chunk, coeffs, shares);
+            }
+            if (total == 0) throw new ShareValidationException(Reason.EMPTY_SECRET, "secret must not be empty");
+            metrics.recordSplit(start, total, k, n);
+            LOG.debug("Split {} bytes into {} share streams.", total, n);
+        } catch (IllegalArgumentException e) {
+            metrics.recordFailure(Operation.SPLIT, e);
+            throw e;
+        }
     }
 
-    private byte evaluatePolynomial(byte[] coeffs, byte x) {
-        byte result = 0;
-        for (int i = coeffs.length - 1; i >= 0; i--) {
-            result = add(mul(result, x), coeffs[i]);
+    /**
+     * Splits the remaining content of {@code secret} (from its current position to its size) like
+     * {@link #splitStream(InputStream, int, int, List)}, reading the file through memory-mapped windows of at most
+     * {@value #MAP_WINDOW_SIZE} bytes instead of copying it through the channel.
+     */
+    public void splitFile(FileChannel secret, int k, int n, List<? extends OutputStream> shareOutputs) throws IOException {
+        long start = metrics.start();
+        try {
+            Objects.requireNonNull(secret, "secret must not be null");
+            validateScheme(k, n);
+            validateOutputs(shareOutputs, n);
+
+            long startPosition = secret.position();
+            long position = startPosition;
+            long size = secret.size();
+            if (position >= size) throw new ShareValidationException(Reason.EMPTY_SECRET, "secret must not be empty");
+            writeShareIndexes(shareOutputs);
+
+            byte[] chunk = new byte[STREAM_CHUNK_SIZE];
+            byte[] coeffs = newCoefficientRows(k, STREAM_CHUNK_SIZE);
+            byte[][] shares = new byte[n][STREAM_CHUNK_SIZE];
+            try {
+                while (position < size) {
+                    long windowSize = Math.min(MAP_WINDOW_SIZE, size - position);
+                    MappedByteBuffer window = secret.map(FileChannel.MapMode.READ_ONLY, position, windowSize);
+                    while (window.hasRemaining()) {
+                        int len = Math.min(STREAM_CHUNK_SIZE, window.remaining());
+                        window.get(chunk, 0, len);
+                        splitChunk(chunk, 0, len, k, coeffs, shares, 0);
+                        for (int x = 0; x < n; x++) {
+                            shareOutputs.get(x).write(shares[x], 0, len);
+                        }
+                    }
+                    position += windowSize;
+                }
+            } finally {
+                wipe(chunk, coeffs, shares);
+            }
+            secret.position(size);
+            metrics.recordSplit(start, size - startPosition, k, n);
+            LOG.debug("Split {} mapped bytes into {} share streams.", size - startPosition, n);
+        } catch (IllegalArgumentException e) {
+            metrics.recordFailure(Operation.SPLIT, e);
+            throw e;
         }
-        return result;
     }
 
-    private byte interpolate(byte[] xCoords, byte[] yCoords) {
-        byte result = 0;
-        for (int i = 0; i < xCoords.length; i++) {
-            byte term = yCoords[i];
-            for (int j = 0; j < xCoords.length; j++) {
-                if (i == j) continue;
-                byte numerator = sub((byte) 0, xCoords[j]);
-                byte denominator = sub(xCoords[i], xCoords[j]);
-                term = mul(term, div(numerator, denominator));
+    /**
+     * Reconstructs a secret from share streams produced by {@link #splitStream(InputStream, int, int, List)} and
+     * writes it to {@code secretOutput}. The shares are read chunk by chunk in lockstep; streams are not closed.
+     */
+    public void combineStreams(List<? extends InputStream> shareInputs, OutputStream secretOutput) throws IOException {
+        long start = metrics.start();
+        try {
+            Objects.requireNonNull(shareInputs, "shareInputs must not be null");
+            Objects.requireNonNull(secretOutput, "secretOutput must not be null");
+            if (shareInputs.size() < 2) throw new ShareValidationException(Reason.MISSING_SHARES, "No shares provided");
+
+            int k = shareInputs.size();
+            byte[] xCoords = new byte[k];
+            for (int i = 0; i < k; i++) {
+                int idx = shareInputs.get(i).read();
+                if (idx < 0) throw new ShareValidationException(Reason.INVALID_LENGTH, "Invalid share length");
+                xCoords[i] = (byte) idx;
             }
-            result = add(result, term);
+            validateIndexes(xCoords);
+            byte[] weights = lagrangeCache.weightsFor(xCoords);
+
+            byte[] chunk = new byte[STREAM_CHUNK_SIZE];
+            byte[] secret = new byte[STREAM_CHUNK_SIZE];
+            long total = 0;
+            try {
+                while (true) {
+                    Arrays.fill(secret, (byte) 0);
+                    int len = -1;
+                    for (int j = 0; j < k; j++) {
+                        int read = shareInputs.get(j).readNBytes(chunk, 0, STREAM_CHUNK_SIZE);
+                        if (len >= 0 && read != len) throw new ShareValidationException(Reason.INVALID_LENGTH, "Inconsistent share lengths detected");
+                        len = read;
+                        mulAdd(secret, 0, chunk, 0, read, weights[j]);
+                    }
+                    if (len == 0) break;
+                    secretOutput.write(secret, 0, len);
+                    total += len;
+                }
+            } finally {
+                Arrays.fill(chunk, (byte) 0);
+                Arrays.fill(secret, (byte) 0);
+            }
+            if (total == 0) throw new ShareValidationException(Reason.INVALID_LENGTH, "Invalid share length");
+            metrics.recordCombine(start, total, k, k);
+            LOG.debug("Combined {} share streams into {} bytes.", k, total);
+        } catch (IllegalArgumentException e) {
+            metrics.recordFailure(Operation.COMBINE, e);
+            throw e;
+        }
+    }
+
+    /** Hex shares decoded back to back: share j occupies {@code data[j * shareLen, (j + 1) * shareLen)}. */
+    record HexShares(byte[] data, int shareLen, byte[] xCoords) {
+    }
+
+    static HexShares decodeHexShares(List<String> shareStrings) {
+        Objects.requireNonNull(shareStrings, "shareStrings must not be null");
+        if (shareStrings.isEmpty() || shareStrings.size() < 2) throw new ShareValidationException(Reason.MISSING_SHARES, "No shares provided");
+
+        // Validierungen
+        int hexLen = shareStrings.getFirst().length();
+        if (hexLen % 2 != 0) throw new ShareValidationException(Reason.INVALID_LENGTH, "Hex string must have even length");
+        int shareLen = hexLen / 2;
+        if (shareLen < 2) throw new ShareValidationException(Reason.INVALID_LENGTH, "Invalid share length");
+        for (String s : shareStrings) {
+            if (s.length() != hexLen) throw new ShareValidationException(Reason.INVALID_LENGTH, "Inconsistent share lengths detected");
+        }
+
+        int count = shareStrings.size();
+        byte[] shares = new byte[count * shareLen];
+        byte[] xCoords = new byte[count];
+        for (int j = 0; j < count; j++) {
+            HexUtil.decode(shareStrings.get(j), 0, hexLen, shares, j * shareLen);
+            xCoords[j] = shares[j * shareLen];
+        }
+        validateIndexes(xCoords);
+        return new HexShares(shares, shareLen, xCoords);
+    }
+
+    /**
+     * Computes the shares of {@code secret[off, off + len)} into {@code shares[x - 1][outOff, outOff + len)}
+     * for {@code x = 1..shares.length}. {@code coeffs} is scratch for the {@code k - 1} random coefficient rows,
+     * at least {@code (k - 1) * len} bytes.
+     */
+    private void splitChunk(byte[] secret, int off, int len, int k, byte[] coeffs, byte[][] shares, int outOff) {
+        // Coefficient-major layout: row j holds the (j+1)-th coefficient of every byte's polynomial, so the
+        // shares are the secret row plus the Vandermonde matrix times the coefficient rows.
+        random.nextBytes(coeffs, 0, (k - 1) * len);
+        VandermondeMatrix.of(k, shares.length).encode(secret, off, coeffs, len, shares, outOff);
+    }
+
+    /**
+     * The calling thread's coefficient scratch of at least {@code size} bytes. Callers wipe the used part.
+     */
+    private static byte[] coefficientScratch(int size) {
+        byte[] scratch = COEFFICIENT_SCRATCH.get();
+        if (scratch.length < size) {
+            scratch = new byte[Math.max(size, scratch.length * 2)];
+            COEFFICIENT_SCRATCH.set(scratch);
+        }
+        return scratch;
+    }
+
+    private static void wipe(byte[] chunk, byte[] coeffs, byte[][] shares) {
+        Arrays.fill(chunk, (byte) 0);
+        Arrays.fill(coeffs, (byte) 0);
+        for (byte[] row : shares) Arrays.fill(row, (byte) 0);
+    }
+
+    private static void closeAll(SecretBuffer[] buffers) {
+        for (SecretBuffer buffer : buffers) {
+            if (buffer != null) buffer.close();
+        }
+    }
+
+    /**
+     * Splits {@code secret[off, off + length)} into {@code shares[x - 1][outOff, outOff + length)}, forking over
+     * byte ranges for large secrets. Every range draws its own coefficient rows from the calling worker's
+     * randomness stream.
+     */
+    private void splitRanges(byte[] secret, int off, int length, int k, byte[][] shares, int outOff) {
+        forEachRange(length, (from, len) -> {
+            byte[] coeffs = coefficientScratch((k - 1) * len);
+            try {
+                splitChunk(secret, off + from, len, k, coeffs, shares, outOff + from);
+            } finally {
+                Arrays.fill(coeffs, 0, (k - 1) * len, (byte) 0);
+            }
+        });
+    }
+
+    /**
+     * Runs {@code body} over {@code [0, length)} in ranges of at most {@code chunkSize} bytes: one after the other
+     * below the parallel threshold, else forked. Bounding every range keeps per-range scratch such as the
+     * coefficient rows at {@code (k - 1) * chunkSize} bytes on either path.
+     */
+    private void forEachRange(int length, RangeBody body) {
+        if (!parallel.isParallel(length)) {
+            int chunkSize = parallel.chunkSize();
+            for (int from = 0; from < length; from += chunkSize) {
+                body.run(from, Math.min(chunkSize, length - from));
+            }
+            return;
+        }
+        parallel.pool().invoke(new RangeTask(body, 0, length, parallel.chunkSize()));
+    }
+
+    @FunctionalInterface
+    private interface RangeBody {
+        void run(int from, int len);
+    }
+
+    private static final class RangeTask extends RecursiveAction {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        /** Tasks are never serialized; the body is a lambda over the caller's buffers. */
+        private final transient RangeBody body;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+
+        RangeTask(RangeBody body, int from, int to, int chunkSize) {
+            this.body = body;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                body.run(from, to - from);
+                return;
+            }
+            // split on a chunk boundary so leaves stay aligned
+            int mid = from + ((to - from) / 2 + chunkSize - 1) / chunkSize * chunkSize;
+            if (mid >= to) mid = from + chunkSize;
+            invokeAll(new RangeTask(body, from, mid, chunkSize), new RangeTask(body, mid, to, chunkSize));
+        }
+    }
+
+    private static byte[] newCoefficientRows(int k, int len) {
+        return new byte[(k - 1) * len];
+    }
+
+    private static void writeShareIndexes(List<? extends OutputStream> shareOutputs) throws IOException {
+        for (int x = 1; x <= shareOutputs.size(); x++) {
+            shareOutputs.get(x - 1).write(x);
+        }
+    }
+
+    static void validateScheme(int k, int n) {
+        if (k < 2) throw new ShareValidationException(Reason.INVALID_SCHEME, "k must be >= 2");
+        if (n < k) throw new ShareValidationException(Reason.INVALID_SCHEME, "n must be >= k");
+        if (n > 255) throw new ShareValidationException(Reason.INVALID_SCHEME, "n must be <= 255 (index fits in one byte)");
+    }
+
+    private static void validateOutputs(List<? extends OutputStream> shareOutputs, int n) {
+        Objects.requireNonNull(shareOutputs, "shareOutputs must not be null");
+        if (shareOutputs.size() != n) throw new ShareValidationException(Reason.INVALID_ARGUMENT, "Expected " + n + " share outputs");
+    }
+
+    private static void validateIndexes(byte[] xCoords) {
+        Set<Integer> seenIndexes = new HashSet<>();
+        for (byte x : xCoords) {
+            int idx = Byte.toUnsignedInt(x);
+            if (idx == 0) throw new ShareValidationException(Reason.INVALID_INDEX, "Share index cannot be zero");
+            if (!seenIndexes.add(idx)) throw new ShareValidationException(Reason.INVALID_INDEX, "Duplicate share index detected: " + idx);
+        }
+    }
+
+    /** SLIP-39 passphrases are printable ASCII; a {@code null} passphrase is the empty one. */
+    private static byte[] slip39Passphrase(String passphrase) {
+        if (passphrase == null) return new byte[0];
+        for (int i = 0; i < passphrase.length(); i++) {
+            char c = passphrase.charAt(i);
+            if (c < 32 || c > 126) throw new ShareValidationException(Reason.INVALID_ARGUMENT, "Passphrase must be printable ASCII");
         }
-        return result;
+        return passphrase.getBytes(StandardCharsets.US_ASCII);
     }
 }
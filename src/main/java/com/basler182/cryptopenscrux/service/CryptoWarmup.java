@@ -0,0 +1,43 @@
+package com.basler182.cryptopenscrux.service;
+
+import com.basler182.cryptopenscrux.bip39.Bip39Wordlist;
+import com.basler182.cryptopenscrux.random.RandomnessProvider;
+import com.basler182.cryptopenscrux.util.Gf256Util;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Initializes the crypto stack (GF(256) tables and kernel, English wordlist, randomness) on a virtual thread once
+ * the application is ready, so that with lazy initialization neither startup nor the first user request pays for it.
+ */
+@Component
+@ConditionalOnProperty(name = "cryptopenscrux.warmup.enabled", havingValue = "true")
+public class CryptoWarmup {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CryptoWarmup.class);
+
+    private final RandomnessProvider random;
+
+    public CryptoWarmup(RandomnessProvider random) {
+        this.random = random;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        Thread.ofVirtual().name("crypto-warmup").start(() -> {
+            long start = System.nanoTime();
+            try {
+                String kernel = Gf256Util.kernelName();
+                Bip39Wordlist.english();
+                random.nextLong();
+                LOG.debug("Crypto warm-up finished in {} ms (GF(256) kernel {}).", (System.nanoTime() - start) / 1_000_000, kernel);
+            } catch (RuntimeException e) {
+                LOG.warn("Crypto warm-up failed: {}.", e.getMessage());
+            }
+        });
+    }
+}
@@ -0,0 +1,87 @@
+package com.basler182.cryptopenscrux.service;
+
+import com.basler182.cryptopenscrux.util.Gf256Util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded LRU cache of Lagrange weights at zero, keyed by the set of share indexes.
+ * <p>
+ * The key ignores the order in which shares are supplied: entries are stored as a 256-entry table indexed
+ * by the share index, so any permutation of the same index set hits the same entry.
+ */
+public final class LagrangeWeightCache {
+
+    /**
+     * Snapshot of the cache counters.
+     */
+    public record Stats(long hits, long misses, int size) {
+    }
+
+    /** Share-index set as a 256-bit bitmap. */
+    private record IndexSet(long w0, long w1, long w2, long w3) {
+
+        static IndexSet of(byte[] xCoords) {
+            long[] words = new long[4];
+            for (byte x : xCoords) {
+                int idx = x & 0xFF;
+                words[idx >>> 6] |= 1L << (idx & 63);
+            }
+            return new IndexSet(words[0], words[1], words[2], words[3]);
+        }
+    }
+
+    private final Map<IndexSet, byte[]> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public LagrangeWeightCache(int maxEntries) {
+        if (maxEntries < 1) throw new IllegalArgumentException("maxEntries must be >= 1");
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<IndexSet, byte[]> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Returns the weights for the given distinct, non-zero x coordinates, aligned with their order.
+     */
+    public byte[] weightsFor(byte[] xCoords) {
+        IndexSet key = IndexSet.of(xCoords);
+        byte[] byIndex;
+        synchronized (entries) {
+            byIndex = entries.get(key);
+        }
+        if (byIndex != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+            byte[] weights = Gf256Util.lagrangeWeightsAtZero(xCoords);
+            byIndex = new byte[256];
+            for (int i = 0; i < xCoords.length; i++) {
+                byIndex[xCoords[i] & 0xFF] = weights[i];
+            }
+            synchronized (entries) {
+                entries.put(key, byIndex);
+            }
+        }
+
+        byte[] result = new byte[xCoords.length];
+        for (int i = 0; i < xCoords.length; i++) {
+            result[i] = byIndex[xCoords[i] & 0xFF];
+        }
+        return result;
+    }
+
+    public Stats stats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new Stats(hits.sum(), misses.sum(), size);
+    }
+}
@@ -0,0 +1,24 @@
+package com.basler182.cryptopenscrux.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ParallelConfig {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ParallelConfig.class);
+
+    @Bean(destroyMethod = "close")
+    public ParallelSettings parallelSettings(
+            @Value("${cryptopenscrux.parallel.parallelism:0}") int parallelism,
+            @Value("${cryptopenscrux.parallel.threshold:" + ParallelSettings.DEFAULT_THRESHOLD + "}") int threshold,
+            @Value("${cryptopenscrux.parallel.chunk-size:" + ParallelSettings.DEFAULT_CHUNK_SIZE + "}") int chunkSize) {
+        ParallelSettings settings = ParallelSettings.of(parallelism, threshold, chunkSize);
+        LOG.debug("Parallel split/combine: {} workers from {} bytes in {} byte chunks.",
+                settings.pool().getParallelism(), threshold, chunkSize);
+        return settings;
+    }
+}
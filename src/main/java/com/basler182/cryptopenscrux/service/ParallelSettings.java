@@ -0,0 +1,53 @@
+package com.basler182.cryptopenscrux.service;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Fork/join settings of {@link CryptoService}: secrets of at least {@code threshold} bytes are split and combined
+ * on {@code pool} in byte ranges of {@code chunkSize}; smaller secrets stay on the caller's thread, in ranges of the
+ * same size.
+ */
+public record ParallelSettings(ForkJoinPool pool, int threshold, int chunkSize) implements AutoCloseable {
+
+    public static final int DEFAULT_THRESHOLD = 1024 * 1024;
+    public static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+    /** Keeps the per-range coefficient rows, {@code (k - 1) * chunkSize} bytes for k up to 255, within an array. */
+    public static final int MAX_CHUNK_SIZE = 8 * 1024 * 1024;
+
+    public ParallelSettings {
+        Objects.requireNonNull(pool, "pool must not be null");
+        if (threshold < 1) throw new IllegalArgumentException("threshold must be >= 1");
+        if (chunkSize < 1 || chunkSize > MAX_CHUNK_SIZE) {
+            throw new IllegalArgumentException("chunkSize must be between 1 and " + MAX_CHUNK_SIZE);
+        }
+    }
+
+    /** The common pool with the default threshold and chunk size. */
+    public static ParallelSettings defaults() {
+        return new ParallelSettings(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD, DEFAULT_CHUNK_SIZE);
+    }
+
+    /** Never forks. */
+    public static ParallelSettings sequential() {
+        return new ParallelSettings(ForkJoinPool.commonPool(), Integer.MAX_VALUE, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * A dedicated pool of {@code parallelism} workers, or the common pool for {@code parallelism <= 0}.
+     */
+    public static ParallelSettings of(int parallelism, int threshold, int chunkSize) {
+        ForkJoinPool pool = parallelism > 0 ? new ForkJoinPool(parallelism) : ForkJoinPool.commonPool();
+        return new ParallelSettings(pool, threshold, chunkSize);
+    }
+
+    boolean isParallel(int length) {
+        return length >= threshold && length > chunkSize && pool.getParallelism() > 1;
+    }
+
+    /** Shuts down a dedicated pool; the common pool is left alone. */
+    @Override
+    public void close() {
+        if (pool != ForkJoinPool.commonPool()) pool.shutdown();
+    }
+}
@@ -0,0 +1,14 @@
+package com.basler182.cryptopenscrux.service;
+
+import java.util.Set;
+
+/**
+ * Outcome of {@link CryptoService#combineSharesRobust(java.util.List, int)}: the recovered secret and the indexes
+ * of shares that disagreed with it and were corrected.
+ */
+public record RecoveryResult(String secret, Set<Integer> corruptShareIndexes) {
+
+    public boolean hadCorruption() {
+        return !corruptShareIndexes.isEmpty();
+    }
+}
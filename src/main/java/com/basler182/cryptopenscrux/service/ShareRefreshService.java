@@ -0,0 +1,168 @@
+package com.basler182.cryptopenscrux.service;
+
+import com.basler182.cryptopenscrux.random.RandomnessProvider;
+import com.basler182.cryptopenscrux.service.ShareValidationException.Reason;
+import com.basler182.cryptopenscrux.util.HexUtil;
+import com.basler182.cryptopenscrux.util.VandermondeMatrix;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.basler182.cryptopenscrux.util.Gf256Util.mul;
+import static com.basler182.cryptopenscrux.util.Gf256Util.mulAdd;
+
+/**
+ * Rotates stored hex share sets (as produced by {@link CryptoService#splitSecret(String, int, int)}) without ever
+ * rebuilding the secret.
+ * <p>
+ * <b>Refresh</b> adds a random polynomial {@code d} with {@code d(0) = 0} and degree {@code k - 1} to every share:
+ * share {@code x} becomes {@code y + d(x)}, so the secret and threshold stay the same while old and new shares
+ * no longer combine with each other. All shares of a set must be refreshed together.
+ * <p>
+ * <b>Re-sharing</b> moves a set from threshold {@code k} to a new scheme {@code (k', n')} by sub-share
+ * redistribution: each of {@code k} old shares {@code y_i} is split into {@code n'} sub-shares with its own
+ * threshold-{@code k'} polynomial {@code f_i}, and new share {@code j} is {@code sum_i l_i(0) * f_i(j)}. The
+ * resulting polynomial has constant term {@code sum_i l_i(0) * y_i}, the secret, but only sub-shares and their
+ * weighted sums are ever held in memory.
+ * <p>
+ * The batch variants process many sets on the {@link ParallelSettings} pool, one set per task.
+ */
+@Service
+public class ShareRefreshService {
+
+    private static final int LAGRANGE_CACHE_SIZE = 256;
+
+    private final RandomnessProvider random;
+
+    private final ParallelSettings parallel;
+
+    private final LagrangeWeightCache lagrangeCache = new LagrangeWeightCache(LAGRANGE_CACHE_SIZE);
+
+    public ShareRefreshService(RandomnessProvider random, ParallelSettings parallel) {
+        this.random = Objects.requireNonNull(random, "random must not be null");
+        this.parallel = Objects.requireNonNull(parallel, "parallel must not be null");
+    }
+
+    /**
+     * Refreshes all shares of one set of threshold {@code k}, returning the new shares in input order with the
+     * same indexes.
+     * <p>
+     * {@code k} must equal the threshold the set was split with: a smaller one adds a polynomial the old
+     * threshold cannot absorb and makes it unrecoverable, a larger one raises the threshold of the set.
+     *
+     * @throws ShareValidationException if {@code k} is outside 2..255 or more than the number of shares
+     */
+    public List<String> refresh(List<String> shareStrings, int k) {
+        validateThreshold(k);
+        CryptoService.HexShares decoded = CryptoService.decodeHexShares(shareStrings);
+        if (decoded.xCoords().length < k) throw new ShareValidationException(Reason.MISSING_SHARES, "Insufficient shares: " + k + " required");
+        byte[] shares = decoded.data();
+        int shareLen = decoded.shareLen();
+        int len = shareLen - 1;
+        byte[] xCoords = decoded.xCoords();
+
+        // Coefficient-major rows of d, as in splitting; the constant row is zero and therefore omitted.
+        byte[] coeffs = new byte[(k - 1) * len];
+        random.nextBytes(coeffs);
+        try {
+            for (int i = 0; i < xCoords.length; i++) {
+                byte power = 1;
+                for (int j = 0; j < k - 1; j++) {
+                    power = mul(power, xCoords[i]);
+                    mulAdd(shares, i * shareLen + 1, coeffs, j * len, len, power);
+                }
+            }
+            List<String> refreshed = new ArrayList<>(xCoords.length);
+            for (int i = 0; i < xCoords.length; i++) {
+                refreshed.add(HexUtil.bytesToHex(Arrays.copyOfRange(shares, i * shareLen, (i + 1) * shareLen)));
+            }
+            return refreshed;
+        } finally {
+            Arrays.fill(coeffs, (byte) 0);
+            Arrays.fill(shares, (byte) 0);
+        }
+    }
+
+    /**
+     * Re-shares a set of threshold {@code k} into {@code newN} shares of threshold {@code newK}. Only the first
+     * {@code k} shares are used.
+     *
+     * @return new shares by index 1..newN, in the format of {@link CryptoService#splitSecret(String, int, int)}
+     */
+    public Map<Integer, String> reshare(List<String> shareStrings, int k, int newK, int newN) {
+        validateThreshold(k);
+        CryptoService.validateScheme(newK, newN);
+        CryptoService.HexShares decoded = CryptoService.decodeHexShares(shareStrings);
+        if (decoded.xCoords().length < k) throw new ShareValidationException(Reason.MISSING_SHARES, "Insufficient shares: " + k + " required");
+        byte[] shares = decoded.data();
+        int shareLen = decoded.shareLen();
+        int len = shareLen - 1;
+        byte[] weights = lagrangeCache.weightsFor(Arrays.copyOf(decoded.xCoords(), k));
+
+        VandermondeMatrix matrix = VandermondeMatrix.of(newK, newN);
+        byte[] coeffs = new byte[(newK - 1) * len];
+        byte[][] subShares = new byte[newN][len];
+        byte[][] newShares = new byte[newN][shareLen];
+        try {
+            for (int i = 0; i < k; i++) {
+                // Old holder i: sub-shares f_i(1..newN) of its share value, folded into the new shares with l_i(0).
+                random.nextBytes(coeffs);
+                matrix.encode(shares, i * shareLen + 1, coeffs, len, subShares, 0);
+                for (int x = 0; x < newN; x++) {
+                    mulAdd(newShares[x], 1, subShares[x], 0, len, weights[i]);
+                }
+            }
+            Map<Integer, String> result = new LinkedHashMap<>();
+            for (int x = 1; x <= newN; x++) {
+                newShares[x - 1][0] = (byte) x;
+                result.put(x, HexUtil.bytesToHex(newShares[x - 1]));
+            }
+            return result;
+        } finally {
+            Arrays.fill(coeffs, (byte) 0);
+            Arrays.fill(shares, (byte) 0);
+            for (byte[] s : subShares) Arrays.fill(s, (byte) 0);
+            for (byte[] s : newShares) Arrays.fill(s, (byte) 0);
+        }
+    }
+
+    /**
+     * {@link #refresh} for every set, in parallel, preserving the order of {@code shareSets}. Fails as a whole if
+     * any set is invalid.
+     */
+    public List<List<String>> refreshAll(List<List<String>> shareSets, int k) {
+        Objects.requireNonNull(shareSets, "shareSets must not be null");
+        return parallel.pool().submit(() -> shareSets.parallelStream()
+                        .map(set -> refresh(set, k))
+                        .toList())
+                .join();
+    }
+
+    /**
+     * {@link #reshare} for every set, in parallel, preserving the order of {@code shareSets}. Fails as a whole if
+     * any set is invalid.
+     */
+    public List<Map<Integer, String>> reshareAll(List<List<String>> shareSets, int k, int newK, int newN) {
+        Objects.requireNonNull(shareSets, "shareSets must not be null");
+        return parallel.pool().submit(() -> shareSets.parallelStream()
+                        .map(set -> reshare(set, k, newK, newN))
+                        .toList())
+                .join();
+    }
+
+    /**
+     * Hit/miss counters of the Lagrange weight cache used by {@link #reshare}.
+     */
+    public LagrangeWeightCache.Stats lagrangeCacheStats() {
+        return lagrangeCache.stats();
+    }
+
+    private static void validateThreshold(int k) {
+        if (k < 2 || k > 255) throw new ShareValidationException(Reason.INVALID_SCHEME, "k must be between 2 and 255");
+    }
+}
@@ -0,0 +1,40 @@
+package com.basler182.cryptopenscrux.service;
+
+import java.io.Serial;
+import java.util.Locale;
+
+/**
+ * Rejected split or combine input. The {@link Reason} is safe to expose (e.g. as a metric tag); the message never
+ * contains secret or share material.
+ */
+public class ShareValidationException extends IllegalArgumentException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public enum Reason {
+        INVALID_SCHEME,
+        EMPTY_SECRET,
+        MISSING_SHARES,
+        INVALID_LENGTH,
+        INVALID_INDEX,
+        MISMATCHED_SET,
+        UNCORRECTABLE,
+        INVALID_ARGUMENT;
+
+        public String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final Reason reason;
+
+    public ShareValidationException(Reason reason, String message) {
+        super(message);
+        this.reason = reason;
+    }
+
+    public Reason reason() {
+        return reason;
+    }
+}
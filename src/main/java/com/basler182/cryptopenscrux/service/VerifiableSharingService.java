@@ -0,0 +1,147 @@
+package com.basler182.cryptopenscrux.service;
+
+import com.basler182.cryptopenscrux.random.RandomnessProvider;
+import com.basler182.cryptopenscrux.service.ShareValidationException.Reason;
+import com.basler182.cryptopenscrux.util.HexUtil;
+import com.basler182.cryptopenscrux.vss.FeldmanCommitments;
+import com.basler182.cryptopenscrux.vss.FeldmanShare;
+import com.basler182.cryptopenscrux.vss.FeldmanVss;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * Hex front end of {@link FeldmanVss}: splits a secret into shares that every holder can check against public
+ * commitments, and combines only shares that pass that check.
+ * <p>
+ * Unlike the plain shares of {@link CryptoService}, these share a random key over the order of the P-256 group
+ * instead of the secret over GF(256), so they are 33 bytes whatever the secret length and not interchangeable with
+ * them. The commitments carry the secret encrypted under that key and reveal only its length.
+ * <p>
+ * {@link #auditAll} verifies many dealings on the {@link ParallelSettings} pool, one dealing per task, each with a
+ * single batched check.
+ */
+@Service
+public class VerifiableSharingService {
+
+    private final FeldmanVss vss;
+
+    private final ParallelSettings parallel;
+
+    public VerifiableSharingService(RandomnessProvider random, ParallelSettings parallel) {
+        this.vss = new FeldmanVss(Objects.requireNonNull(random, "random must not be null"));
+        this.parallel = Objects.requireNonNull(parallel, "parallel must not be null");
+    }
+
+    /**
+     * Hex commitments and hex shares by index 1..n of one dealing.
+     */
+    public record VerifiableShares(String commitments, Map<Integer, String> shares) {
+    }
+
+    public VerifiableShares split(String secret, int k, int n) {
+        Objects.requireNonNull(secret, "secret must not be null");
+        CryptoService.validateScheme(k, n);
+        byte[] secretBytes = secret.getBytes(StandardCharsets.UTF_8);
+        if (secretBytes.length == 0) throw new ShareValidationException(Reason.EMPTY_SECRET, "secret must not be empty");
+        try {
+            FeldmanVss.Dealing dealing = vss.deal(secretBytes, k, n);
+            Map<Integer, String> shares = new LinkedHashMap<>();
+            for (FeldmanShare share : dealing.shares()) {
+                shares.put(share.index(), HexUtil.bytesToHex(share.encode()));
+            }
+            return new VerifiableShares(HexUtil.bytesToHex(dealing.commitments().encode()), shares);
+        } finally {
+            Arrays.fill(secretBytes, (byte) 0);
+        }
+    }
+
+    public boolean verify(String commitments, String share) {
+        return vss.verify(decodeCommitments(commitments), decodeShare(share));
+    }
+
+    /**
+     * Verifies all shares of one dealing in a single batched check; entry {@code i} tells whether share {@code i}
+     * is valid.
+     */
+    public boolean[] verifyAll(String commitments, List<String> shares) {
+        Objects.requireNonNull(shares, "shares must not be null");
+        return vss.verifyAll(decodeCommitments(commitments), shares.stream().map(VerifiableSharingService::decodeShare).toList());
+    }
+
+    /**
+     * {@link #verifyAll} for every dealing, in parallel, preserving order. {@code shareSets.get(i)} belongs to
+     * {@code commitments.get(i)}.
+     */
+    public List<boolean[]> auditAll(List<String> commitments, List<List<String>> shareSets) {
+        Objects.requireNonNull(commitments, "commitments must not be null");
+        Objects.requireNonNull(shareSets, "shareSets must not be null");
+        if (commitments.size() != shareSets.size()) {
+            throw new ShareValidationException(Reason.INVALID_ARGUMENT, "Expected one share set per commitment");
+        }
+        return parallel.pool().submit(() -> IntStream.range(0, commitments.size()).parallel()
+                        .mapToObj(i -> verifyAll(commitments.get(i), shareSets.get(i)))
+                        .toList())
+                .join();
+    }
+
+    /**
+     * Recovers the secret from the valid shares, ignoring invalid ones.
+     *
+     * @throws ShareValidationException if fewer than the threshold are valid, or if the sealed secret was altered
+     */
+    public String combine(String commitments, List<String> shares) {
+        Objects.requireNonNull(shares, "shares must not be null");
+        FeldmanCommitments decoded = decodeCommitments(commitments);
+        List<FeldmanShare> decodedShares = new ArrayList<>(shares.size());
+        for (String share : shares) decodedShares.add(decodeShare(share));
+        byte[] secret;
+        try {
+            secret = vss.recover(decoded, decodedShares);
+        } catch (IllegalArgumentException e) {
+            throw new ShareValidationException(Reason.MISSING_SHARES, e.getMessage());
+        } catch (IllegalStateException e) {
+            throw new ShareValidationException(Reason.INVALID_ARGUMENT, "Invalid commitments: " + e.getMessage());
+        }
+        try {
+            return new String(secret, StandardCharsets.UTF_8);
+        } finally {
+            Arrays.fill(secret, (byte) 0);
+        }
+    }
+
+    private static FeldmanCommitments decodeCommitments(String hex) {
+        Objects.requireNonNull(hex, "commitments must not be null");
+        try {
+            return FeldmanCommitments.decode(HexUtil.hexToBytes(hex));
+        } catch (IllegalArgumentException e) {
+            throw new ShareValidationException(Reason.INVALID_ARGUMENT, "Invalid commitments: " + e.getMessage());
+        }
+    }
+
+    private static FeldmanShare decodeShare(String hex) {
+        Objects.requireNonNull(hex, "share must not be null");
+        byte[] bytes;
+        try {
+            bytes = HexUtil.hexToBytes(hex);
+        } catch (IllegalArgumentException e) {
+            throw new ShareValidationException(Reason.INVALID_ARGUMENT, "Invalid share: " + e.getMessage());
+        }
+        try {
+            return FeldmanShare.decode(bytes);
+        } catch (IllegalArgumentException e) {
+            Reason reason = bytes.length != FeldmanShare.ENCODED_LENGTH ? Reason.INVALID_LENGTH
+                    : bytes[0] == 0 ? Reason.INVALID_INDEX : Reason.INVALID_ARGUMENT;
+            throw new ShareValidationException(reason, "Invalid share: " + e.getMessage());
+        } finally {
+            Arrays.fill(bytes, (byte) 0);
+        }
+    }
+}
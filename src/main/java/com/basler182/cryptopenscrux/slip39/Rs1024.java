@@ -0,0 +1,86 @@
+package com.basler182.cryptopenscrux.slip39;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The SLIP-39 RS1024 checksum: a Reed-Solomon code over GF(1024) whose three check words let a share detect
+ * up to three wrong words.
+ * <p>
+ * The generator reduction for the ten bits shifted out per word is precomputed into a 1024-entry table, so one
+ * word costs a shift, two XORs and a table load. The checksum state after the customization string
+ * ({@code "shamir"} or {@code "shamir_extendable"}) is precomputed as well.
+ */
+public final class Rs1024 {
+
+    public static final int CHECKSUM_WORDS = 3;
+
+    static final String CUSTOMIZATION = "shamir";
+    static final String CUSTOMIZATION_EXTENDABLE = "shamir_extendable";
+
+    private static final int[] GENERATOR = {
+            0xE0E040, 0x1C1C080, 0x3838100, 0x7070200, 0xE0E0009,
+            0x1C0C2412, 0x38086C24, 0x3090FC48, 0x21B1F890, 0x3F3F120
+    };
+
+    /** REDUCTION[b] = XOR of GENERATOR[i] over the set bits i of b. */
+    private static final int[] REDUCTION = new int[1024];
+
+    /** Checksum state after the customization string, indexed by the extendable flag. */
+    private static final int[] PREFIX_STATE = new int[2];
+
+    static {
+        for (int b = 0; b < REDUCTION.length; b++) {
+            int r = 0;
+            for (int i = 0; i < GENERATOR.length; i++) {
+                if (((b >>> i) & 1) != 0) r ^= GENERATOR[i];
+            }
+            REDUCTION[b] = r;
+        }
+        PREFIX_STATE[0] = customizationState(CUSTOMIZATION);
+        PREFIX_STATE[1] = customizationState(CUSTOMIZATION_EXTENDABLE);
+    }
+
+    private Rs1024() {
+    }
+
+    /**
+     * Whether {@code words[off, off + len)}, including the trailing checksum words, has a valid checksum.
+     */
+    public static boolean verify(boolean extendable, int[] words, int off, int len) {
+        return polymod(PREFIX_STATE[extendable ? 1 : 0], words, off, len) == 1;
+    }
+
+    /**
+     * Writes the {@value #CHECKSUM_WORDS} checksum words for {@code words[off, off + len)} to
+     * {@code words[off + len, off + len + 3)}.
+     */
+    public static void appendChecksum(boolean extendable, int[] words, int off, int len) {
+        int state = polymod(PREFIX_STATE[extendable ? 1 : 0], words, off, len);
+        for (int i = 0; i < CHECKSUM_WORDS; i++) {
+            state = step(state, 0);
+        }
+        state ^= 1;
+        for (int i = 0; i < CHECKSUM_WORDS; i++) {
+            words[off + len + i] = (state >>> (10 * (CHECKSUM_WORDS - 1 - i))) & 0x3FF;
+        }
+    }
+
+    private static int polymod(int state, int[] words, int off, int len) {
+        for (int i = off; i < off + len; i++) {
+            state = step(state, words[i]);
+        }
+        return state;
+    }
+
+    private static int step(int state, int word) {
+        return ((state & 0xFFFFF) << 10) ^ word ^ REDUCTION[state >>> 20];
+    }
+
+    private static int customizationState(String customization) {
+        int state = 1;
+        for (byte b : customization.getBytes(StandardCharsets.US_ASCII)) {
+            state = step(state, b);
+        }
+        return state;
+    }
+}
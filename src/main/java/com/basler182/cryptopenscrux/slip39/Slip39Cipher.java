@@ -0,0 +1,112 @@
+package com.basler182.cryptopenscrux.slip39;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+/**
+ * The SLIP-39 master secret encryption: a four-round Feistel network whose round function is PBKDF2-HMAC-SHA256
+ * over the passphrase with {@code 2500 << e} iterations per round. The salt is {@code "shamir" || identifier}
+ * for non-extendable shares and empty for extendable ones.
+ */
+public final class Slip39Cipher {
+
+    public static final int ROUND_COUNT = 4;
+    public static final int BASE_ITERATION_COUNT = 10000;
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int HASH_LENGTH = 32;
+    private static final byte[] SALT_PREFIX = "shamir".getBytes(StandardCharsets.US_ASCII);
+
+    private static final ThreadLocal<Mac> MAC = ThreadLocal.withInitial(() -> {
+        try {
+            return Mac.getInstance(HMAC_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private Slip39Cipher() {
+    }
+
+    public static byte[] encrypt(byte[] masterSecret, byte[] passphrase, int iterationExponent, int identifier, boolean extendable) {
+        return feistel(masterSecret, passphrase, iterationExponent, salt(identifier, extendable), false);
+    }
+
+    public static byte[] decrypt(byte[] encryptedSecret, byte[] passphrase, int iterationExponent, int identifier, boolean extendable) {
+        return feistel(encryptedSecret, passphrase, iterationExponent, salt(identifier, extendable), true);
+    }
+
+    private static byte[] feistel(byte[] input, byte[] passphrase, int iterationExponent, byte[] salt, boolean reverse) {
+        if (input.length == 0 || input.length % 2 != 0) throw new IllegalArgumentException("Secret length must be even and non-zero");
+        int half = input.length / 2;
+        byte[] l = Arrays.copyOfRange(input, 0, half);
+        byte[] r = Arrays.copyOfRange(input, half, input.length);
+        byte[] password = new byte[passphrase.length + 1];
+        System.arraycopy(passphrase, 0, password, 1, passphrase.length);
+        byte[] roundSalt = Arrays.copyOf(salt, salt.length + half);
+        int iterations = (BASE_ITERATION_COUNT << iterationExponent) / ROUND_COUNT;
+        Mac mac = MAC.get();
+        try {
+            for (int round = 0; round < ROUND_COUNT; round++) {
+                password[0] = (byte) (reverse ? ROUND_COUNT - 1 - round : round);
+                System.arraycopy(r, 0, roundSalt, salt.length, half);
+                byte[] f = pbkdf2(mac, password, roundSalt, iterations, half);
+                for (int i = 0; i < half; i++) {
+                    f[i] ^= l[i];
+                }
+                Arrays.fill(l, (byte) 0);
+                l = r;
+                r = f;
+            }
+            byte[] output = new byte[input.length];
+            System.arraycopy(r, 0, output, 0, half);
+            System.arraycopy(l, 0, output, half, half);
+            return output;
+        } finally {
+            Arrays.fill(l, (byte) 0);
+            Arrays.fill(r, (byte) 0);
+            Arrays.fill(password, (byte) 0);
+            Arrays.fill(roundSalt, (byte) 0);
+        }
+    }
+
+    private static byte[] salt(int identifier, boolean extendable) {
+        if (extendable) return new byte[0];
+        byte[] salt = Arrays.copyOf(SALT_PREFIX, SALT_PREFIX.length + 2);
+        salt[SALT_PREFIX.length] = (byte) (identifier >>> 8);
+        salt[SALT_PREFIX.length + 1] = (byte) identifier;
+        return salt;
+    }
+
+    private static byte[] pbkdf2(Mac mac, byte[] password, byte[] salt, int iterations, int length) {
+        try {
+            mac.init(new SecretKeySpec(password, HMAC_ALGORITHM));
+            byte[] out = new byte[length];
+            byte[] u = new byte[HASH_LENGTH];
+            byte[] t = new byte[HASH_LENGTH];
+            for (int block = 1, off = 0; off < length; block++, off += HASH_LENGTH) {
+                mac.update(salt);
+                mac.update(new byte[]{(byte) (block >>> 24), (byte) (block >>> 16), (byte) (block >>> 8), (byte) block});
+                mac.doFinal(u, 0);
+                System.arraycopy(u, 0, t, 0, HASH_LENGTH);
+                for (int i = 1; i < iterations; i++) {
+                    mac.update(u);
+                    mac.doFinal(u, 0);
+                    for (int j = 0; j < HASH_LENGTH; j++) {
+                        t[j] ^= u[j];
+                    }
+                }
+                System.arraycopy(t, 0, out, off, Math.min(HASH_LENGTH, length - off));
+            }
+            Arrays.fill(u, (byte) 0);
+            Arrays.fill(t, (byte) 0);
+            return out;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
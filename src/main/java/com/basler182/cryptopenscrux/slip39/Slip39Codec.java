@@ -0,0 +1,113 @@
+package com.basler182.cryptopenscrux.slip39;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Conversion between SLIP-39 share mnemonics and {@link Slip39Share}s, and bulk validation.
+ * <p>
+ * Mnemonics are tokenized in place into a per-thread word-index buffer; validation then runs the table-driven
+ * {@link Rs1024} checksum and the padding check on that buffer without creating words, shares or exceptions.
+ */
+public final class Slip39Codec {
+
+    private static final ThreadLocal<int[]> WORDS = ThreadLocal.withInitial(() -> new int[64]);
+
+    private final Slip39Wordlist wordlist;
+
+    public Slip39Codec(Slip39Wordlist wordlist) {
+        this.wordlist = Objects.requireNonNull(wordlist, "wordlist must not be null");
+    }
+
+    /**
+     * Codec over {@link Slip39Wordlist#english()}.
+     */
+    public static Slip39Codec english() {
+        return new Slip39Codec(Slip39Wordlist.english());
+    }
+
+    public String toMnemonic(Slip39Share share) {
+        int[] indexes = share.toWordIndexes();
+        StringBuilder sb = new StringBuilder(indexes.length * 9);
+        for (int i = 0; i < indexes.length; i++) {
+            if (i > 0) sb.append(' ');
+            sb.append(wordlist.word(indexes[i]));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Parses a whitespace-separated share mnemonic.
+     *
+     * @throws IllegalArgumentException on unknown words or an invalid share
+     */
+    public Slip39Share parse(CharSequence mnemonic) {
+        int len = tokenize(mnemonic);
+        if (len < 0) throw new IllegalArgumentException("Unknown word in SLIP-39 mnemonic");
+        return Slip39Share.fromWordIndexes(WORDS.get(), len);
+    }
+
+    /**
+     * Whether {@code mnemonic} is a well-formed share: known words, valid checksum and padding. Never throws.
+     */
+    public boolean isValid(CharSequence mnemonic) {
+        if (mnemonic == null) return false;
+        int len = tokenize(mnemonic);
+        return len >= 0 && Slip39Share.hasValidLayout(WORDS.get(), len);
+    }
+
+    /**
+     * Validates all mnemonics in parallel on {@code pool}; entry {@code i} of the result is
+     * {@link #isValid(CharSequence)} of mnemonic {@code i}.
+     */
+    public boolean[] validateAll(List<? extends CharSequence> mnemonics, ForkJoinPool pool) {
+        boolean[] valid = new boolean[mnemonics.size()];
+        pool.submit(() -> IntStream.range(0, valid.length).parallel()
+                        .forEach(i -> valid[i] = isValid(mnemonics.get(i))))
+                .join();
+        return valid;
+    }
+
+    /**
+     * Tokenizes {@code mnemonic} into the per-thread buffer, growing it for unusually long mnemonics.
+     *
+     * @return the word count, or -2 on an unknown word
+     */
+    private int tokenize(CharSequence mnemonic) {
+        int len = tokenize(mnemonic, WORDS.get());
+        if (len == -1) {
+            int[] words = new int[countWords(mnemonic)];
+            WORDS.set(words);
+            len = tokenize(mnemonic, words);
+        }
+        return len;
+    }
+
+    /**
+     * Writes the word indexes of {@code mnemonic} to {@code words}.
+     *
+     * @return the word count, -1 if {@code words} is too small, -2 on an unknown word
+     */
+    private int tokenize(CharSequence mnemonic, int[] words) {
+        int count = 0;
+        int n = mnemonic.length();
+        int i = 0;
+        while (true) {
+            while (i < n && Character.isWhitespace(mnemonic.charAt(i))) i++;
+            if (i == n) return count;
+            int start = i;
+            while (i < n && !Character.isWhitespace(mnemonic.charAt(i))) i++;
+            if (count == words.length) return -1;
+            int index = wordlist.indexOf(mnemonic, start, i);
+            if (index < 0) return -2;
+            words[count++] = index;
+        }
+    }
+
+    private static int countWords(CharSequence mnemonic) {
+        return (int) Arrays.stream(mnemonic.toString().strip().split("\\s+")).count();
+    }
+}
@@ -0,0 +1,216 @@
+package com.basler182.cryptopenscrux.slip39;
+
+import com.basler182.cryptopenscrux.random.RandomnessProvider;
+import com.basler182.cryptopenscrux.util.Gf256Util;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * SLIP-39 two-level Shamir sharing: the encrypted master secret is split into group shares, and each group share
+ * into member shares.
+ * <p>
+ * Both levels share over GF(256) with the same field as {@link Gf256Util}. A split of threshold {@code t} takes
+ * {@code t - 2} random shares, the digest share at x = {@value #DIGEST_INDEX} ({@code HMAC-SHA256(r, s)[0..4] || r}
+ * for random {@code r}) and the secret at x = {@value #SECRET_INDEX}; all other shares are interpolated from these.
+ * Recovery interpolates both points and rejects the result if the digest does not match.
+ */
+public final class Slip39Engine {
+
+    public static final int DIGEST_INDEX = 254;
+    public static final int SECRET_INDEX = 255;
+    public static final int DIGEST_LENGTH = 4;
+    public static final int DEFAULT_ITERATION_EXPONENT = 1;
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final RandomnessProvider random;
+
+    public Slip39Engine(RandomnessProvider random) {
+        this.random = Objects.requireNonNull(random, "random must not be null");
+    }
+
+    /**
+     * Splits {@code masterSecret} into member shares, one list per group in the order of {@code groups}.
+     *
+     * @param passphrase printable ASCII bytes, possibly empty
+     * @throws IllegalArgumentException on an invalid secret length or group configuration
+     */
+    public List<List<Slip39Share>> split(byte[] masterSecret, byte[] passphrase, int groupThreshold,
+                                         List<Slip39Group> groups, boolean extendable, int iterationExponent) {
+        Objects.requireNonNull(masterSecret, "masterSecret must not be null");
+        Objects.requireNonNull(passphrase, "passphrase must not be null");
+        if (masterSecret.length < Slip39Share.MIN_SECRET_LENGTH || masterSecret.length % 2 != 0) {
+            throw new IllegalArgumentException("Master secret must be an even number of bytes, at least " + Slip39Share.MIN_SECRET_LENGTH);
+        }
+        if (groups.isEmpty() || groups.size() > Slip39Share.MAX_SHARE_COUNT) {
+            throw new IllegalArgumentException("Group count must be between 1 and " + Slip39Share.MAX_SHARE_COUNT);
+        }
+        if (groupThreshold < 1 || groupThreshold > groups.size()) {
+            throw new IllegalArgumentException("Group threshold must be between 1 and the group count");
+        }
+        if (iterationExponent < 0 || iterationExponent > 15) {
+            throw new IllegalArgumentException("Iteration exponent must be between 0 and 15");
+        }
+
+        int identifier = random.nextInt(1 << Slip39Share.ID_BITS);
+        byte[] encrypted = Slip39Cipher.encrypt(masterSecret, passphrase, iterationExponent, identifier, extendable);
+        byte[][] groupSecrets = splitSecret(groupThreshold, groups.size(), encrypted);
+        Arrays.fill(encrypted, (byte) 0);
+
+        List<List<Slip39Share>> result = new ArrayList<>(groups.size());
+        for (int g = 0; g < groups.size(); g++) {
+            Slip39Group group = groups.get(g);
+            byte[][] memberSecrets = splitSecret(group.memberThreshold(), group.memberCount(), groupSecrets[g]);
+            List<Slip39Share> members = new ArrayList<>(memberSecrets.length);
+            for (int m = 0; m < memberSecrets.length; m++) {
+                members.add(new Slip39Share(identifier, extendable, iterationExponent, g, groupThreshold, groups.size(),
+                        m, group.memberThreshold(), memberSecrets[m]));
+            }
+            Arrays.fill(groupSecrets[g], (byte) 0);
+            result.add(List.copyOf(members));
+        }
+        return List.copyOf(result);
+    }
+
+    /**
+     * Recovers the master secret from member shares of one split. Groups with fewer than their member threshold
+     * of shares are ignored; the first {@code groupThreshold} complete groups are used.
+     *
+     * @throws IllegalArgumentException if the shares belong to different splits, are insufficient, conflict, or
+     *                                  fail the digest check
+     */
+    public byte[] recover(Collection<Slip39Share> shares, byte[] passphrase) {
+        Objects.requireNonNull(passphrase, "passphrase must not be null");
+        if (shares == null || shares.isEmpty()) throw new IllegalArgumentException("No shares provided");
+        Slip39Share first = shares.iterator().next();
+        List<List<Slip39Share>> byGroup = new ArrayList<>(Collections.nCopies(first.groupCount(), null));
+        for (Slip39Share share : shares) {
+            if (!first.sameSplit(share)) throw new IllegalArgumentException("Shares belong to different SLIP-39 splits");
+            List<Slip39Share> group = byGroup.get(share.groupIndex());
+            if (group == null) byGroup.set(share.groupIndex(), group = new ArrayList<>());
+            addMember(group, share);
+        }
+
+        int groupThreshold = first.groupThreshold();
+        byte[] groupXs = new byte[groupThreshold];
+        byte[][] groupSecrets = new byte[groupThreshold][];
+        int complete = 0;
+        for (int g = 0; g < byGroup.size() && complete < groupThreshold; g++) {
+            List<Slip39Share> members = byGroup.get(g);
+            if (members == null || members.size() < members.get(0).memberThreshold()) continue;
+            int memberThreshold = members.get(0).memberThreshold();
+            byte[] xs = new byte[memberThreshold];
+            byte[][] ys = new byte[memberThreshold][];
+            for (int m = 0; m < memberThreshold; m++) {
+                xs[m] = (byte) members.get(m).memberIndex();
+                ys[m] = members.get(m).value();
+            }
+            groupXs[complete] = (byte) g;
+            groupSecrets[complete++] = recoverSecret(memberThreshold, xs, ys);
+        }
+        if (complete < groupThreshold) {
+            throw new IllegalArgumentException("Insufficient shares: " + complete + " of " + groupThreshold + " groups complete");
+        }
+        byte[] encrypted = recoverSecret(groupThreshold, groupXs, groupSecrets);
+        for (byte[] s : groupSecrets) Arrays.fill(s, (byte) 0);
+        try {
+            return Slip39Cipher.decrypt(encrypted, passphrase, first.iterationExponent(), first.identifier(), first.extendable());
+        } finally {
+            Arrays.fill(encrypted, (byte) 0);
+        }
+    }
+
+    /**
+     * SLIP-39 {@code split_secret}: {@code count} shares of {@code secret} at x = 0 .. count - 1.
+     */
+    byte[][] splitSecret(int threshold, int count, byte[] secret) {
+        byte[][] shares = new byte[count][];
+        if (threshold == 1) {
+            for (int i = 0; i < count; i++) shares[i] = secret.clone();
+            return shares;
+        }
+        int randomCount = threshold - 2;
+        byte[] baseXs = new byte[threshold];
+        byte[][] baseYs = new byte[threshold][];
+        for (int i = 0; i < randomCount; i++) {
+            shares[i] = new byte[secret.length];
+            random.nextBytes(shares[i]);
+            baseXs[i] = (byte) i;
+            baseYs[i] = shares[i];
+        }
+        byte[] digestShare = new byte[secret.length];
+        random.nextBytes(digestShare, DIGEST_LENGTH, secret.length - DIGEST_LENGTH);
+        System.arraycopy(digest(digestShare, secret), 0, digestShare, 0, DIGEST_LENGTH);
+        baseXs[randomCount] = (byte) DIGEST_INDEX;
+        baseYs[randomCount] = digestShare;
+        baseXs[randomCount + 1] = (byte) SECRET_INDEX;
+        baseYs[randomCount + 1] = secret;
+        for (int i = randomCount; i < count; i++) {
+            shares[i] = interpolate(baseXs, baseYs, (byte) i);
+        }
+        Arrays.fill(digestShare, (byte) 0);
+        return shares;
+    }
+
+    /**
+     * SLIP-39 {@code recover_secret}: interpolates the secret and the digest share and checks the digest.
+     */
+    static byte[] recoverSecret(int threshold, byte[] xs, byte[][] ys) {
+        if (threshold == 1) return ys[0].clone();
+        byte[] secret = interpolate(xs, ys, (byte) SECRET_INDEX);
+        byte[] digestShare = interpolate(xs, ys, (byte) DIGEST_INDEX);
+        byte[] expected = digest(digestShare, secret);
+        boolean valid = MessageDigest.isEqual(Arrays.copyOf(digestShare, DIGEST_LENGTH), expected);
+        Arrays.fill(digestShare, (byte) 0);
+        if (!valid) {
+            Arrays.fill(secret, (byte) 0);
+            throw new IllegalArgumentException("Invalid digest of the shared secret");
+        }
+        return secret;
+    }
+
+    /** {@code p(x)} for the polynomial through the points {@code (xs[i], ys[i])}, one weighted row per point. */
+    private static byte[] interpolate(byte[] xs, byte[][] ys, byte x) {
+        byte[] weights = Gf256Util.lagrangeWeightsAt(xs, x);
+        byte[] result = new byte[ys[0].length];
+        for (int i = 0; i < xs.length; i++) {
+            Gf256Util.mulAdd(result, ys[i], weights[i]);
+        }
+        return result;
+    }
+
+    /** {@code HMAC-SHA256(key = digestShare[4..], secret)[0..4]}. */
+    private static byte[] digest(byte[] digestShare, byte[] secret) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(new SecretKeySpec(digestShare, DIGEST_LENGTH, digestShare.length - DIGEST_LENGTH, HMAC_ALGORITHM));
+            return Arrays.copyOf(mac.doFinal(secret), DIGEST_LENGTH);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void addMember(List<Slip39Share> group, Slip39Share share) {
+        for (Slip39Share existing : group) {
+            if (existing.memberThreshold() != share.memberThreshold()) {
+                throw new IllegalArgumentException("Shares of group " + share.groupIndex() + " disagree on the member threshold");
+            }
+            if (existing.memberIndex() == share.memberIndex()) {
+                if (!Arrays.equals(existing.value(), share.value())) {
+                    throw new IllegalArgumentException("Conflicting shares for member " + share.memberIndex() + " of group " + share.groupIndex());
+                }
+                return;
+            }
+        }
+        group.add(share);
+    }
+}
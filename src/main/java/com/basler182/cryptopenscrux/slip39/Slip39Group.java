@@ -0,0 +1,19 @@
+package com.basler182.cryptopenscrux.slip39;
+
+/**
+ * Member threshold and member count of one SLIP-39 group.
+ */
+public record Slip39Group(int memberThreshold, int memberCount) {
+
+    public Slip39Group {
+        if (memberCount < 1 || memberCount > Slip39Share.MAX_SHARE_COUNT) {
+            throw new IllegalArgumentException("Member count must be between 1 and " + Slip39Share.MAX_SHARE_COUNT);
+        }
+        if (memberThreshold < 1 || memberThreshold > memberCount) {
+            throw new IllegalArgumentException("Member threshold must be between 1 and the member count");
+        }
+        if (memberThreshold == 1 && memberCount > 1) {
+            throw new IllegalArgumentException("A member threshold of 1 requires a single member share");
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.basler182.cryptopenscrux.slip39;
+
+import java.util.Arrays;
+
+/**
+ * One SLIP-39 member share and its packed 10-bit word encoding:
+ * <pre>
+ * 2 words   identifier (15) | extendable (1) | iteration exponent (4)
+ * 2 words   group index (4) | group threshold - 1 (4) | group count - 1 (4) | member index (4) | member threshold - 1 (4)
+ * n words   share value, left-padded with zero bits to a multiple of 10
+ * 3 words   RS1024 checksum
+ * </pre>
+ * Thresholds and counts are stored as their actual values (1 to 16) here.
+ */
+public record Slip39Share(int identifier, boolean extendable, int iterationExponent,
+                          int groupIndex, int groupThreshold, int groupCount,
+                          int memberIndex, int memberThreshold, byte[] value) {
+
+    public static final int MAX_SHARE_COUNT = 16;
+    public static final int MIN_SECRET_LENGTH = 16;
+    /** Words of a share for a 128-bit secret, the shortest allowed. */
+    public static final int MIN_WORDS = 20;
+
+    static final int RADIX_BITS = 10;
+    static final int RADIX = 1 << RADIX_BITS;
+    static final int METADATA_WORDS = 4;
+    static final int ID_BITS = 15;
+
+    public Slip39Share {
+        checkRange("identifier", identifier, 0, (1 << ID_BITS) - 1);
+        checkRange("iterationExponent", iterationExponent, 0, 15);
+        checkRange("groupCount", groupCount, 1, MAX_SHARE_COUNT);
+        checkRange("groupThreshold", groupThreshold, 1, groupCount);
+        checkRange("groupIndex", groupIndex, 0, groupCount - 1);
+        checkRange("memberThreshold", memberThreshold, 1, MAX_SHARE_COUNT);
+        checkRange("memberIndex", memberIndex, 0, MAX_SHARE_COUNT - 1);
+        if (value == null || value.length < MIN_SECRET_LENGTH || value.length % 2 != 0) {
+            throw new IllegalArgumentException("Share value must be an even number of bytes, at least " + MIN_SECRET_LENGTH);
+        }
+    }
+
+    /** Number of words in the mnemonic of a share whose value is {@code valueLength} bytes. */
+    public static int wordCount(int valueLength) {
+        return METADATA_WORDS + valueWords(valueLength) + Rs1024.CHECKSUM_WORDS;
+    }
+
+    /** Parameters shared by all shares of one split, compared when shares are combined. */
+    boolean sameSplit(Slip39Share other) {
+        return identifier == other.identifier && extendable == other.extendable
+                && iterationExponent == other.iterationExponent && groupThreshold == other.groupThreshold
+                && groupCount == other.groupCount && value.length == other.value.length;
+    }
+
+    /**
+     * The mnemonic word indexes of this share, checksum included.
+     */
+    public int[] toWordIndexes() {
+        int[] words = new int[wordCount(value.length)];
+        int idExp = identifier << 5 | (extendable ? 1 : 0) << 4 | iterationExponent;
+        int params = groupIndex << 16 | (groupThreshold - 1) << 12 | (groupCount - 1) << 8
+                | memberIndex << 4 | (memberThreshold - 1);
+        words[0] = idExp >>> RADIX_BITS;
+        words[1] = idExp & (RADIX - 1);
+        words[2] = params >>> RADIX_BITS;
+        words[3] = params & (RADIX - 1);
+
+        // Left padding: start the bit accumulator with the padding bits already counted as zeros.
+        int w = METADATA_WORDS;
+        long acc = 0;
+        int bits = valueWords(value.length) * RADIX_BITS - value.length * 8;
+        for (byte b : value) {
+            acc = (acc << 8) | (b & 0xFF);
+            bits += 8;
+            if (bits >= RADIX_BITS) {
+                bits -= RADIX_BITS;
+                words[w++] = (int) (acc >>> bits) & (RADIX - 1);
+            }
+        }
+        Rs1024.appendChecksum(extendable, words, 0, w);
+        return words;
+    }
+
+    /**
+     * Decodes a share from {@code words[0, len)}.
+     *
+     * @throws IllegalArgumentException on a bad checksum, bad padding or inconsistent group parameters
+     */
+    public static Slip39Share fromWordIndexes(int[] words, int len) {
+        if (!hasValidLayout(words, len)) throw new IllegalArgumentException("Invalid SLIP-39 share checksum or padding");
+        int idExp = words[0] << RADIX_BITS | words[1];
+        int params = words[2] << RADIX_BITS | words[3];
+
+        int valueWords = len - METADATA_WORDS - Rs1024.CHECKSUM_WORDS;
+        int padding = valueWords * RADIX_BITS % 16;
+        byte[] value = new byte[(valueWords * RADIX_BITS - padding) / 8];
+        long acc = 0;
+        int bits = -padding;
+        int b = 0;
+        for (int i = METADATA_WORDS; i < METADATA_WORDS + valueWords; i++) {
+            acc = (acc << RADIX_BITS) | words[i];
+            bits += RADIX_BITS;
+            while (bits >= 8) {
+                bits -= 8;
+                value[b++] = (byte) (acc >>> bits);
+            }
+        }
+        // The constructor rejects a group index outside the group count.
+        return new Slip39Share(idExp >>> 5, ((idExp >>> 4) & 1) != 0, idExp & 0xF,
+                (params >>> 16) & 0xF, ((params >>> 12) & 0xF) + 1, ((params >>> 8) & 0xF) + 1,
+                (params >>> 4) & 0xF, (params & 0xF) + 1, value);
+    }
+
+    /**
+     * Allocation-free structural check of {@code words[0, len)}: word range, length, RS1024 checksum, zero padding
+     * and a group threshold not above the group count.
+     */
+    static boolean hasValidLayout(int[] words, int len) {
+        if (len < MIN_WORDS || len > words.length) return false;
+        for (int i = 0; i < len; i++) {
+            if (words[i] < 0 || words[i] >= RADIX) return false;
+        }
+        boolean extendable = ((words[1] >>> 4) & 1) != 0;
+        if (!Rs1024.verify(extendable, words, 0, len)) return false;
+        int valueWords = len - METADATA_WORDS - Rs1024.CHECKSUM_WORDS;
+        // The value has an even byte count, so the padding is the bit count modulo 16 and fits in one byte.
+        int padding = valueWords * RADIX_BITS % 16;
+        if (padding > 8) return false;
+        if (words[METADATA_WORDS] >>> (RADIX_BITS - padding) != 0) return false;
+        int params = words[2] << RADIX_BITS | words[3];
+        return ((params >>> 12) & 0xF) <= ((params >>> 8) & 0xF);
+    }
+
+    /** Overwrites the share value with zeros. */
+    public void wipe() {
+        Arrays.fill(value, (byte) 0);
+    }
+
+    private static int valueWords(int valueLength) {
+        return (valueLength * 8 + RADIX_BITS - 1) / RADIX_BITS;
+    }
+
+    private static void checkRange(String name, int value, int min, int max) {
+        if (value < min || value > max) {
+            throw new IllegalArgumentException(name + " must be between " + min + " and " + max + ", was " + value);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.basler182.cryptopenscrux.slip39;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The 1024-word SLIP-39 wordlist, read from {@value #RESOURCE_PATH} on first use.
+ * <p>
+ * SLIP-39 words are lowercase ASCII and unique on their first {@value #PREFIX_LENGTH} letters, so lookups pack
+ * those letters into one {@code int} key of an open-addressing table and then compare the remaining characters
+ * in place. Neither step allocates, which keeps bulk validation of many mnemonics cheap.
+ */
+public final class Slip39Wordlist {
+
+    private static final Logger LOG = LoggerFactory.getLogger(Slip39Wordlist.class);
+
+    public static final int SIZE = Slip39Share.RADIX;
+    public static final int PREFIX_LENGTH = 4;
+    public static final String RESOURCE_PATH = "/slip-39/english.txt";
+
+    private static final int TABLE_BITS = 11;
+    private static final int TABLE_SIZE = 1 << TABLE_BITS;
+
+    private static volatile Slip39Wordlist english;
+
+    private final String[] words;
+    /** Packed prefix per slot, 0 for empty slots (a packed prefix is never 0). */
+    private final int[] keys;
+    private final short[] indexes;
+
+    Slip39Wordlist(List<String> words) {
+        if (words.size() != SIZE) {
+            throw new IllegalStateException("SLIP-39 wordlist must have " + SIZE + " words, found " + words.size());
+        }
+        this.words = words.toArray(new String[0]);
+        this.keys = new int[TABLE_SIZE];
+        this.indexes = new short[TABLE_SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            String word = this.words[i];
+            if (word.length() < PREFIX_LENGTH || !word.chars().allMatch(c -> c >= 'a' && c <= 'z')) {
+                throw new IllegalStateException("SLIP-39 words must be at least " + PREFIX_LENGTH + " lowercase letters: " + word);
+            }
+            int key = prefixKey(word, 0);
+            int slot = slot(key);
+            if (keys[slot] != 0) throw new IllegalStateException("Duplicate SLIP-39 word prefix: " + word);
+            keys[slot] = key;
+            indexes[slot] = (short) i;
+        }
+    }
+
+    /**
+     * Returns the English SLIP-39 wordlist, loading it on first use.
+     *
+     * @throws IllegalStateException if the bundled list is missing from the classpath or malformed
+     */
+    public static Slip39Wordlist english() {
+        Slip39Wordlist list = english;
+        if (list != null) return list;
+        synchronized (Slip39Wordlist.class) {
+            if (english == null) english = load();
+            return english;
+        }
+    }
+
+    public String word(int index) {
+        return words[index];
+    }
+
+    /**
+     * Index of the word {@code s[from, to)}, given in full or abbreviated to at least its first
+     * {@value #PREFIX_LENGTH} letters, in either case. Returns -1 for unknown words.
+     */
+    public int indexOf(CharSequence s, int from, int to) {
+        int len = to - from;
+        if (len < PREFIX_LENGTH) return -1;
+        int key = prefixKey(s, from);
+        if (key < 0) return -1;
+        int slot = slot(key);
+        if (keys[slot] == 0) return -1;
+        int index = indexes[slot];
+        String word = words[index];
+        if (len > word.length()) return -1;
+        for (int i = PREFIX_LENGTH; i < len; i++) {
+            if (lower(s.charAt(from + i)) != word.charAt(i)) return -1;
+        }
+        return index;
+    }
+
+    public int indexOf(CharSequence word) {
+        return indexOf(word, 0, word.length());
+    }
+
+    /** Slot holding {@code key}, or the empty slot where it would go. */
+    private int slot(int key) {
+        int slot = (key * 0x9E3779B1) >>> (32 - TABLE_BITS);
+        while (keys[slot] != 0 && keys[slot] != key) {
+            slot = (slot + 1) & (TABLE_SIZE - 1);
+        }
+        return slot;
+    }
+
+    /** The first four letters as one int, lowercased; -1 if any of them is not an ASCII letter. */
+    private static int prefixKey(CharSequence s, int from) {
+        int key = 0;
+        for (int i = 0; i < PREFIX_LENGTH; i++) {
+            int c = lower(s.charAt(from + i));
+            if (c < 'a' || c > 'z') return -1;
+            key = key << 8 | c;
+        }
+        return key;
+    }
+
+    private static int lower(char c) {
+        return c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c;
+    }
+
+    private static Slip39Wordlist load() {
+        List<String> words = new ArrayList<>(SIZE);
+        try (InputStream is = Slip39Wordlist.class.getResourceAsStream(RESOURCE_PATH)) {
+            if (is == null) throw new IllegalStateException("SLIP-39 wordlist not bundled: " + RESOURCE_PATH);
+            try (BufferedReader br = new BufferedReader(new InputStreamReader(is, StandardCharsets.US_ASCII))) {
+                String line;
+                while ((line = br.readLine()) != null) {
+                    line = line.strip();
+                    if (!line.isEmpty()) words.add(line);
+                }
+            }
+        } catch (IOException e) {
+            LOG.warn("Error when loading SLIP-39 word list: {}.", e.getMessage(), e);
+            throw new UncheckedIOException(e);
+        }
+        Slip39Wordlist list = new Slip39Wordlist(words);
+        LOG.debug("SLIP-39 wordlist initialized ({} words).", SIZE);
+        return list;
+    }
+}
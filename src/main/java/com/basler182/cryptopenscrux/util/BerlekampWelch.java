@@ -0,0 +1,137 @@
+package com.basler182.cryptopenscrux.util;
+
+import static com.basler182.cryptopenscrux.util.Gf256Util.*;
+
+/**
+ * Berlekamp–Welch decoding of a Reed–Solomon codeword over GF(256).
+ * <p>
+ * Given {@code m} points {@code (x_i, y_i)} of which all but at most {@code e = (m - k) / 2} lie on a polynomial
+ * {@code P} of degree below {@code k}, it finds {@code P} by solving the linear system
+ * {@code Q(x_i) = y_i * E(x_i)} for a monic error locator {@code E} of degree {@code e} and {@code Q = P * E} of
+ * degree below {@code k + e}, then dividing. Cost is {@code O(m^3)} per codeword.
+ * <p>
+ * Elimination uses the table-driven {@link Gf256Util#mul} and {@link Gf256Util#inv} and pivots on the data, so
+ * timing depends on the share bytes even with {@value Gf256Util#CONSTANT_TIME_PROPERTY} set.
+ */
+public final class BerlekampWelch {
+
+    private BerlekampWelch() {
+    }
+
+    public static int maxCorrectableErrors(int m, int k) {
+        return Math.max(0, (m - k) / 2);
+    }
+
+    /**
+     * Returns the coefficients (lowest degree first, length {@code k}) of the polynomial agreeing with all but at
+     * most {@link #maxCorrectableErrors(int, int)} points, or {@code null} if no such polynomial exists.
+     */
+    public static byte[] decode(byte[] xs, byte[] ys, int k) {
+        int m = xs.length;
+        if (ys.length != m) throw new IllegalArgumentException("xs and ys must have the same length");
+        if (k < 1 || m < k) throw new IllegalArgumentException("Need at least k points");
+        int e = maxCorrectableErrors(m, k);
+        int qLen = k + e;
+        int cols = qLen + e;
+
+        // Row i: [x_i^0 .. x_i^(k+e-1) | y_i * x_i^0 .. y_i * x_i^(e-1) | y_i * x_i^e]
+        byte[][] a = new byte[m][cols + 1];
+        for (int i = 0; i < m; i++) {
+            byte power = 1;
+            for (int j = 0; j < qLen; j++) {
+                a[i][j] = power;
+                if (j < e) a[i][qLen + j] = mul(ys[i], power);
+                if (j == e) a[i][cols] = mul(ys[i], power);
+                power = mul(power, xs[i]);
+            }
+        }
+
+        byte[] solution = solve(a, cols);
+        if (solution == null) return null;
+
+        byte[] q = new byte[qLen];
+        System.arraycopy(solution, 0, q, 0, qLen);
+        byte[] errorLocator = new byte[e + 1];
+        System.arraycopy(solution, qLen, errorLocator, 0, e);
+        errorLocator[e] = 1;
+
+        byte[] p = divideExact(q, errorLocator);
+        if (p == null) return null;
+        byte[] coeffs = new byte[k];
+        System.arraycopy(p, 0, coeffs, 0, Math.min(k, p.length));
+        for (int i = k; i < p.length; i++) {
+            if (p[i] != 0) return null;
+        }
+
+        int mismatches = 0;
+        for (int i = 0; i < m; i++) {
+            if (evaluate(coeffs, xs[i]) != ys[i]) mismatches++;
+        }
+        return mismatches <= e ? coeffs : null;
+    }
+
+    /**
+     * Gauss–Jordan elimination on the augmented matrix {@code a} ({@code cols} unknowns). Free variables are set
+     * to zero. Returns {@code null} if the system is inconsistent.
+     */
+    private static byte[] solve(byte[][] a, int cols) {
+        int rows = a.length;
+        int[] pivotCol = new int[rows];
+        int rank = 0;
+        for (int col = 0; col < cols && rank < rows; col++) {
+            int pivot = -1;
+            for (int r = rank; r < rows; r++) {
+                if (a[r][col] != 0) {
+                    pivot = r;
+                    break;
+                }
+            }
+            if (pivot < 0) continue;
+            byte[] tmp = a[pivot];
+            a[pivot] = a[rank];
+            a[rank] = tmp;
+
+            byte[] row = a[rank];
+            Gf256Util.mul(row, col, row, col, cols + 1 - col, inv(row[col]));
+            for (int r = 0; r < rows; r++) {
+                if (r != rank && a[r][col] != 0) {
+                    Gf256Util.mulAdd(a[r], col, row, col, cols + 1 - col, a[r][col]);
+                }
+            }
+            pivotCol[rank++] = col;
+        }
+        for (int r = rank; r < rows; r++) {
+            if (a[r][cols] != 0) return null;
+        }
+        byte[] solution = new byte[cols];
+        for (int r = 0; r < rank; r++) {
+            solution[pivotCol[r]] = a[r][cols];
+        }
+        return solution;
+    }
+
+    /** Polynomial division {@code num / den}; returns {@code null} if the remainder is non-zero. */
+    private static byte[] divideExact(byte[] num, byte[] den) {
+        int denDeg = den.length - 1;
+        while (denDeg > 0 && den[denDeg] == 0) denDeg--;
+        if (num.length - 1 < denDeg) {
+            for (byte c : num) if (c != 0) return null;
+            return new byte[1];
+        }
+        byte[] rem = num.clone();
+        byte[] quotient = new byte[num.length - denDeg];
+        byte leadInv = inv(den[denDeg]);
+        for (int i = num.length - 1; i >= denDeg; i--) {
+            byte coef = mul(rem[i], leadInv);
+            quotient[i - denDeg] = coef;
+            if (coef == 0) continue;
+            for (int j = 0; j <= denDeg; j++) {
+                rem[i - denDeg + j] ^= mul(coef, den[j]);
+            }
+        }
+        for (int i = 0; i < denDeg; i++) {
+            if (rem[i] != 0) return null;
+        }
+        return quotient;
+    }
+}
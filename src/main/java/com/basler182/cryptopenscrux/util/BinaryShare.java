@@ -0,0 +1,18 @@
+package com.basler182.cryptopenscrux.util;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A decoded binary share. {@code data} is a view into the buffer it was decoded from, not a copy.
+ *
+ * @param threshold number of shares required to reconstruct the secret
+ * @param setId     identifier shared by all shares of one split
+ * @param index     x coordinate of the share, 1..255
+ * @param data      share bytes, one per secret byte
+ */
+public record BinaryShare(int threshold, long setId, int index, ByteBuffer data) {
+
+    public int dataLength() {
+        return data.remaining();
+    }
+}
@@ -0,0 +1,86 @@
+package com.basler182.cryptopenscrux.util;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.zip.CRC32C;
+
+/**
+ * Versioned binary share format, big-endian:
+ * <pre>
+ * magic "SP" (2) | version (1) | threshold (1) | index (1) | set id (8) | data length (4) | data | CRC32C (4)
+ * </pre>
+ * The checksum covers every byte before it. Encoding and decoding work directly on caller-supplied
+ * {@link ByteBuffer}s; no intermediate arrays or strings are created.
+ */
+public final class BinaryShareCodec {
+
+    public static final byte VERSION = 1;
+    public static final int HEADER_LENGTH = 17;
+    public static final int TRAILER_LENGTH = 4;
+
+    private static final short MAGIC = 0x5350; // "SP"
+
+    private BinaryShareCodec() {
+    }
+
+    public static int encodedLength(int dataLength) {
+        return HEADER_LENGTH + dataLength + TRAILER_LENGTH;
+    }
+
+    /**
+     * Writes one share at the position of {@code dst} and advances it by {@link #encodedLength(int)}.
+     */
+    public static void encode(int threshold, long setId, int index, byte[] data, int off, int len, ByteBuffer dst) {
+        if (threshold < 1 || threshold > 255) throw new IllegalArgumentException("threshold must be in 1..255");
+        if (index < 1 || index > 255) throw new IllegalArgumentException("index must be in 1..255");
+        if (dst.remaining() < encodedLength(len)) throw new IllegalArgumentException("Destination buffer too small");
+
+        ByteBuffer out = dst.duplicate().order(ByteOrder.BIG_ENDIAN);
+        int start = out.position();
+        out.putShort(MAGIC)
+                .put(VERSION)
+                .put((byte) threshold)
+                .put((byte) index)
+                .putLong(setId)
+                .putInt(len)
+                .put(data, off, len);
+        out.putInt((int) checksum(out, start, out.position()));
+        dst.position(out.position());
+    }
+
+    /**
+     * Reads and verifies one share at the position of {@code src} and advances it past the share.
+     *
+     * @throws IllegalArgumentException if the share is truncated, has an unknown magic/version or a checksum mismatch
+     */
+    public static BinaryShare decode(ByteBuffer src) {
+        ByteBuffer in = src.duplicate().order(ByteOrder.BIG_ENDIAN);
+        int start = in.position();
+        if (in.remaining() < HEADER_LENGTH + TRAILER_LENGTH) throw new IllegalArgumentException("Invalid share length");
+        if (in.getShort() != MAGIC) throw new IllegalArgumentException("Not a binary share");
+        byte version = in.get();
+        if (version != VERSION) throw new IllegalArgumentException("Unsupported share version: " + version);
+        int threshold = Byte.toUnsignedInt(in.get());
+        int index = Byte.toUnsignedInt(in.get());
+        long setId = in.getLong();
+        int len = in.getInt();
+        if (len < 0 || in.remaining() < (long) len + TRAILER_LENGTH) throw new IllegalArgumentException("Invalid share length");
+
+        int dataStart = in.position();
+        int dataEnd = dataStart + len;
+        int expected = in.getInt(dataEnd);
+        if ((int) checksum(in, start, dataEnd) != expected) throw new IllegalArgumentException("Share checksum mismatch");
+        if (index == 0) throw new IllegalArgumentException("Share index cannot be zero");
+        if (threshold == 0) throw new IllegalArgumentException("Invalid share threshold");
+
+        ByteBuffer data = in.duplicate().position(dataStart).limit(dataEnd).slice();
+        src.position(dataEnd + TRAILER_LENGTH);
+        return new BinaryShare(threshold, setId, index, data);
+    }
+
+    private static long checksum(ByteBuffer buffer, int from, int to) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.duplicate().limit(to).position(from));
+        return crc.getValue();
+    }
+}
@@ -0,0 +1,220 @@
+package com.basler182.cryptopenscrux.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * Constant-time GF(256) arithmetic on 64 field elements at once, in the field of {@link Gf256Util}.
+ * <p>
+ * A block of {@value #BLOCK_BYTES} bytes is held as {@value #PLANES} {@code long} bit planes: plane {@code b} holds
+ * bit {@code b} of every byte. Addition is a XOR per plane, multiplication by a fixed scalar is a masked 8x8 bit
+ * matrix over the planes, and multiplication of two blocks is the schoolbook product of the planes followed by
+ * reduction modulo 0x11B. Inversion is {@code a^254} by a fixed square-and-multiply chain. None of these branch
+ * on or index memory by the data, so their timing does not depend on it.
+ * <p>
+ * Packing uses three delta-swap stages that exchange the bit-within-byte index with the word index of the eight
+ * little-endian words of a block. The stages are involutions that commute, so the same transform also unpacks.
+ * Bytes therefore sit in the planes in a fixed permuted order, which is irrelevant for lane-wise arithmetic.
+ * <p>
+ * Blocks are addressed as {@code planes[at, at + 8)}, so many blocks can share one {@code long[]}.
+ */
+public final class BitslicedGf256 {
+
+    public static final int BLOCK_BYTES = 64;
+    public static final int PLANES = 8;
+    /** Length of the mask matrix of one scalar, see {@link #scalarMasks}. */
+    public static final int MASKS = PLANES * PLANES;
+    /** Entries of one half of a {@link #subsetTables} table: the XORs of all subsets of four planes. */
+    public static final int SUBSETS = 16;
+
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private static final int POLYNOMIAL = 0x11B;
+    private static final long SWAP_1 = 0x5555555555555555L;
+    private static final long SWAP_2 = 0x3333333333333333L;
+    private static final long SWAP_4 = 0x0F0F0F0F0F0F0F0FL;
+
+    private BitslicedGf256() {  }
+
+    /**
+     * Packs {@code src[off, off + len)} for {@code len <= 64} into {@code planes[at, at + 8)}, padding with zero
+     * bytes.
+     */
+    public static void load(byte[] src, int off, int len, long[] planes, int at) {
+        if (len < BLOCK_BYTES) {
+            byte[] block = new byte[BLOCK_BYTES];
+            System.arraycopy(src, off, block, 0, len);
+            load(block, 0, BLOCK_BYTES, planes, at);
+            Arrays.fill(block, (byte) 0);
+            return;
+        }
+        for (int i = 0; i < PLANES; i++) {
+            planes[at + i] = (long) LONGS.get(src, off + i * Long.BYTES);
+        }
+        transpose(planes, at);
+    }
+
+    /**
+     * Unpacks the first {@code len <= 64} bytes of {@code planes[at, at + 8)} into {@code dst[off, off + len)}. The
+     * planes are unpacked in place and no longer hold the block afterwards.
+     */
+    public static void store(long[] planes, int at, byte[] dst, int off, int len) {
+        transpose(planes, at);
+        if (len < BLOCK_BYTES) {
+            byte[] block = new byte[BLOCK_BYTES];
+            for (int i = 0; i < PLANES; i++) LONGS.set(block, i * Long.BYTES, planes[at + i]);
+            System.arraycopy(block, 0, dst, off, len);
+            Arrays.fill(block, (byte) 0);
+            return;
+        }
+        for (int i = 0; i < PLANES; i++) {
+            LONGS.set(dst, off + i * Long.BYTES, planes[at + i]);
+        }
+    }
+
+    /**
+     * Like {@link #store}, but XORs the unpacked bytes into {@code dst[off, off + len)}.
+     */
+    public static void storeXor(long[] planes, int at, byte[] dst, int off, int len) {
+        transpose(planes, at);
+        if (len < BLOCK_BYTES) {
+            byte[] block = new byte[BLOCK_BYTES];
+            for (int i = 0; i < PLANES; i++) LONGS.set(block, i * Long.BYTES, planes[at + i]);
+            for (int i = 0; i < len; i++) dst[off + i] ^= block[i];
+            Arrays.fill(block, (byte) 0);
+            return;
+        }
+        for (int i = 0; i < PLANES; i++) {
+            int word = off + i * Long.BYTES;
+            LONGS.set(dst, word, (long) LONGS.get(dst, word) ^ planes[at + i]);
+        }
+    }
+
+    /**
+     * Writes the bit matrix of multiplication by {@code scalar} to {@code masks[at, at + 64)}:
+     * {@code masks[at + 8 * b + a]} is all ones iff bit {@code b} of {@code scalar * x^a} is set.
+     */
+    public static void scalarMasks(byte scalar, long[] masks, int at) {
+        int column = scalar & 0xFF;
+        for (int a = 0; a < PLANES; a++) {
+            for (int b = 0; b < PLANES; b++) {
+                masks[at + PLANES * b + a] = -((column >>> b) & 1);
+            }
+            column = ((column << 1) ^ (-(column >>> 7) & POLYNOMIAL)) & 0xFF;
+        }
+    }
+
+    /**
+     * {@code acc ^= scalar * in} lane-wise, with the mask matrix of {@code scalar} at {@code masks[maskAt]}.
+     */
+    public static void mulAddScalar(long[] in, int inAt, long[] masks, int maskAt, long[] acc, int accAt) {
+        long p0 = in[inAt], p1 = in[inAt + 1], p2 = in[inAt + 2], p3 = in[inAt + 3];
+        long p4 = in[inAt + 4], p5 = in[inAt + 5], p6 = in[inAt + 6], p7 = in[inAt + 7];
+        for (int b = 0; b < PLANES; b++) {
+            int m = maskAt + PLANES * b;
+            acc[accAt + b] ^= p0 & masks[m] ^ p1 & masks[m + 1] ^ p2 & masks[m + 2] ^ p3 & masks[m + 3]
+                    ^ p4 & masks[m + 4] ^ p5 & masks[m + 5] ^ p6 & masks[m + 6] ^ p7 & masks[m + 7];
+        }
+    }
+
+    /**
+     * Writes the XOR of every subset of planes 0-3 of a block to {@code tables[at + s]} and of planes 4-7 to
+     * {@code tables[at + 16 + s]}, for subset bitmasks {@code s} in 0..15.
+     * <p>
+     * Multiplying by any scalar then takes two table reads per output plane, see {@link #scalarSelectors}. Only the
+     * scalar picks the entries, so this pays off when one block is multiplied by several public scalars.
+     */
+    public static void subsetTables(long[] planes, int planesAt, long[] tables, int at) {
+        tables[at] = 0;
+        tables[at + SUBSETS] = 0;
+        for (int s = 1; s < SUBSETS; s++) {
+            int low = Integer.numberOfTrailingZeros(s);
+            tables[at + s] = tables[at + (s & (s - 1))] ^ planes[planesAt + low];
+            tables[at + SUBSETS + s] = tables[at + SUBSETS + (s & (s - 1))] ^ planes[planesAt + 4 + low];
+        }
+    }
+
+    /**
+     * Writes the {@link #subsetTables} entries that make up multiplication by {@code scalar} to
+     * {@code selectors[at, at + 16)}: output plane {@code b} is
+     * {@code tables[selectors[at + b]] ^ tables[16 + selectors[at + 8 + b]]}.
+     */
+    public static void scalarSelectors(byte scalar, int[] selectors, int at) {
+        Arrays.fill(selectors, at, at + 2 * PLANES, 0);
+        int column = scalar & 0xFF;
+        for (int a = 0; a < PLANES; a++) {
+            int half = a < 4 ? at : at + PLANES;
+            for (int b = 0; b < PLANES; b++) {
+                selectors[half + b] |= ((column >>> b) & 1) << (a & 3);
+            }
+            column = ((column << 1) ^ (-(column >>> 7) & POLYNOMIAL)) & 0xFF;
+        }
+    }
+
+    /**
+     * {@code out = a * b} lane-wise for single blocks. {@code out} may alias either operand.
+     */
+    public static void mul(long[] a, long[] b, long[] out) {
+        long[] t = new long[2 * PLANES - 1];
+        for (int i = 0; i < PLANES; i++) {
+            long ai = a[i];
+            for (int j = 0; j < PLANES; j++) {
+                t[i + j] ^= ai & b[j];
+            }
+        }
+        // x^8 = x^4 + x^3 + x + 1; top down so that carries into degrees >= 8 are reduced as well.
+        for (int i = 2 * PLANES - 2; i >= PLANES; i--) {
+            t[i - 8] ^= t[i];
+            t[i - 7] ^= t[i];
+            t[i - 5] ^= t[i];
+            t[i - 4] ^= t[i];
+        }
+        System.arraycopy(t, 0, out, 0, PLANES);
+        Arrays.fill(t, 0);
+    }
+
+    /**
+     * {@code out = a^-1} lane-wise for single blocks, computed as {@code a^254}, which maps 0 to 0 instead of
+     * failing. {@code out} may alias {@code a}.
+     */
+    public static void inv(long[] a, long[] out) {
+        long[] base = a.clone();
+        long[] result = a.clone();
+        // 254 = 0b11111110: after the leading bit, square and multiply six times, then square once more.
+        for (int i = 0; i < 6; i++) {
+            mul(result, result, result);
+            mul(result, base, result);
+        }
+        mul(result, result, result);
+        System.arraycopy(result, 0, out, 0, PLANES);
+        Arrays.fill(base, 0);
+        Arrays.fill(result, 0);
+    }
+
+    /**
+     * Exchanges bit {@code j} of the bit-within-byte index with bit {@code j} of the word index, for j = 0, 1, 2.
+     */
+    private static void transpose(long[] w, int at) {
+        swap(w, at, at + 1, 1, SWAP_1);
+        swap(w, at + 2, at + 3, 1, SWAP_1);
+        swap(w, at + 4, at + 5, 1, SWAP_1);
+        swap(w, at + 6, at + 7, 1, SWAP_1);
+        swap(w, at, at + 2, 2, SWAP_2);
+        swap(w, at + 1, at + 3, 2, SWAP_2);
+        swap(w, at + 4, at + 6, 2, SWAP_2);
+        swap(w, at + 5, at + 7, 2, SWAP_2);
+        swap(w, at, at + 4, 4, SWAP_4);
+        swap(w, at + 1, at + 5, 4, SWAP_4);
+        swap(w, at + 2, at + 6, 4, SWAP_4);
+        swap(w, at + 3, at + 7, 4, SWAP_4);
+    }
+
+    /** Swaps the high {@code shift} bits of each bit group of {@code w[lo]} with the low bits of {@code w[hi]}. */
+    private static void swap(long[] w, int lo, int hi, int shift, long mask) {
+        long t = ((w[lo] >>> shift) ^ w[hi]) & mask;
+        w[hi] ^= t;
+        w[lo] ^= t << shift;
+    }
+}
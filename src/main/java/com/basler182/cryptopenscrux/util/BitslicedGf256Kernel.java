@@ -0,0 +1,132 @@
+package com.basler182.cryptopenscrux.util;
+
+import java.util.Arrays;
+
+import static com.basler182.cryptopenscrux.util.BitslicedGf256.BLOCK_BYTES;
+import static com.basler182.cryptopenscrux.util.BitslicedGf256.MASKS;
+import static com.basler182.cryptopenscrux.util.BitslicedGf256.PLANES;
+
+/**
+ * Constant-time kernel on {@link BitslicedGf256} planes: no table lookups or branches depend on the data, and a
+ * short tail is padded to a full block, so the work depends only on the lengths.
+ * <p>
+ * Packing a block costs about half as much as multiplying it, so single-row operations gain little over the
+ * product table; they use the mask matrices and are constant time in the scalar as well. {@link #mulAddMatrix}
+ * packs each source row once per {@value #TILE_BYTES}-byte tile into subset tables and reuses them for every
+ * destination row, which is where splitting spends its time. The matrix entries pick the table entries, which is
+ * fine for its callers: Vandermonde powers and Lagrange weights derive from the public share indexes.
+ */
+final class BitslicedGf256Kernel implements Gf256Kernel {
+
+    /** Source bytes packed at a time by {@link #mulAddMatrix}; the planes of all rows of a tile stay in cache. */
+    static final int TILE_BYTES = 4096;
+
+    private static final int TILE_BLOCKS = TILE_BYTES / BLOCK_BYTES;
+    private static final int SUBSETS = BitslicedGf256.SUBSETS;
+    private static final int TABLE_LONGS = 2 * SUBSETS;
+
+    @Override
+    public void mulAdd(byte[] dst, int dstOff, byte[] src, int srcOff, int len, byte scalar) {
+        long[] masks = new long[MASKS];
+        BitslicedGf256.scalarMasks(scalar, masks, 0);
+        long[] planes = new long[2 * PLANES];
+        for (int i = 0; i < len; i += BLOCK_BYTES) {
+            int blockLen = Math.min(BLOCK_BYTES, len - i);
+            BitslicedGf256.load(src, srcOff + i, blockLen, planes, 0);
+            Arrays.fill(planes, PLANES, 2 * PLANES, 0);
+            BitslicedGf256.mulAddScalar(planes, 0, masks, 0, planes, PLANES);
+            BitslicedGf256.storeXor(planes, PLANES, dst, dstOff + i, blockLen);
+        }
+        Arrays.fill(planes, 0);
+    }
+
+    @Override
+    public void mul(byte[] dst, int dstOff, byte[] src, int srcOff, int len, byte scalar) {
+        long[] masks = new long[MASKS];
+        BitslicedGf256.scalarMasks(scalar, masks, 0);
+        long[] planes = new long[2 * PLANES];
+        for (int i = 0; i < len; i += BLOCK_BYTES) {
+            int blockLen = Math.min(BLOCK_BYTES, len - i);
+            BitslicedGf256.load(src, srcOff + i, blockLen, planes, 0);
+            Arrays.fill(planes, PLANES, 2 * PLANES, 0);
+            BitslicedGf256.mulAddScalar(planes, 0, masks, 0, planes, PLANES);
+            BitslicedGf256.store(planes, PLANES, dst, dstOff + i, blockLen);
+        }
+        Arrays.fill(planes, 0);
+    }
+
+    @Override
+    public void mulAddMatrix(byte[][] dst, int dstOff, byte[] matrix, int cols, byte[] src, int srcOff, int stride, int len) {
+        if (dst.length == 1) {
+            mulAddRow(dst[0], dstOff, matrix, cols, src, srcOff, stride, len);
+            return;
+        }
+        long[] planes = new long[PLANES];
+        long[] tables = new long[cols * TILE_BLOCKS * TABLE_LONGS];
+        int[] selectors = new int[cols * 2 * PLANES];
+        long[] acc = new long[PLANES];
+        try {
+            for (int tile = 0; tile < len; tile += TILE_BYTES) {
+                int tileLen = Math.min(TILE_BYTES, len - tile);
+                int blocks = (tileLen + BLOCK_BYTES - 1) / BLOCK_BYTES;
+                for (int c = 0; c < cols; c++) {
+                    for (int b = 0; b < blocks; b++) {
+                        int from = b * BLOCK_BYTES;
+                        BitslicedGf256.load(src, srcOff + c * stride + tile + from, Math.min(BLOCK_BYTES, tileLen - from), planes, 0);
+                        BitslicedGf256.subsetTables(planes, 0, tables, (c * TILE_BLOCKS + b) * TABLE_LONGS);
+                    }
+                }
+                for (int r = 0; r < dst.length; r++) {
+                    for (int c = 0; c < cols; c++) {
+                        BitslicedGf256.scalarSelectors(matrix[r * cols + c], selectors, c * 2 * PLANES);
+                    }
+                    for (int b = 0; b < blocks; b++) {
+                        Arrays.fill(acc, 0);
+                        for (int c = 0; c < cols; c++) {
+                            int t = (c * TILE_BLOCKS + b) * TABLE_LONGS;
+                            int s = c * 2 * PLANES;
+                            for (int q = 0; q < PLANES; q++) {
+                                acc[q] ^= tables[t + selectors[s + q]] ^ tables[t + SUBSETS + selectors[s + PLANES + q]];
+                            }
+                        }
+                        int from = b * BLOCK_BYTES;
+                        BitslicedGf256.storeXor(acc, 0, dst[r], dstOff + tile + from, Math.min(BLOCK_BYTES, tileLen - from));
+                    }
+                }
+            }
+        } finally {
+            Arrays.fill(planes, 0);
+            Arrays.fill(tables, 0);
+            Arrays.fill(acc, 0);
+        }
+    }
+
+    /**
+     * One destination row: every source block is packed once and used once, so the products are accumulated
+     * straight from the mask matrices without building subset tables.
+     */
+    private static void mulAddRow(byte[] dst, int dstOff, byte[] weights, int cols, byte[] src, int srcOff, int stride, int len) {
+        long[] masks = new long[cols * MASKS];
+        for (int c = 0; c < cols; c++) {
+            BitslicedGf256.scalarMasks(weights[c], masks, c * MASKS);
+        }
+        long[] planes = new long[PLANES];
+        long[] acc = new long[PLANES];
+        for (int i = 0; i < len; i += BLOCK_BYTES) {
+            int blockLen = Math.min(BLOCK_BYTES, len - i);
+            Arrays.fill(acc, 0);
+            for (int c = 0; c < cols; c++) {
+                BitslicedGf256.load(src, srcOff + c * stride + i, blockLen, planes, 0);
+                BitslicedGf256.mulAddScalar(planes, 0, masks, c * MASKS, acc, 0);
+            }
+            BitslicedGf256.storeXor(acc, 0, dst, dstOff + i, blockLen);
+        }
+        Arrays.fill(planes, 0);
+        Arrays.fill(acc, 0);
+    }
+
+    @Override
+    public String name() {
+        return "bitsliced";
+    }
+}
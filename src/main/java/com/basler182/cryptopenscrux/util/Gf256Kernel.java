@@ -0,0 +1,32 @@
+package com.basler182.cryptopenscrux.util;
+
+/**
+ * Bulk GF(256) operations over byte-array ranges. Implementations are selected once by {@link Gf256Util}.
+ */
+interface Gf256Kernel {
+
+    /**
+     * {@code dst[dstOff + i] ^= scalar * src[srcOff + i]} for {@code i} in {@code [0, len)}.
+     */
+    void mulAdd(byte[] dst, int dstOff, byte[] src, int srcOff, int len, byte scalar);
+
+    /**
+     * {@code dst[dstOff + i] = scalar * src[srcOff + i]} for {@code i} in {@code [0, len)}.
+     */
+    void mul(byte[] dst, int dstOff, byte[] src, int srcOff, int len, byte scalar);
+
+    /**
+     * {@code dst[r][dstOff + i] ^= sum_c matrix[r * cols + c] * src[srcOff + c * stride + i]} for every row
+     * {@code r} of {@code dst} and {@code i} in {@code [0, len)}. Kernels that pay a per-call setup for each
+     * source row override this to do it once for all rows.
+     */
+    default void mulAddMatrix(byte[][] dst, int dstOff, byte[] matrix, int cols, byte[] src, int srcOff, int stride, int len) {
+        for (int r = 0; r < dst.length; r++) {
+            for (int c = 0; c < cols; c++) {
+                mulAdd(dst[r], dstOff, src, srcOff + c * stride, len, matrix[r * cols + c]);
+            }
+        }
+    }
+
+    String name();
+}
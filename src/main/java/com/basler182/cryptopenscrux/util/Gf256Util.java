@@ -1,7 +1,68 @@
 package com.basler182.cryptopenscrux.util;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Arithmetic in GF(2^8) with the AES reduction polynomial x^8 + x^4 + x^3 + x + 1 (0x11B).
+ * <p>
+ * All operations are table driven: log/exp tables (generator 0x03), a full inverse table and a
+ * 256x256 product table that backs the bulk byte-array operations.
+ * <p>
+ * Bulk operations run on a SIMD kernel when the {@code jdk.incubator.vector} module is enabled
+ * ({@code --add-modules jdk.incubator.vector}) and fall back to a scalar kernel otherwise. Setting the
+ * system property {@value #VECTOR_PROPERTY} to {@code false} forces the scalar kernel. Setting
+ * {@value #CONSTANT_TIME_PROPERTY} to {@code true} selects the {@link BitslicedGf256} kernel instead, whose timing
+ * does not depend on the bytes processed; the single-element operations stay table driven and are meant for
+ * public values such as share indexes and Lagrange weights.
+ * <p>
+ * That covers splitting, combining and refreshing, which touch share bytes only through the bulk operations.
+ * {@link BerlekampWelch}, and with it {@code CryptoService.combineSharesRobust}, multiplies and inverts share bytes
+ * with the single-element operations and branches on them, so it is not constant time in either mode.
+ */
 public final class Gf256Util {
 
+    private static final Logger LOG = LoggerFactory.getLogger(Gf256Util.class);
+
+    public static final String VECTOR_PROPERTY = "cryptopenscrux.gf256.vector";
+    public static final String CONSTANT_TIME_PROPERTY = "cryptopenscrux.gf256.constant-time";
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final String VECTOR_KERNEL_CLASS = "com.basler182.cryptopenscrux.util.VectorGf256Kernel";
+
+    private static final int POLYNOMIAL = 0x11B;
+    private static final int GENERATOR = 0x03;
+
+    /** exp[i] = g^i, doubled in length so that exp[log a + log b] needs no modulo. */
+    private static final byte[] EXP_TABLE = new byte[512];
+    /** log[a] for a != 0; log[0] is unused. */
+    private static final int[] LOG_TABLE = new int[256];
+    private static final byte[] INV = new byte[256];
+    /** MUL[a][b] = a * b; each row is the multiplication table of one scalar. */
+    private static final byte[][] MUL = new byte[256][256];
+
+    private static final Gf256Kernel KERNEL;
+
+    static {
+        int x = 1;
+        for (int i = 0; i < 255; i++) {
+            EXP_TABLE[i] = (byte) x;
+            LOG_TABLE[x] = i;
+            x = mulSlow(x, GENERATOR);
+        }
+        for (int i = 255; i < EXP_TABLE.length; i++) {
+            EXP_TABLE[i] = EXP_TABLE[i - 255];
+        }
+        for (int a = 1; a < 256; a++) {
+            INV[a] = EXP_TABLE[255 - LOG_TABLE[a]];
+        }
+        for (int a = 1; a < 256; a++) {
+            for (int b = 1; b < 256; b++) {
+                MUL[a][b] = EXP_TABLE[LOG_TABLE[a] + LOG_TABLE[b]];
+            }
+        }
+        KERNEL = selectKernel();
+    }
+
     private Gf256Util() {  }
 
     public static byte add(byte a, byte b) {
@@ -13,34 +74,156 @@ public final class Gf256Util {
     }
 
     public static byte mul(byte a, byte b) {
-        int p = 0;
-        int aa = Byte.toUnsignedInt(a);
-        int bb = Byte.toUnsignedInt(b);
-        for (int i = 0; i < 8; i++) {
-            if ((bb & 1) != 0) p ^= aa;
-            boolean carry = (aa & 0x80) != 0;
-            aa <<= 1;
-            if (carry) aa ^= 0x11B;
-            bb >>= 1;
-        }
-        return (byte) p;
+        return MUL[a & 0xFF][b & 0xFF];
     }
 
     public static byte div(byte a, byte b) {
         if (b == 0) throw new ArithmeticException("Division of 0 in GF(256)");
-        return mul(a, inv(b));
+        if (a == 0) return 0;
+        return EXP_TABLE[LOG_TABLE[a & 0xFF] + 255 - LOG_TABLE[b & 0xFF]];
     }
 
     public static byte inv(byte a) {
         if (a == 0) throw new ArithmeticException("Inverse of 0 not defined");
-        byte result = 1;
-        byte base = a;
-        int exp = 254; // a^(2^8-2)
-        while (exp > 0) {
-            if ((exp & 1) != 0) result = mul(result, base);
-            base = mul(base, base);
-            exp >>= 1;
-        }
-        return result;
+        return INV[a & 0xFF];
+    }
+
+    /**
+     * Returns {@code a^e} for {@code e >= 0}; {@code 0^0} is defined as 1.
+     */
+    public static byte pow(byte a, int e) {
+        if (e < 0) throw new IllegalArgumentException("Exponent must be >= 0");
+        if (e == 0) return 1;
+        if (a == 0) return 0;
+        return EXP_TABLE[(int) ((long) LOG_TABLE[a & 0xFF] * e % 255)];
+    }
+
+    /**
+     * Returns the multiplication table row of {@code scalar}, i.e. {@code row[b] == scalar * b}.
+     * The returned array is shared and must not be modified.
+     */
+    static byte[] mulRow(byte scalar) {
+        return MUL[scalar & 0xFF];
+    }
+
+    /**
+     * {@code dst[i] ^= scalar * src[i]} for all {@code i} in {@code [0, dst.length)}.
+     */
+    public static void mulAdd(byte[] dst, byte[] src, byte scalar) {
+        if (src.length < dst.length) throw new IllegalArgumentException("src shorter than dst");
+        mulAdd(dst, 0, src, 0, dst.length, scalar);
+    }
+
+    /**
+     * {@code dst[dstOff + i] ^= scalar * src[srcOff + i]} for {@code i} in {@code [0, len)}.
+     */
+    public static void mulAdd(byte[] dst, int dstOff, byte[] src, int srcOff, int len, byte scalar) {
+        KERNEL.mulAdd(dst, dstOff, src, srcOff, len, scalar);
+    }
+
+    /**
+     * {@code dst[i] = scalar * src[i]} for all {@code i} in {@code [0, dst.length)}.
+     */
+    public static void mul(byte[] dst, byte[] src, byte scalar) {
+        if (src.length < dst.length) throw new IllegalArgumentException("src shorter than dst");
+        mul(dst, 0, src, 0, dst.length, scalar);
+    }
+
+    /**
+     * {@code dst[dstOff + i] = scalar * src[srcOff + i]} for {@code i} in {@code [0, len)}.
+     */
+    public static void mul(byte[] dst, int dstOff, byte[] src, int srcOff, int len, byte scalar) {
+        KERNEL.mul(dst, dstOff, src, srcOff, len, scalar);
+    }
+
+    /**
+     * {@code dst[r][dstOff + i] ^= sum_c matrix[r * cols + c] * src[srcOff + c * stride + i]} for every row
+     * {@code r} of {@code dst} and {@code i} in {@code [0, len)}: the {@code cols} source rows, {@code stride}
+     * bytes apart, are combined into each destination row with the weights of its matrix row.
+     */
+    public static void mulAddMatrix(byte[][] dst, int dstOff, byte[] matrix, int cols, byte[] src, int srcOff, int stride, int len) {
+        if (matrix.length < dst.length * cols) throw new IllegalArgumentException("matrix smaller than rows * cols");
+        KERNEL.mulAddMatrix(dst, dstOff, matrix, cols, src, srcOff, stride, len);
+    }
+
+    /**
+     * Evaluates the polynomial with the given coefficients (lowest degree first) at {@code x}.
+     */
+    public static byte evaluate(byte[] coeffs, byte x) {
+        byte[] row = MUL[x & 0xFF];
+        int result = 0;
+        for (int i = coeffs.length - 1; i >= 0; i--) {
+            result = (row[result] ^ coeffs[i]) & 0xFF;
+        }
+        return (byte) result;
+    }
+
+    /**
+     * Lagrange basis polynomials evaluated at zero for the given distinct, non-zero x coordinates:
+     * {@code l_i(0) = prod_{j != i} x_j / (x_i - x_j)}. The secret is then {@code sum_i l_i(0) * y_i}.
+     */
+    public static byte[] lagrangeWeightsAtZero(byte[] xCoords) {
+        return lagrangeWeightsAt(xCoords, (byte) 0);
+    }
+
+    /**
+     * Lagrange basis polynomials evaluated at {@code x}: {@code l_i(x) = prod_{j != i} (x - x_j) / (x_i - x_j)},
+     * so that {@code p(x) = sum_i l_i(x) * p(x_i)} for any polynomial of degree below {@code xCoords.length}.
+     */
+    public static byte[] lagrangeWeightsAt(byte[] xCoords, byte x) {
+        byte[] weights = new byte[xCoords.length];
+        for (int i = 0; i < xCoords.length; i++) {
+            byte numerator = 1;
+            byte denominator = 1;
+            for (int j = 0; j < xCoords.length; j++) {
+                if (i == j) continue;
+                numerator = mul(numerator, sub(x, xCoords[j]));
+                denominator = mul(denominator, sub(xCoords[i], xCoords[j]));
+            }
+            weights[i] = div(numerator, denominator);
+        }
+        return weights;
+    }
+
+    /**
+     * Name of the bulk kernel in use, e.g. {@code scalar}, {@code vector-256} or {@code bitsliced}.
+     */
+    public static String kernelName() {
+        return KERNEL.name();
+    }
+
+    /** Returns the SIMD kernel, or {@code null} when the Vector API is not available. */
+    static Gf256Kernel vectorKernelOrNull() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) return null;
+        try {
+            return (Gf256Kernel) Class.forName(VECTOR_KERNEL_CLASS).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError | IllegalStateException e) {
+            LOG.debug("Vector kernel unavailable: {}.", e.toString());
+            return null;
+        }
+    }
+
+    private static Gf256Kernel selectKernel() {
+        Gf256Kernel kernel = null;
+        if (Boolean.getBoolean(CONSTANT_TIME_PROPERTY)) {
+            kernel = new BitslicedGf256Kernel();
+        } else if (!"false".equalsIgnoreCase(System.getProperty(VECTOR_PROPERTY))) {
+            kernel = vectorKernelOrNull();
+        }
+        if (kernel == null) kernel = new ScalarGf256Kernel();
+        LOG.debug("GF(256) bulk kernel: {}.", kernel.name());
+        return kernel;
+    }
+
+    /** Reference shift-and-add multiplication, only used to build the tables. */
+    private static int mulSlow(int a, int b) {
+        int p = 0;
+        for (int i = 0; i < 8; i++) {
+            if ((b & 1) != 0) p ^= a;
+            a <<= 1;
+            if ((a & 0x100) != 0) a ^= POLYNOMIAL;
+            b >>= 1;
+        }
+        return p;
     }
 }
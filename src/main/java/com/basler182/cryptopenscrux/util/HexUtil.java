@@ -1,5 +1,8 @@
 package com.basler182.cryptopenscrux.util;
 
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
 public final class HexUtil {
 
     private HexUtil() {
@@ -7,24 +10,133 @@ public final class HexUtil {
 
     public static final char[] HEX_ARRAY = "0123456789ABCDEF".toCharArray();
 
+    private static final byte[] HEX_ASCII = {
+            '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'A', 'B', 'C', 'D', 'E', 'F'
+    };
+
+    /** Nibble value per ASCII character, -1 for characters that are not hex digits (either case). */
+    private static final byte[] DIGITS = new byte[128];
+
+    static {
+        Arrays.fill(DIGITS, (byte) -1);
+        for (int i = 0; i < 10; i++) {
+            DIGITS['0' + i] = (byte) i;
+        }
+        for (int i = 0; i < 6; i++) {
+            DIGITS['A' + i] = (byte) (10 + i);
+            DIGITS['a' + i] = (byte) (10 + i);
+        }
+    }
+
     public static String bytesToHex(byte[] bytes) {
         char[] hexChars = new char[bytes.length * 2];
-        for (int j = 0; j < bytes.length; j++) {
-            int v = bytes[j] & 0xFF;
-            hexChars[j * 2] = HEX_ARRAY[v >>> 4];
-            hexChars[j * 2 + 1] = HEX_ARRAY[v & 0x0F];
-        }
+        encode(bytes, 0, bytes.length, hexChars, 0);
         return new String(hexChars);
     }
 
     public static byte[] hexToBytes(String s) {
+        return hexToBytes((CharSequence) s);
+    }
+
+    /**
+     * Decodes a hex string (either case) into a new array.
+     *
+     * @throws IllegalArgumentException on odd length or non-hex characters
+     */
+    public static byte[] hexToBytes(CharSequence s) {
         int len = s.length();
         if (len % 2 != 0) throw new IllegalArgumentException("Hex string must have even length");
         byte[] data = new byte[len / 2];
-        for (int i = 0; i < len; i += 2) {
-            data[i / 2] = (byte) ((Character.digit(s.charAt(i), 16) << 4)
-                    + Character.digit(s.charAt(i + 1), 16));
-        }
+        decode(s, 0, len, data, 0);
         return data;
     }
+
+    /**
+     * Decodes {@code s[from, to)} into {@code dst} starting at {@code dstOff}.
+     *
+     * @return the number of bytes written
+     * @throws IllegalArgumentException on odd length or non-hex characters
+     */
+    public static int decode(CharSequence s, int from, int to, byte[] dst, int dstOff) {
+        int len = checkDecodeRange(s, from, to);
+        if (dst.length - dstOff < len) throw new IllegalArgumentException("Destination too small");
+        for (int i = from, j = dstOff; i < to; i += 2, j++) {
+            dst[j] = decodeByte(s, i);
+        }
+        return len;
+    }
+
+    /**
+     * Decodes {@code s[from, to)} at the position of {@code dst} and advances it.
+     *
+     * @return the number of bytes written
+     * @throws IllegalArgumentException on odd length or non-hex characters
+     */
+    public static int decode(CharSequence s, int from, int to, ByteBuffer dst) {
+        int len = checkDecodeRange(s, from, to);
+        if (dst.remaining() < len) throw new IllegalArgumentException("Destination too small");
+        for (int i = from; i < to; i += 2) {
+            dst.put(decodeByte(s, i));
+        }
+        return len;
+    }
+
+    /**
+     * Writes {@code 2 * len} uppercase hex characters for {@code src[off, off + len)} into {@code dst} at
+     * {@code dstOff}.
+     *
+     * @return the number of characters written
+     */
+    public static int encode(byte[] src, int off, int len, char[] dst, int dstOff) {
+        if (dst.length - dstOff < len * 2) throw new IllegalArgumentException("Destination too small");
+        for (int i = 0; i < len; i++) {
+            int v = src[off + i] & 0xFF;
+            dst[dstOff + i * 2] = HEX_ARRAY[v >>> 4];
+            dst[dstOff + i * 2 + 1] = HEX_ARRAY[v & 0x0F];
+        }
+        return len * 2;
+    }
+
+    /**
+     * Appends uppercase hex characters for {@code src[off, off + len)} to {@code sb}.
+     */
+    public static StringBuilder encode(byte[] src, int off, int len, StringBuilder sb) {
+        sb.ensureCapacity(sb.length() + len * 2);
+        for (int i = 0; i < len; i++) {
+            int v = src[off + i] & 0xFF;
+            sb.append(HEX_ARRAY[v >>> 4]).append(HEX_ARRAY[v & 0x0F]);
+        }
+        return sb;
+    }
+
+    /**
+     * Writes uppercase hex for {@code src[off, off + len)} as ASCII bytes at the position of {@code dst} and
+     * advances it.
+     *
+     * @return the number of bytes written
+     */
+    public static int encode(byte[] src, int off, int len, ByteBuffer dst) {
+        if (dst.remaining() < len * 2) throw new IllegalArgumentException("Destination too small");
+        for (int i = 0; i < len; i++) {
+            int v = src[off + i] & 0xFF;
+            dst.put(HEX_ASCII[v >>> 4]).put(HEX_ASCII[v & 0x0F]);
+        }
+        return len * 2;
+    }
+
+    private static int checkDecodeRange(CharSequence s, int from, int to) {
+        if (from < 0 || to > s.length() || from > to) throw new IndexOutOfBoundsException("Invalid range");
+        if ((to - from) % 2 != 0) throw new IllegalArgumentException("Hex string must have even length");
+        return (to - from) / 2;
+    }
+
+    private static byte decodeByte(CharSequence s, int i) {
+        char c1 = s.charAt(i);
+        char c2 = s.charAt(i + 1);
+        if ((c1 | c2) >= 128) throw new IllegalArgumentException("Invalid hex character at index " + i);
+        int hi = DIGITS[c1];
+        int lo = DIGITS[c2];
+        if ((hi | lo) < 0) throw new IllegalArgumentException("Invalid hex character at index " + i);
+        return (byte) ((hi << 4) | lo);
+    }
 }
@@ -0,0 +1,35 @@
+package com.basler182.cryptopenscrux.util;
+
+/**
+ * Portable kernel that walks the product table row of the scalar one byte at a time.
+ */
+final class ScalarGf256Kernel implements Gf256Kernel {
+
+    @Override
+    public void mulAdd(byte[] dst, int dstOff, byte[] src, int srcOff, int len, byte scalar) {
+        if (scalar == 0) return;
+        if (scalar == 1) {
+            for (int i = 0; i < len; i++) {
+                dst[dstOff + i] ^= src[srcOff + i];
+            }
+            return;
+        }
+        byte[] row = Gf256Util.mulRow(scalar);
+        for (int i = 0; i < len; i++) {
+            dst[dstOff + i] ^= row[src[srcOff + i] & 0xFF];
+        }
+    }
+
+    @Override
+    public void mul(byte[] dst, int dstOff, byte[] src, int srcOff, int len, byte scalar) {
+        byte[] row = Gf256Util.mulRow(scalar);
+        for (int i = 0; i < len; i++) {
+            dst[dstOff + i] = row[src[srcOff + i] & 0xFF];
+        }
+    }
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+}
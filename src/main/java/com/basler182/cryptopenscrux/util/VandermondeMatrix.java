@@ -0,0 +1,83 @@
+package com.basler182.cryptopenscrux.util;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The n×(k-1) Vandermonde matrix {@code V[x][j] = x^j} (x = 1..n, j = 1..k-1) that turns the random coefficients
+ * of a threshold-k Shamir polynomial into n shares, cached per (k, n).
+ * <p>
+ * Splitting is the matrix product {@code shares = secret + V · coeffs}, where {@code coeffs} is coefficient-major:
+ * row {@code j - 1} holds the j-th coefficient of every byte's polynomial. {@link #encode} computes it in blocks
+ * of {@value #BLOCK_SIZE} bytes so that a block of every coefficient row stays in L1 while all n shares are
+ * accumulated from it.
+ */
+public final class VandermondeMatrix {
+
+    public static final int BLOCK_SIZE = 4096;
+
+    private static final AtomicReferenceArray<VandermondeMatrix> CACHE = new AtomicReferenceArray<>(256 * 256);
+
+    private final int k;
+    private final int n;
+    /** {@code powers[(x - 1) * (k - 1) + (j - 1)] = x^j}. */
+    private final byte[] powers;
+
+    private VandermondeMatrix(int k, int n) {
+        this.k = k;
+        this.n = n;
+        this.powers = new byte[n * (k - 1)];
+        for (int x = 1; x <= n; x++) {
+            byte power = 1;
+            for (int j = 1; j < k; j++) {
+                power = Gf256Util.mul(power, (byte) x);
+                powers[(x - 1) * (k - 1) + (j - 1)] = power;
+            }
+        }
+    }
+
+    /**
+     * Returns the cached matrix for threshold {@code k} and {@code n} shares ({@code 1 <= k <= n <= 255}).
+     */
+    public static VandermondeMatrix of(int k, int n) {
+        if (k < 1 || n < k || n > 255) throw new IllegalArgumentException("Invalid scheme: k=" + k + ", n=" + n);
+        int slot = (k << 8) | n;
+        VandermondeMatrix matrix = CACHE.get(slot);
+        if (matrix == null) {
+            VandermondeMatrix created = new VandermondeMatrix(k, n);
+            matrix = CACHE.compareAndExchange(slot, null, created);
+            if (matrix == null) matrix = created;
+        }
+        return matrix;
+    }
+
+    public int threshold() {
+        return k;
+    }
+
+    public int shareCount() {
+        return n;
+    }
+
+    /** {@code x^j} for share {@code x} in 1..n and coefficient {@code j} in 1..k-1. */
+    public byte entry(int x, int j) {
+        return powers[(x - 1) * (k - 1) + (j - 1)];
+    }
+
+    /**
+     * Writes share {@code x} of {@code secret[secretOff, secretOff + len)} to
+     * {@code shares[x - 1][outOff, outOff + len)} for {@code x = 1..n}.
+     *
+     * @param coeffs the {@code k - 1} coefficient rows back to back, row {@code j - 1} at {@code (j - 1) * len}
+     */
+    public void encode(byte[] secret, int secretOff, byte[] coeffs, int len, byte[][] shares, int outOff) {
+        if (shares.length != n) throw new IllegalArgumentException("Expected " + n + " share outputs");
+        if (coeffs.length < (k - 1) * len) throw new IllegalArgumentException("Coefficient block too small");
+        for (int block = 0; block < len; block += BLOCK_SIZE) {
+            int blockLen = Math.min(BLOCK_SIZE, len - block);
+            for (byte[] share : shares) {
+                System.arraycopy(secret, secretOff + block, share, outOff + block, blockLen);
+            }
+            Gf256Util.mulAddMatrix(shares, outOff + block, powers, k - 1, coeffs, block, len, blockLen);
+        }
+    }
+}
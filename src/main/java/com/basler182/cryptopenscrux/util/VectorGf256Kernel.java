@@ -0,0 +1,90 @@
+package com.basler182.cryptopenscrux.util;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD kernel based on the incubating JDK Vector API.
+ * <p>
+ * Multiplication by a fixed scalar {@code c} is split into two 16-entry lookups,
+ * {@code c * b == lo[b & 0x0F] ^ hi[b >>> 4]}, which map onto byte shuffles. Only loaded through
+ * reflection when the {@code jdk.incubator.vector} module is present, so nothing else may reference
+ * this class directly.
+ */
+final class VectorGf256Kernel implements Gf256Kernel {
+
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+
+    /** Below this length the tail loop is cheaper than setting up the nibble tables. */
+    private static final int MIN_VECTOR_LENGTH = 2 * LANES;
+
+    private final byte[][] loTables = new byte[256][];
+    private final byte[][] hiTables = new byte[256][];
+    private final ScalarGf256Kernel scalar = new ScalarGf256Kernel();
+
+    VectorGf256Kernel() {
+        if (LANES < 16) {
+            throw new IllegalStateException("Preferred byte species too narrow for nibble shuffles: " + SPECIES);
+        }
+        for (int c = 0; c < 256; c++) {
+            byte[] row = Gf256Util.mulRow((byte) c);
+            byte[] lo = new byte[LANES];
+            byte[] hi = new byte[LANES];
+            for (int i = 0; i < LANES; i++) {
+                lo[i] = row[i & 0x0F];
+                hi[i] = row[(i & 0x0F) << 4];
+            }
+            loTables[c] = lo;
+            hiTables[c] = hi;
+        }
+    }
+
+    @Override
+    public void mulAdd(byte[] dst, int dstOff, byte[] src, int srcOff, int len, byte scalar) {
+        if (scalar == 0) return;
+        if (len < MIN_VECTOR_LENGTH) {
+            this.scalar.mulAdd(dst, dstOff, src, srcOff, len, scalar);
+            return;
+        }
+        ByteVector lo = ByteVector.fromArray(SPECIES, loTables[scalar & 0xFF], 0);
+        ByteVector hi = ByteVector.fromArray(SPECIES, hiTables[scalar & 0xFF], 0);
+        int bound = SPECIES.loopBound(len);
+        int i = 0;
+        for (; i < bound; i += LANES) {
+            ByteVector v = ByteVector.fromArray(SPECIES, src, srcOff + i);
+            ByteVector acc = ByteVector.fromArray(SPECIES, dst, dstOff + i);
+            acc.lanewise(VectorOperators.XOR, product(v, lo, hi)).intoArray(dst, dstOff + i);
+        }
+        this.scalar.mulAdd(dst, dstOff + i, src, srcOff + i, len - i, scalar);
+    }
+
+    @Override
+    public void mul(byte[] dst, int dstOff, byte[] src, int srcOff, int len, byte scalar) {
+        if (len < MIN_VECTOR_LENGTH) {
+            this.scalar.mul(dst, dstOff, src, srcOff, len, scalar);
+            return;
+        }
+        ByteVector lo = ByteVector.fromArray(SPECIES, loTables[scalar & 0xFF], 0);
+        ByteVector hi = ByteVector.fromArray(SPECIES, hiTables[scalar & 0xFF], 0);
+        int bound = SPECIES.loopBound(len);
+        int i = 0;
+        for (; i < bound; i += LANES) {
+            ByteVector v = ByteVector.fromArray(SPECIES, src, srcOff + i);
+            product(v, lo, hi).intoArray(dst, dstOff + i);
+        }
+        this.scalar.mul(dst, dstOff + i, src, srcOff + i, len - i, scalar);
+    }
+
+    private static ByteVector product(ByteVector v, ByteVector lo, ByteVector hi) {
+        ByteVector loIdx = v.and((byte) 0x0F);
+        ByteVector hiIdx = v.lanewise(VectorOperators.LSHR, 4).and((byte) 0x0F);
+        return loIdx.selectFrom(lo).lanewise(VectorOperators.XOR, hiIdx.selectFrom(hi));
+    }
+
+    @Override
+    public String name() {
+        return "vector-" + SPECIES.vectorBitSize();
+    }
+}
@@ -0,0 +1,138 @@
+package com.basler182.cryptopenscrux.vault;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Open-addressing hash table from {@code (setId, index)} to a record offset, stored in a direct
+ * {@link ByteBuffer} so that millions of entries add no heap objects.
+ * <p>
+ * Each slot is {@value #SLOT_SIZE} bytes: set ID, offset, and {@code index + 1} (0 marks an empty slot). Collisions
+ * use linear probing, removals use backward-shift deletion so no tombstones accumulate, and the table doubles once
+ * it is half full.
+ */
+final class OffHeapIndex {
+
+    static final int SLOT_SIZE = 24;
+    static final long ABSENT = -1;
+
+    /** Largest capacity whose table still fits in one buffer. */
+    private static final int MAX_CAPACITY = 1 << 26;
+
+    @FunctionalInterface
+    interface EntryConsumer {
+        void accept(long setId, int index, long offset);
+    }
+
+    private ByteBuffer table;
+    private int mask;
+    private int size;
+
+    OffHeapIndex(int initialCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(16, initialCapacity) * 2 - 1);
+        allocate(capacity);
+    }
+
+    int size() {
+        return size;
+    }
+
+    long get(long setId, int index) {
+        for (int slot = home(setId, index); ; slot = (slot + 1) & mask) {
+            int base = slot * SLOT_SIZE;
+            int stored = table.getInt(base + 16);
+            if (stored == 0) return ABSENT;
+            if (stored == index + 1 && table.getLong(base) == setId) return table.getLong(base + 8);
+        }
+    }
+
+    /** Maps the key to {@code offset} and returns the previous offset, or {@link #ABSENT}. */
+    long put(long setId, int index, long offset) {
+        if ((size + 1) * 2 > mask + 1) grow();
+        for (int slot = home(setId, index); ; slot = (slot + 1) & mask) {
+            int base = slot * SLOT_SIZE;
+            int stored = table.getInt(base + 16);
+            if (stored == 0) {
+                write(base, setId, index, offset);
+                size++;
+                return ABSENT;
+            }
+            if (stored == index + 1 && table.getLong(base) == setId) {
+                long previous = table.getLong(base + 8);
+                table.putLong(base + 8, offset);
+                return previous;
+            }
+        }
+    }
+
+    /** Removes the key and returns its offset, or {@link #ABSENT}. */
+    long remove(long setId, int index) {
+        int slot = home(setId, index);
+        while (true) {
+            int base = slot * SLOT_SIZE;
+            int stored = table.getInt(base + 16);
+            if (stored == 0) return ABSENT;
+            if (stored == index + 1 && table.getLong(base) == setId) break;
+            slot = (slot + 1) & mask;
+        }
+        long removed = table.getLong(slot * SLOT_SIZE + 8);
+
+        // Backward shift: pull later entries of the probe run into the hole unless that would move them before
+        // their home slot.
+        int hole = slot;
+        for (int j = (hole + 1) & mask; ; j = (j + 1) & mask) {
+            int base = j * SLOT_SIZE;
+            int stored = table.getInt(base + 16);
+            if (stored == 0) break;
+            int home = home(table.getLong(base), stored - 1);
+            boolean movable = hole <= j ? (home <= hole || home > j) : (home <= hole && home > j);
+            if (movable) {
+                write(hole * SLOT_SIZE, table.getLong(base), stored - 1, table.getLong(base + 8));
+                hole = j;
+            }
+        }
+        table.putInt(hole * SLOT_SIZE + 16, 0);
+        size--;
+        return removed;
+    }
+
+    /** Visits every entry in slot order. The table must not be modified meanwhile. */
+    void forEach(EntryConsumer consumer) {
+        for (int slot = 0; slot <= mask; slot++) {
+            int base = slot * SLOT_SIZE;
+            int stored = table.getInt(base + 16);
+            if (stored != 0) consumer.accept(table.getLong(base), stored - 1, table.getLong(base + 8));
+        }
+    }
+
+    private void write(int base, long setId, int index, long offset) {
+        table.putLong(base, setId);
+        table.putLong(base + 8, offset);
+        table.putInt(base + 16, index + 1);
+    }
+
+    private void grow() {
+        ByteBuffer old = table;
+        int oldCapacity = mask + 1;
+        if (oldCapacity >= MAX_CAPACITY) throw new IllegalStateException("Vault index is full");
+        allocate(oldCapacity * 2);
+        size = 0;
+        for (int slot = 0; slot < oldCapacity; slot++) {
+            int base = slot * SLOT_SIZE;
+            int stored = old.getInt(base + 16);
+            if (stored != 0) put(old.getLong(base), stored - 1, old.getLong(base + 8));
+        }
+    }
+
+    private void allocate(int capacity) {
+        table = ByteBuffer.allocateDirect(capacity * SLOT_SIZE);
+        mask = capacity - 1;
+    }
+
+    private int home(long setId, int index) {
+        long h = setId * 0x9E3779B97F4A7C15L + index;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        return (int) h & mask;
+    }
+}
@@ -0,0 +1,568 @@
+package com.basler182.cryptopenscrux.vault;
+
+import com.basler182.cryptopenscrux.random.RandomnessProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * A local, append-only store of AES-GCM encrypted shares in one memory-mapped segment file.
+ * <p>
+ * The file is mapped in fixed-size windows; records never straddle a window, and the rest of a window that cannot
+ * hold the next record stays zero. Every record carries the offset of the previous record of the same share set,
+ * so the shares of a set form a chain that starts at the set's latest record. An {@link OffHeapIndex} maps
+ * {@code (setId, index)} to the live record of each share and {@code (setId, 0)} to the chain head, which makes
+ * single-share lookups O(1) and set lookups O(shares in the set). The index lives in direct memory and is rebuilt
+ * by one sequential scan on open.
+ * <p>
+ * Replacing a share or deleting a set (a tombstone record) leaves garbage behind; {@link #compact()} copies the live
+ * records to a fresh file and atomically replaces the old one. The set ID, share index and threshold are bound to
+ * each ciphertext as associated data, so records cannot be moved between keys.
+ * <p>
+ * Reads may run concurrently; appends, deletes and compaction are exclusive.
+ */
+public final class ShareVault implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ShareVault.class);
+
+    public static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+    public static final int MIN_WINDOW_SIZE = 4096;
+
+    static final int FILE_MAGIC = 0x53564C54;
+    static final int FILE_VERSION = 1;
+    static final int FILE_HEADER_SIZE = 16;
+    static final int RECORD_MAGIC = 0x53485231;
+    static final int RECORD_HEADER_SIZE = 40;
+
+    private static final int FLAG_TOMBSTONE = 1;
+    private static final int AAD_OFFSET = 8;
+    private static final int AAD_LENGTH = 12;
+    private static final int PREV_OFFSET = 20;
+    private static final int NONCE_OFFSET = 28;
+    private static final int NONCE_LENGTH = 12;
+    private static final int TAG_LENGTH = 16;
+    private static final int INITIAL_INDEX_CAPACITY = 1024;
+
+    private static final ThreadLocal<Cipher> GCM = ThreadLocal.withInitial(() -> {
+        try {
+            return Cipher.getInstance("AES/GCM/NoPadding");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    /**
+     * One decrypted share of a set.
+     */
+    public record StoredShare(int index, int threshold, byte[] data) {
+    }
+
+    /**
+     * Receives live shares during {@link #forEachShare}. {@code data[0, length)} is only valid during the call and
+     * is wiped afterwards.
+     */
+    @FunctionalInterface
+    public interface ShareVisitor {
+        void visit(long setId, int index, int threshold, byte[] data, int length);
+    }
+
+    private final Path file;
+    private final SecretKey key;
+    private final RandomnessProvider random;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private FileChannel channel;
+    private List<MappedByteBuffer> windows;
+    private int windowSize;
+    private OffHeapIndex index;
+    /** Offset where the next record is appended. */
+    private long end;
+    private long liveShares;
+    private long liveBytes;
+    private boolean closed;
+
+    private ShareVault(Path file, SecretKey key, RandomnessProvider random) {
+        this.file = file;
+        this.key = key;
+        this.random = random;
+    }
+
+    public static ShareVault open(Path file, SecretKey key, RandomnessProvider random) throws IOException {
+        return open(file, key, random, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Opens or creates the vault at {@code file}. {@code windowSize} only applies to new files; existing files keep
+     * the window size recorded in their header.
+     */
+    public static ShareVault open(Path file, SecretKey key, RandomnessProvider random, int windowSize) throws IOException {
+        Objects.requireNonNull(file, "file must not be null");
+        Objects.requireNonNull(key, "key must not be null");
+        Objects.requireNonNull(random, "random must not be null");
+        if (!"AES".equalsIgnoreCase(key.getAlgorithm())) throw new IllegalArgumentException("Vault key must be an AES key");
+        if (windowSize < MIN_WINDOW_SIZE) throw new IllegalArgumentException("windowSize must be >= " + MIN_WINDOW_SIZE);
+        ShareVault vault = new ShareVault(file, key, random);
+        vault.load(windowSize);
+        return vault;
+    }
+
+    /**
+     * Stores share {@code index} (1..255) of set {@code setId} with data {@code data[off, off + len)}, replacing
+     * any share stored under the same key.
+     */
+    public void put(long setId, int index, int threshold, byte[] data, int off, int len) throws IOException {
+        if (index < 1 || index > 255) throw new IllegalArgumentException("Share index must be between 1 and 255");
+        if (threshold < 1 || threshold > 255) throw new IllegalArgumentException("Threshold must be between 1 and 255");
+        Objects.checkFromIndexSize(off, len, data.length);
+        if (len == 0) throw new IllegalArgumentException("Share data must not be empty");
+
+        byte[] record = new byte[RECORD_HEADER_SIZE + len + TAG_LENGTH];
+        ByteBuffer header = ByteBuffer.wrap(record);
+        header.putInt(4, record.length).putLong(8, setId).put(16, (byte) index).put(18, (byte) threshold);
+        random.nextBytes(record, NONCE_OFFSET, NONCE_LENGTH);
+        try {
+            Cipher cipher = GCM.get();
+            cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_LENGTH * 8, record, NONCE_OFFSET, NONCE_LENGTH));
+            cipher.updateAAD(record, AAD_OFFSET, AAD_LENGTH);
+            cipher.doFinal(data, off, len, record, RECORD_HEADER_SIZE);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+
+        lock.writeLock().lock();
+        try {
+            ensureOpen();
+            long head = this.index.get(setId, 0);
+            header.putLong(PREV_OFFSET, head);
+            long pos = append(record);
+            long replaced = this.index.put(setId, index, pos);
+            if (replaced == OffHeapIndex.ABSENT) {
+                liveShares++;
+            } else {
+                liveBytes -= recordLength(replaced);
+            }
+            liveBytes += record.length;
+            this.index.put(setId, 0, pos);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Decrypts share {@code index} of set {@code setId}, or returns {@code null} if it is not stored.
+     *
+     * @throws IllegalArgumentException if {@code index} is not between 1 and 255
+     * @throws IllegalStateException    if the record fails authentication
+     */
+    public StoredShare get(long setId, int index) {
+        if (index < 1 || index > 255) throw new IllegalArgumentException("Share index must be between 1 and 255");
+        lock.readLock().lock();
+        try {
+            ensureOpen();
+            long pos = this.index.get(setId, index);
+            return pos == OffHeapIndex.ABSENT ? null : decrypt(pos);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean containsSet(long setId) {
+        lock.readLock().lock();
+        try {
+            ensureOpen();
+            return index.get(setId, 0) != OffHeapIndex.ABSENT;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Decrypts all live shares of set {@code setId}, ordered by share index; empty if the set is unknown.
+     */
+    public List<StoredShare> getSet(long setId) {
+        lock.readLock().lock();
+        try {
+            ensureOpen();
+            List<StoredShare> shares = new ArrayList<>();
+            for (long pos = index.get(setId, 0); pos != OffHeapIndex.ABSENT; pos = window(pos).getLong(inWindow(pos) + PREV_OFFSET)) {
+                int shareIndex = window(pos).get(inWindow(pos) + 16) & 0xFF;
+                // Superseded records stay in the chain; only the one the index points to is live.
+                if (index.get(setId, shareIndex) == pos) shares.add(decrypt(pos));
+            }
+            shares.sort(Comparator.comparingInt(StoredShare::index));
+            return shares;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Removes all shares of set {@code setId} by appending a tombstone.
+     *
+     * @return whether the set existed
+     */
+    public boolean deleteSet(long setId) throws IOException {
+        lock.writeLock().lock();
+        try {
+            ensureOpen();
+            if (!removeSet(setId)) return false;
+            byte[] tombstone = new byte[RECORD_HEADER_SIZE];
+            ByteBuffer.wrap(tombstone).putInt(4, tombstone.length).putLong(8, setId).put(17, (byte) FLAG_TOMBSTONE)
+                    .putLong(PREV_OFFSET, OffHeapIndex.ABSENT);
+            append(tombstone);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Visits every live share in file order, decrypting one record at a time into a reused buffer, so iterating
+     * the whole vault keeps only one share on the heap.
+     */
+    public void forEachShare(ShareVisitor visitor) {
+        lock.readLock().lock();
+        try {
+            ensureOpen();
+            byte[][] buffers = {new byte[256], new byte[256]};
+            scan((pos, window, at, length) -> {
+                if ((window.get(at + 17) & FLAG_TOMBSTONE) != 0) return;
+                long setId = window.getLong(at + 8);
+                int shareIndex = window.get(at + 16) & 0xFF;
+                if (index.get(setId, shareIndex) != pos) return;
+                if (buffers[0].length < length) {
+                    buffers[0] = new byte[length];
+                    buffers[1] = new byte[length];
+                }
+                window.get(at, buffers[0], 0, length);
+                int dataLength = decrypt(buffers[0], length, buffers[1]);
+                try {
+                    visitor.visit(setId, shareIndex, window.get(at + 18) & 0xFF, buffers[1], dataLength);
+                } finally {
+                    Arrays.fill(buffers[1], 0, dataLength, (byte) 0);
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Number of live shares. */
+    public long size() {
+        lock.readLock().lock();
+        try {
+            return liveShares;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Bytes of the segment file in use, including garbage and window padding. */
+    public long usedBytes() {
+        lock.readLock().lock();
+        try {
+            return end;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Bytes of live records, which is what {@link #compact()} keeps. */
+    public long liveBytes() {
+        lock.readLock().lock();
+        try {
+            return liveBytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Copies all live records to a new segment file, which then atomically replaces the current one. Ciphertexts
+     * are copied as they are; only the chain offsets are rewritten.
+     */
+    public void compact() throws IOException {
+        lock.writeLock().lock();
+        try {
+            ensureOpen();
+            Path tmp = file.resolveSibling(file.getFileName() + ".compact");
+            Files.deleteIfExists(tmp);
+            FileChannel target = FileChannel.open(tmp, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            List<MappedByteBuffer> targetWindows = new ArrayList<>();
+            OffHeapIndex targetIndex = new OffHeapIndex(Math.max(INITIAL_INDEX_CAPACITY, index.size()));
+            long[] targetEnd = {FILE_HEADER_SIZE};
+            try {
+                writeFileHeader(mapWindow(target, targetWindows, 0));
+                byte[][] buffer = {new byte[256]};
+                scan((pos, window, at, length) -> {
+                    if ((window.get(at + 17) & FLAG_TOMBSTONE) != 0) return;
+                    long setId = window.getLong(at + 8);
+                    int shareIndex = window.get(at + 16) & 0xFF;
+                    if (index.get(setId, shareIndex) != pos) return;
+                    if (buffer[0].length < length) buffer[0] = new byte[length];
+                    byte[] record = buffer[0];
+                    window.get(at, record, 0, length);
+                    long newPos = allocate(targetEnd, length);
+                    ByteBuffer out = mapWindowUnchecked(target, targetWindows, (int) (newPos / windowSize));
+                    int outAt = (int) (newPos % windowSize);
+                    out.put(outAt, record, 0, length);
+                    out.putLong(outAt + PREV_OFFSET, targetIndex.get(setId, 0));
+                    targetIndex.put(setId, shareIndex, newPos);
+                    targetIndex.put(setId, 0, newPos);
+                });
+                for (MappedByteBuffer w : targetWindows) w.force();
+            } catch (IOException | RuntimeException e) {
+                target.close();
+                Files.deleteIfExists(tmp);
+                throw e;
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            long before = end;
+            channel.close();
+            // The new mapping and channel still refer to the renamed file.
+            channel = target;
+            windows = targetWindows;
+            index = targetIndex;
+            end = targetEnd[0];
+            liveBytes = 0;
+            targetIndex.forEach((setId, shareIndex, pos) -> {
+                if (shareIndex != 0) liveBytes += recordLength(pos);
+            });
+            LOG.debug("Compacted share vault {} from {} to {} bytes.", file, before, end);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Forces all appended records to the storage device. */
+    public void flush() {
+        lock.readLock().lock();
+        try {
+            ensureOpen();
+            for (MappedByteBuffer w : windows) w.force();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            if (closed) return;
+            closed = true;
+            for (MappedByteBuffer w : windows) w.force();
+            channel.close();
+            windows = List.of();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void load(int newWindowSize) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            readSegment(newWindowSize);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private void readSegment(int newWindowSize) throws IOException {
+        windows = new ArrayList<>();
+        index = new OffHeapIndex(INITIAL_INDEX_CAPACITY);
+        long fileSize = channel.size();
+        if (fileSize == 0) {
+            windowSize = newWindowSize;
+            writeFileHeader(mapWindow(channel, windows, 0));
+            end = FILE_HEADER_SIZE;
+            return;
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_SIZE);
+        channel.read(header, 0);
+        if (header.getInt(0) != FILE_MAGIC || header.getInt(4) != FILE_VERSION || header.getInt(8) < MIN_WINDOW_SIZE) {
+            throw new IOException("Not a share vault file: " + file);
+        }
+        windowSize = header.getInt(8);
+        for (int w = 0; (long) w * windowSize < fileSize; w++) {
+            mapWindow(channel, windows, w);
+        }
+        end = FILE_HEADER_SIZE;
+        long malformed = scan((pos, window, at, length) -> {
+            long setId = window.getLong(at + 8);
+            if ((window.get(at + 17) & FLAG_TOMBSTONE) != 0) {
+                removeSet(setId);
+            } else {
+                long replaced = index.put(setId, window.get(at + 16) & 0xFF, pos);
+                if (replaced == OffHeapIndex.ABSENT) {
+                    liveShares++;
+                } else {
+                    liveBytes -= recordLength(replaced);
+                }
+                liveBytes += length;
+                index.put(setId, 0, pos);
+            }
+            end = pos + length;
+        });
+        if (malformed >= 0) clearTail(malformed);
+        LOG.debug("Opened share vault {}: {} shares, {} of {} bytes live.", file, liveShares, liveBytes, end);
+    }
+
+    @FunctionalInterface
+    private interface RecordVisitor {
+        void visit(long pos, MappedByteBuffer window, int at, int length);
+    }
+
+    /**
+     * Visits all well-formed records in file order. A zero word where a record should start means the rest of the
+     * window is padding; the scan continues in the next window if a record starts there and stops otherwise. It
+     * also stops at the first malformed record, such as a torn write at the tail.
+     *
+     * @return the offset of the malformed record, or -1 if the scan ended cleanly
+     */
+    private long scan(RecordVisitor visitor) {
+        long pos = FILE_HEADER_SIZE;
+        while (pos / windowSize < windows.size()) {
+            MappedByteBuffer window = window(pos);
+            int at = inWindow(pos);
+            int magic = windowSize - at >= RECORD_HEADER_SIZE ? window.getInt(at) : 0;
+            if (magic == 0) {
+                long next = (pos / windowSize + 1) * windowSize;
+                if (next / windowSize >= windows.size() || window(next).getInt(0) != RECORD_MAGIC) return -1;
+                pos = next;
+                continue;
+            }
+            int length = window.getInt(at + 4);
+            if (magic != RECORD_MAGIC || length < RECORD_HEADER_SIZE || length > windowSize - at) return pos;
+            visitor.visit(pos, window, at, length);
+            pos += length;
+        }
+        return -1;
+    }
+
+    /**
+     * Zeroes a malformed tail from {@code pos} on, including all later windows, so that neither it nor anything
+     * written out of order behind it is read as a record once appends continue.
+     */
+    private void clearTail(long pos) {
+        LOG.warn("Malformed share vault record at offset {} in {}; discarding the rest of the file.", pos, file);
+        for (int w = (int) (pos / windowSize); w < windows.size(); w++) {
+            MappedByteBuffer window = windows.get(w);
+            for (int i = w == pos / windowSize ? inWindow(pos) : 0; i < windowSize; i++) {
+                window.put(i, (byte) 0);
+            }
+        }
+    }
+
+    private boolean removeSet(long setId) {
+        long head = index.remove(setId, 0);
+        if (head == OffHeapIndex.ABSENT) return false;
+        for (long pos = head; pos != OffHeapIndex.ABSENT; pos = window(pos).getLong(inWindow(pos) + PREV_OFFSET)) {
+            int shareIndex = window(pos).get(inWindow(pos) + 16) & 0xFF;
+            if (index.get(setId, shareIndex) == pos) {
+                index.remove(setId, shareIndex);
+                liveShares--;
+                liveBytes -= recordLength(pos);
+            }
+        }
+        return true;
+    }
+
+    private long append(byte[] record) throws IOException {
+        long[] endRef = {end};
+        long pos = allocate(endRef, record.length);
+        ByteBuffer window = mapWindow(channel, windows, (int) (pos / windowSize));
+        int at = (int) (pos % windowSize);
+        // Write the magic last so that a torn write is never taken for a complete record.
+        window.put(at + 4, record, 4, record.length - 4);
+        window.putInt(at, RECORD_MAGIC);
+        end = endRef[0];
+        return pos;
+    }
+
+    /** Reserves {@code length} bytes at {@code end[0]}, moving to the next window if they do not fit. */
+    private long allocate(long[] end, int length) {
+        if (length > windowSize - FILE_HEADER_SIZE) throw new IllegalArgumentException("Share too large for the vault window size");
+        long pos = end[0];
+        if (pos % windowSize + length > windowSize) pos = (pos / windowSize + 1) * windowSize;
+        end[0] = pos + length;
+        return pos;
+    }
+
+    private StoredShare decrypt(long pos) {
+        MappedByteBuffer window = window(pos);
+        int at = inWindow(pos);
+        byte[] record = new byte[window.getInt(at + 4)];
+        window.get(at, record);
+        byte[] data = new byte[record.length - RECORD_HEADER_SIZE - TAG_LENGTH];
+        decrypt(record, record.length, data);
+        return new StoredShare(record[16] & 0xFF, record[18] & 0xFF, data);
+    }
+
+    private int decrypt(byte[] record, int length, byte[] out) {
+        try {
+            Cipher cipher = GCM.get();
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_LENGTH * 8, record, NONCE_OFFSET, NONCE_LENGTH));
+            cipher.updateAAD(record, AAD_OFFSET, AAD_LENGTH);
+            return cipher.doFinal(record, RECORD_HEADER_SIZE, length - RECORD_HEADER_SIZE, out, 0);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Share vault record failed authentication", e);
+        }
+    }
+
+    private int recordLength(long pos) {
+        return window(pos).getInt(inWindow(pos) + 4);
+    }
+
+    private MappedByteBuffer window(long pos) {
+        return windows.get((int) (pos / windowSize));
+    }
+
+    private int inWindow(long pos) {
+        return (int) (pos % windowSize);
+    }
+
+    private MappedByteBuffer mapWindow(FileChannel ch, List<MappedByteBuffer> list, int w) throws IOException {
+        while (list.size() <= w) {
+            list.add(ch.map(FileChannel.MapMode.READ_WRITE, (long) list.size() * windowSize, windowSize));
+        }
+        return list.get(w);
+    }
+
+    private MappedByteBuffer mapWindowUnchecked(FileChannel ch, List<MappedByteBuffer> list, int w) {
+        try {
+            return mapWindow(ch, list, w);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeFileHeader(MappedByteBuffer window) {
+        window.putInt(0, FILE_MAGIC).putInt(4, FILE_VERSION).putInt(8, windowSize);
+    }
+
+    private void ensureOpen() {
+        if (closed) throw new IllegalStateException("Share vault is closed");
+    }
+}
@@ -0,0 +1,39 @@
+package com.basler182.cryptopenscrux.vault;
+
+import com.basler182.cryptopenscrux.random.RandomnessProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Base64;
+
+/**
+ * Opens a {@link ShareVault} when {@code cryptopenscrux.vault.path} is set. The AES key (16, 24 or 32 bytes) is
+ * given base64-encoded in {@code cryptopenscrux.vault.key}, typically from the environment rather than a file.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "cryptopenscrux.vault", name = "path")
+public class VaultConfig {
+
+    private static final Logger LOG = LoggerFactory.getLogger(VaultConfig.class);
+
+    @Bean(destroyMethod = "close")
+    public ShareVault shareVault(RandomnessProvider random,
+                                 @Value("${cryptopenscrux.vault.path}") Path path,
+                                 @Value("${cryptopenscrux.vault.key}") String key,
+                                 @Value("${cryptopenscrux.vault.window-size:" + ShareVault.DEFAULT_WINDOW_SIZE + "}") int windowSize) throws IOException {
+        byte[] keyBytes = Base64.getDecoder().decode(key.strip());
+        if (keyBytes.length != 16 && keyBytes.length != 24 && keyBytes.length != 32) {
+            throw new IllegalArgumentException("cryptopenscrux.vault.key must decode to 16, 24 or 32 bytes");
+        }
+        ShareVault vault = ShareVault.open(path, new SecretKeySpec(keyBytes, "AES"), random, windowSize);
+        LOG.info("Share vault {} opened with {} shares.", path, vault.size());
+        return vault;
+    }
+}
@@ -0,0 +1,90 @@
+package com.basler182.cryptopenscrux.view;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.UIDetachedException;
+import com.vaadin.flow.function.SerializableConsumer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs slow view actions on virtual threads instead of the request thread that holds the Vaadin session lock.
+ * <p>
+ * Results and failures are delivered through {@link UI#access}, so they reach the browser via server push. A
+ * cancelled task never calls back into the UI, and a UI that has gone away in the meantime is ignored.
+ * <p>
+ * Cancelling does not stop the computation: {@link com.basler182.cryptopenscrux.service.CryptoService} does not
+ * poll for interruption, so a running split or combine runs to completion and only its result is dropped.
+ */
+@Component
+public class BackgroundTasks {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BackgroundTasks.class);
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Handle of a submitted task.
+     */
+    public static final class Task {
+
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+        private volatile Future<?> future;
+
+        /**
+         * Drops the result and interrupts the worker, which only ends blocking waits early; returns {@code false}
+         * if already cancelled.
+         */
+        public boolean cancel() {
+            if (!cancelled.compareAndSet(false, true)) return false;
+            Future<?> f = future;
+            if (f != null) f.cancel(true);
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled.get();
+        }
+
+        public boolean isDone() {
+            Future<?> f = future;
+            return f != null && f.isDone();
+        }
+    }
+
+    public <T> Task submit(UI ui, Callable<T> work, SerializableConsumer<T> onSuccess, SerializableConsumer<Exception> onFailure) {
+        Task task = new Task();
+        task.future = executor.submit(() -> {
+            try {
+                T result = work.call();
+                deliver(ui, task, () -> onSuccess.accept(result));
+            } catch (Exception e) {
+                deliver(ui, task, () -> onFailure.accept(e));
+            }
+        });
+        return task;
+    }
+
+    private static void deliver(UI ui, Task task, Runnable callback) {
+        if (task.isCancelled()) return;
+        try {
+            ui.access(() -> {
+                if (!task.isCancelled()) callback.run();
+            });
+        } catch (UIDetachedException e) {
+            LOG.debug("UI detached before background task completed.");
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
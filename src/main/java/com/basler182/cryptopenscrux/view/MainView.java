@@ -1,28 +1,38 @@
 package com.basler182.cryptopenscrux.view;
 
 import com.basler182.cryptopenscrux.service.CryptoService;
+import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.button.ButtonVariant;
 import com.vaadin.flow.component.combobox.ComboBox;
+import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.component.html.*;
 import com.vaadin.flow.component.notification.Notification;
 import com.vaadin.flow.component.notification.NotificationVariant;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
+import com.vaadin.flow.component.progressbar.ProgressBar;
 import com.vaadin.flow.component.tabs.Tab;
 import com.vaadin.flow.component.tabs.Tabs;
+import com.vaadin.flow.component.textfield.IntegerField;
 import com.vaadin.flow.component.textfield.TextArea;
-import com.vaadin.flow.component.textfield.TextField;
+import com.vaadin.flow.data.provider.DataProvider;
+import com.vaadin.flow.data.value.ValueChangeMode;
+import com.vaadin.flow.function.SerializableConsumer;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
+import com.vaadin.flow.server.streams.DownloadHandler;
+import com.vaadin.flow.server.streams.DownloadResponse;
 import com.vaadin.flow.theme.lumo.LumoUtility;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.Callable;
 
 @Route("")
 @PageTitle("Secure Shamir Wallet")
@@ -30,6 +40,13 @@ public class MainView extends VerticalLayout {
 
     private static final Logger LOG = LoggerFactory.getLogger(MainView.class);
     private final CryptoService cryptoService;
+    private final BackgroundTasks tasks;
+
+    /** The split or recover operation currently running for this view, if any. */
+    private BackgroundTasks.Task runningTask;
+
+    /** Largest share count; share indexes are a single byte and 0 is reserved for the secret. */
+    private static final int MAX_SHARES = 255;
 
     private record ShamirScheme(String label, int threshold, int totalShares) {
         @NotNull
@@ -37,8 +54,13 @@ public class MainView extends VerticalLayout {
         public String toString() { return label; }
     }
 
-    public MainView(CryptoService cryptoService) {
+    /** One row of the share grid. */
+    private record ShareRow(int index, String share) {
+    }
+
+    public MainView(CryptoService cryptoService, BackgroundTasks tasks) {
         this.cryptoService = cryptoService;
+        this.tasks = tasks;
 
         // Root Layout Settings
         setSizeFull();
@@ -78,6 +100,7 @@ public class MainView extends VerticalLayout {
         });
 
         add(title, tabs, content);
+        addDetachListener(e -> cancelRunningTask());
     }
 
     /**
@@ -92,7 +115,7 @@ public class MainView extends VerticalLayout {
         step1.addClassName(LumoUtility.Margin.Top.NONE);
 
         ComboBox<Integer> wordCountSelect = new ComboBox<>("Word Count");
-        wordCountSelect.setItems(12, 20, 24);
+        wordCountSelect.setItems(12, 15, 18, 21, 24);
         wordCountSelect.setValue(12);
 
         Button generateBtn = new Button("Generate New Wallet");
@@ -108,68 +131,86 @@ public class MainView extends VerticalLayout {
         ComboBox<ShamirScheme> schemeSelect = new ComboBox<>("Backup Strategy");
         schemeSelect.setItems(
                 new ShamirScheme("2 of 3 (Requires 2 parts to recover)", 2, 3),
-                new ShamirScheme("3 of 5 (Requires 3 parts to recover)", 3, 5)
+                new ShamirScheme("3 of 5 (Requires 3 parts to recover)", 3, 5),
+                new ShamirScheme("5 of 9 (Requires 5 parts to recover)", 5, 9),
+                new ShamirScheme("Custom", 0, 0)
         );
-        schemeSelect.setValue(schemeSelect.getListDataView().getItem(0));
         schemeSelect.setWidthFull();
 
+        IntegerField thresholdField = newShareCountField("Required parts (k)");
+        IntegerField totalField = newShareCountField("Total parts (n)");
+        schemeSelect.addValueChangeListener(e -> {
+            ShamirScheme scheme = e.getValue();
+            boolean custom = scheme == null || scheme.threshold() == 0;
+            thresholdField.setReadOnly(!custom);
+            totalField.setReadOnly(!custom);
+            if (!custom) {
+                thresholdField.setValue(scheme.threshold());
+                totalField.setValue(scheme.totalShares());
+            }
+        });
+        schemeSelect.setValue(schemeSelect.getListDataView().getItem(0));
+
         Button splitBtn = new Button("Calculate Backup Shares");
         splitBtn.setEnabled(false);
 
         VerticalLayout sharesLayout = new VerticalLayout();
         sharesLayout.setPadding(false);
         sharesLayout.setSpacing(true);
+        sharesLayout.setVisible(false);
+
+        Span sharesInfo = new Span();
+        sharesInfo.addClassNames(LumoUtility.FontWeight.BOLD, LumoUtility.TextColor.SUCCESS);
+
+        // Rows are fetched page by page as the grid scrolls, so only visible rows get components.
+        List<ShareRow> shareRows = new ArrayList<>();
+        Grid<ShareRow> sharesGrid = buildSharesGrid();
+        sharesGrid.setItems(DataProvider.fromCallbacks(
+                query -> shareRows.subList(query.getOffset(), Math.min(shareRows.size(), query.getOffset() + query.getLimit())).stream(),
+                query -> shareRows.size()));
+        sharesLayout.add(new Hr(), sharesInfo, sharesGrid);
+
+        HorizontalLayout splitProgress = buildProgressIndicator("Calculating shares...", splitBtn);
 
         generateBtn.addClickListener(e -> {
             int count = wordCountSelect.getValue();
             List<String> mnemonic = cryptoService.generateMnemonic(count);
             mnemonicDisplay.setValue(String.join(" ", mnemonic));
             splitBtn.setEnabled(true);
-            sharesLayout.removeAll();
+            clearShares(shareRows, sharesGrid, sharesLayout);
             showNotification("Wallet generated. Please back it up now!", NotificationVariant.LUMO_SUCCESS);
         });
 
         splitBtn.addClickListener(e -> {
-            sharesLayout.removeAll();
-            ShamirScheme scheme = schemeSelect.getValue();
+            clearShares(shareRows, sharesGrid, sharesLayout);
+            Integer k = thresholdField.getValue();
+            Integer n = totalField.getValue();
             String secret = mnemonicDisplay.getValue();
 
             if (secret == null || secret.isEmpty()) return;
+            if (k == null || n == null || thresholdField.isInvalid() || totalField.isInvalid() || k > n) {
+                showNotification("Choose 2 <= k <= n <= " + MAX_SHARES + ".", NotificationVariant.LUMO_ERROR);
+                return;
+            }
 
-            try {
-                Map<Integer, String> shares = cryptoService.splitSecret(secret, scheme.threshold(), scheme.totalShares());
-
-                sharesLayout.add(new Hr());
-                Span info = new Span("Write these shares down in different secure locations. You will need exactly "
-                        + scheme.threshold() + " parts to recover your wallet.");
-                info.addClassNames(LumoUtility.FontWeight.BOLD, LumoUtility.TextColor.SUCCESS);
-                sharesLayout.add(info);
-
-                shares.forEach((index, shareString) -> {
-                    TextArea shareArea = new TextArea("Share #" + index);
-                    shareArea.setValue(shareString);
-                    shareArea.setWidthFull();
-                    shareArea.setReadOnly(true);
-
-                    Button copyBtn = new Button("Copy");
-                    copyBtn.addClickListener(evt -> {
-                        copyBtn.getUI().ifPresent(ui ->
-                                ui.getPage().executeJs("navigator.clipboard.writeText($0)", shareString));
-                        showNotification("Share #" + index + " copied to clipboard", NotificationVariant.LUMO_CONTRAST);
+            runInBackground(splitBtn, splitProgress,
+                    () -> cryptoService.splitSecret(secret, k, n),
+                    shares -> {
+                        shares.forEach((index, share) -> shareRows.add(new ShareRow(index, share)));
+                        sharesInfo.setText("Write these shares down in different secure locations. You will need exactly "
+                                + k + " of the " + n + " parts to recover your wallet.");
+                        sharesGrid.getDataProvider().refreshAll();
+                        sharesLayout.setVisible(true);
+                    },
+                    ex -> {
+                        showNotification("Error splitting secret: " + ex.getMessage(), NotificationVariant.LUMO_ERROR);
+                        LOG.error("Shamir Split Error", ex);
                     });
-
-                    sharesLayout.add(new HorizontalLayout(shareArea, copyBtn));
-                });
-
-            } catch (Exception ex) {
-                showNotification("Error splitting secret: " + ex.getMessage(), NotificationVariant.LUMO_ERROR);
-                LOG.error("Shamir Split Error", ex);
-            }
         });
 
         layout.add(step1, new HorizontalLayout(wordCountSelect, generateBtn), mnemonicDisplay,
                 new Hr(),
-                step2, new HorizontalLayout(schemeSelect, splitBtn), sharesLayout);
+                step2, schemeSelect, new HorizontalLayout(thresholdField, totalField, splitBtn), splitProgress, sharesLayout);
         return layout;
     }
 
@@ -184,14 +225,15 @@ public class MainView extends VerticalLayout {
         H3 title = new H3("Recover Wallet");
         title.addClassName(LumoUtility.Margin.Top.NONE);
 
-        ComboBox<Integer> thresholdSelect = new ComboBox<>("Required Parts (Threshold)");
-        thresholdSelect.setItems(2, 3, 4, 5);
+        IntegerField thresholdSelect = newShareCountField("Required Parts (Threshold)");
         thresholdSelect.setValue(2);
         thresholdSelect.setHelperText("How many shares do you have available?");
 
-        VerticalLayout inputsLayout = new VerticalLayout();
-        inputsLayout.setPadding(false);
-        inputsLayout.setSpacing(true);
+        // One paste area instead of a text field per share, so the component count does not grow with k.
+        TextArea sharesInput = new TextArea("Shares");
+        sharesInput.setWidthFull();
+        sharesInput.setMinHeight("160px");
+        sharesInput.setPlaceholder("Paste one hex share per line (e.g., 01A4F...)");
 
         Button recoverBtn = new Button("Recover Wallet");
         recoverBtn.addThemeVariants(ButtonVariant.LUMO_PRIMARY);
@@ -202,52 +244,157 @@ public class MainView extends VerticalLayout {
         resultArea.setMinHeight("100px");
         resultArea.setReadOnly(true);
 
-        Runnable updateInputs = () -> {
-            inputsLayout.removeAll();
+        HorizontalLayout recoverProgress = buildProgressIndicator("Recovering wallet...", recoverBtn);
+
+        Runnable updateHelper = () -> {
             Integer required = thresholdSelect.getValue();
-            if (required == null) return;
-
-            for (int i = 1; i <= required; i++) {
-                TextField tf = new TextField("Enter Share #" + i);
-                tf.setWidthFull();
-                tf.setPlaceholder("Paste Hex string here (e.g., 01A4F...)");
-                tf.setHelperText("Format: Index (1 Byte) + Data");
-                inputsLayout.add(tf);
-            }
-            resultArea.clear();
+            String expected = required == null || thresholdSelect.isInvalid() ? "" : " of " + required;
+            sharesInput.setHelperText(parseShares(sharesInput.getValue()).size() + expected
+                    + " shares entered. Format per line: Index (1 Byte) + Data");
         };
 
-        thresholdSelect.addValueChangeListener(e -> updateInputs.run());
-        updateInputs.run(); // Initialize
+        thresholdSelect.addValueChangeListener(e -> {
+            updateHelper.run();
+            resultArea.clear();
+        });
+        sharesInput.setValueChangeMode(ValueChangeMode.LAZY);
+        sharesInput.addValueChangeListener(e -> updateHelper.run());
+        updateHelper.run(); // Initialize
 
         recoverBtn.addClickListener(e -> {
-            List<String> shareStrings = inputsLayout.getChildren()
-                    .filter(c -> c instanceof TextField)
-                    .map(c -> ((TextField) c).getValue())
-                    .filter(s -> s != null && !s.trim().isEmpty())
-                    .map(String::trim)
-                    .collect(Collectors.toList());
-
-            if (shareStrings.size() < thresholdSelect.getValue()) {
-                showNotification("Please fill in all " + thresholdSelect.getValue() + " shares.", NotificationVariant.LUMO_ERROR);
+            Integer required = thresholdSelect.getValue();
+            if (required == null || thresholdSelect.isInvalid()) {
+                showNotification("Choose a threshold between 2 and " + MAX_SHARES + ".", NotificationVariant.LUMO_ERROR);
                 return;
             }
-
-            try {
-                String recovered = cryptoService.combineShares(shareStrings);
-                resultArea.setValue(recovered);
-                showNotification("Recovery successful!", NotificationVariant.LUMO_SUCCESS);
-            } catch (Exception ex) {
-                resultArea.setValue("");
-                showNotification("Recovery Failed: " + ex.getMessage(), NotificationVariant.LUMO_ERROR);
-                LOG.error("Recovery Error", ex);
+            List<String> shareStrings = parseShares(sharesInput.getValue());
+            if (shareStrings.size() < required) {
+                showNotification("Please enter at least " + required + " shares.", NotificationVariant.LUMO_ERROR);
+                return;
             }
+
+            resultArea.clear();
+            runInBackground(recoverBtn, recoverProgress,
+                    () -> cryptoService.combineShares(shareStrings),
+                    recovered -> {
+                        resultArea.setValue(recovered);
+                        showNotification("Recovery successful!", NotificationVariant.LUMO_SUCCESS);
+                    },
+                    ex -> {
+                        resultArea.setValue("");
+                        showNotification("Recovery Failed: " + ex.getMessage(), NotificationVariant.LUMO_ERROR);
+                        LOG.error("Recovery Error", ex);
+                    });
         });
 
-        layout.add(title, thresholdSelect, inputsLayout, recoverBtn, new Hr(), resultArea);
+        layout.add(title, thresholdSelect, sharesInput, recoverBtn, recoverProgress, new Hr(), resultArea);
         return layout;
     }
 
+    /**
+     * Share grid with copy and download actions. Action components are only created for rows the grid renders.
+     */
+    private Grid<ShareRow> buildSharesGrid() {
+        Grid<ShareRow> grid = new Grid<>();
+        grid.addColumn(ShareRow::index).setHeader("#").setWidth("4em").setFlexGrow(0);
+        grid.addColumn(ShareRow::share).setHeader("Share").setFlexGrow(1)
+                .setTooltipGenerator(ShareRow::share);
+        grid.addComponentColumn(row -> {
+            Button copyBtn = new Button("Copy", evt -> {
+                evt.getSource().getUI().ifPresent(ui ->
+                        ui.getPage().executeJs("navigator.clipboard.writeText($0)", row.share()));
+                showNotification("Share #" + row.index() + " copied to clipboard", NotificationVariant.LUMO_CONTRAST);
+            });
+            copyBtn.addThemeVariants(ButtonVariant.LUMO_SMALL);
+
+            byte[] content = (row.share() + System.lineSeparator()).getBytes(StandardCharsets.US_ASCII);
+            String fileName = String.format("share-%03d.txt", row.index());
+            Anchor download = new Anchor(DownloadHandler.fromInputStream(event -> new DownloadResponse(
+                    new ByteArrayInputStream(content), fileName, "text/plain", content.length)),
+                    AttachmentType.DOWNLOAD, "Download");
+            return new HorizontalLayout(copyBtn, download);
+        }).setHeader("Actions").setAutoWidth(true).setFlexGrow(0);
+        grid.setWidthFull();
+        grid.setHeight("320px");
+        return grid;
+    }
+
+    private static void clearShares(List<ShareRow> rows, Grid<ShareRow> grid, VerticalLayout layout) {
+        rows.clear();
+        grid.getDataProvider().refreshAll();
+        layout.setVisible(false);
+    }
+
+    /** Non-blank lines of {@code text}, trimmed. */
+    private static List<String> parseShares(String text) {
+        if (text == null) return List.of();
+        return text.lines().map(String::trim).filter(line -> !line.isEmpty()).toList();
+    }
+
+    private static IntegerField newShareCountField(String label) {
+        IntegerField field = new IntegerField(label);
+        field.setMin(2);
+        field.setMax(MAX_SHARES);
+        field.setStepButtonsVisible(true);
+        return field;
+    }
+
+    /**
+     * Runs {@code work} on a virtual thread while {@code progress} is shown and {@code trigger} is disabled; the
+     * callbacks run under the session lock once the result is pushed back.
+     */
+    private <T> void runInBackground(Button trigger, HorizontalLayout progress, Callable<T> work,
+                                     SerializableConsumer<T> onSuccess, SerializableConsumer<Exception> onFailure) {
+        cancelRunningTask();
+        trigger.setEnabled(false);
+        progress.setVisible(true);
+        runningTask = tasks.submit(UI.getCurrent(), work,
+                result -> {
+                    finishTask(trigger, progress);
+                    onSuccess.accept(result);
+                },
+                ex -> {
+                    finishTask(trigger, progress);
+                    onFailure.accept(ex);
+                });
+    }
+
+    private void finishTask(Button trigger, HorizontalLayout progress) {
+        runningTask = null;
+        trigger.setEnabled(true);
+        progress.setVisible(false);
+    }
+
+    private void cancelRunningTask() {
+        if (runningTask != null) {
+            runningTask.cancel();
+            runningTask = null;
+        }
+    }
+
+    /**
+     * Indeterminate progress bar with a cancel button, hidden until an operation started by {@code trigger} runs.
+     */
+    private HorizontalLayout buildProgressIndicator(String text, Button trigger) {
+        ProgressBar bar = new ProgressBar();
+        bar.setIndeterminate(true);
+        bar.setWidth("200px");
+
+        Button cancelBtn = new Button("Cancel");
+        cancelBtn.addThemeVariants(ButtonVariant.LUMO_TERTIARY, ButtonVariant.LUMO_ERROR);
+
+        HorizontalLayout progress = new HorizontalLayout(bar, new Span(text), cancelBtn);
+        progress.setAlignItems(Alignment.CENTER);
+        progress.setVisible(false);
+
+        cancelBtn.addClickListener(e -> {
+            cancelRunningTask();
+            finishTask(trigger, progress);
+            showNotification("Operation cancelled", NotificationVariant.LUMO_CONTRAST);
+        });
+        return progress;
+    }
+
     /**
      * Helper to show standardized notifications
      */
@@ -0,0 +1,105 @@
+package com.basler182.cryptopenscrux.vss;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * An affine point of {@link Secp256r1}, or the point at infinity.
+ * <p>
+ * Points encode to {@value #ENCODED_LENGTH} bytes in SEC1 compressed form; the point at infinity, which is the
+ * commitment to a zero coefficient, encodes as all zeros so that every commitment has the same width.
+ */
+public final class EcPoint {
+
+    public static final int ENCODED_LENGTH = 33;
+
+    public static final EcPoint INFINITY = new EcPoint(null, null);
+
+    private static final byte EVEN_Y = 0x02;
+    private static final byte ODD_Y = 0x03;
+
+    private final BigInteger x;
+    private final BigInteger y;
+
+    private EcPoint(BigInteger x, BigInteger y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * The point {@code (x, y)}.
+     *
+     * @throws IllegalArgumentException if it is not on the curve
+     */
+    public static EcPoint of(BigInteger x, BigInteger y) {
+        Objects.requireNonNull(x, "x must not be null");
+        Objects.requireNonNull(y, "y must not be null");
+        if (!Secp256r1.isOnCurve(x, y)) throw new IllegalArgumentException("Point is not on secp256r1");
+        return new EcPoint(x, y);
+    }
+
+    /** Trusted constructor for results of curve arithmetic. */
+    static EcPoint affine(BigInteger x, BigInteger y) {
+        return new EcPoint(x, y);
+    }
+
+    public boolean isInfinity() {
+        return x == null;
+    }
+
+    public BigInteger x() {
+        return x;
+    }
+
+    public BigInteger y() {
+        return y;
+    }
+
+    /**
+     * Writes the compressed encoding to {@code dst[off, off + 33)}.
+     */
+    public void encode(byte[] dst, int off) {
+        if (isInfinity()) {
+            Arrays.fill(dst, off, off + ENCODED_LENGTH, (byte) 0);
+            return;
+        }
+        dst[off] = y.testBit(0) ? ODD_Y : EVEN_Y;
+        Secp256r1.toFixedBytes(x, dst, off + 1);
+    }
+
+    /**
+     * Decodes a compressed point from {@code src[off, off + 33)}.
+     *
+     * @throws IllegalArgumentException if the bytes are not a valid encoding of a curve point
+     */
+    public static EcPoint decode(byte[] src, int off) {
+        byte prefix = src[off];
+        if (prefix == 0) {
+            for (int i = 1; i < ENCODED_LENGTH; i++) {
+                if (src[off + i] != 0) throw new IllegalArgumentException("Invalid point encoding");
+            }
+            return INFINITY;
+        }
+        if (prefix != EVEN_Y && prefix != ODD_Y) throw new IllegalArgumentException("Invalid point encoding");
+        BigInteger x = new BigInteger(1, Arrays.copyOfRange(src, off + 1, off + ENCODED_LENGTH));
+        BigInteger y = Secp256r1.decompressY(x, prefix == ODD_Y);
+        if (y == null) throw new IllegalArgumentException("Point is not on secp256r1");
+        return new EcPoint(x, y);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof EcPoint other && Objects.equals(x, other.x) && Objects.equals(y, other.y);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(x, y);
+    }
+
+    @Override
+    public String toString() {
+        return isInfinity() ? "EcPoint[infinity]" : "EcPoint[x=" + x.toString(16) + ", y=" + y.toString(16) + "]";
+    }
+}
@@ -0,0 +1,62 @@
+package com.basler182.cryptopenscrux.vss;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Public part of one Feldman dealing: {@code points[j] = a_j * G} for coefficient {@code j} of the polynomial that
+ * shares a random key, and the secret sealed under that key. Share holders check their share against the points
+ * without talking to each other; {@code points[0]} commits to the key, never to secret bytes.
+ * <p>
+ * Encoded as {@code threshold (1 byte) || points || sealedSecret}, 33 bytes per point. The sealed secret is
+ * {@code nonce || AES-GCM ciphertext and tag} and authenticates the threshold and points as associated data.
+ */
+public record FeldmanCommitments(int threshold, EcPoint[] points, byte[] sealedSecret) {
+
+    static final int NONCE_LENGTH = 12;
+    static final int TAG_LENGTH = 16;
+
+    public FeldmanCommitments {
+        Objects.requireNonNull(points, "points must not be null");
+        Objects.requireNonNull(sealedSecret, "sealedSecret must not be null");
+        if (threshold < 2 || threshold > 255) throw new IllegalArgumentException("threshold must be between 2 and 255");
+        if (points.length != threshold) throw new IllegalArgumentException("Expected " + threshold + " commitments");
+        if (sealedSecret.length <= NONCE_LENGTH + TAG_LENGTH) throw new IllegalArgumentException("Sealed secret too short");
+    }
+
+    public byte[] encode() {
+        byte[] header = associatedData(threshold, points);
+        byte[] out = new byte[header.length + sealedSecret.length];
+        System.arraycopy(header, 0, out, 0, header.length);
+        System.arraycopy(sealedSecret, 0, out, header.length, sealedSecret.length);
+        return out;
+    }
+
+    /**
+     * @throws IllegalArgumentException on a malformed encoding or a point that is not on the curve
+     */
+    public static FeldmanCommitments decode(byte[] encoded) {
+        if (encoded.length < 1) throw new IllegalArgumentException("Commitments too short");
+        int threshold = encoded[0] & 0xFF;
+        if (threshold < 2) throw new IllegalArgumentException("Invalid commitment header");
+        int sealedFrom = 1 + threshold * EcPoint.ENCODED_LENGTH;
+        if (encoded.length <= sealedFrom + NONCE_LENGTH + TAG_LENGTH) {
+            throw new IllegalArgumentException("Commitment length does not match its header");
+        }
+        EcPoint[] points = new EcPoint[threshold];
+        for (int j = 0; j < threshold; j++) {
+            points[j] = EcPoint.decode(encoded, 1 + j * EcPoint.ENCODED_LENGTH);
+        }
+        return new FeldmanCommitments(threshold, points, Arrays.copyOfRange(encoded, sealedFrom, encoded.length));
+    }
+
+    /** {@code threshold || points}, the prefix of the encoding that the sealed secret authenticates. */
+    static byte[] associatedData(int threshold, EcPoint[] points) {
+        byte[] out = new byte[1 + points.length * EcPoint.ENCODED_LENGTH];
+        out[0] = (byte) threshold;
+        for (int j = 0; j < points.length; j++) {
+            points[j].encode(out, 1 + j * EcPoint.ENCODED_LENGTH);
+        }
+        return out;
+    }
+}
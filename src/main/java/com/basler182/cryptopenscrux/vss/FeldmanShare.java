@@ -0,0 +1,39 @@
+package com.basler182.cryptopenscrux.vss;
+
+import java.math.BigInteger;
+import java.util.Objects;
+
+/**
+ * One holder's share of a Feldman dealing: {@code value = f(index) mod n} of the polynomial sharing the key.
+ * <p>
+ * Encoded as {@code index (1 byte) || value}, 32 bytes big-endian, like the hex shares of
+ * {@link com.basler182.cryptopenscrux.service.CryptoService} with an index byte in front.
+ */
+public record FeldmanShare(int index, BigInteger value) {
+
+    public static final int ENCODED_LENGTH = 1 + Secp256r1.SCALAR_BYTES;
+
+    public FeldmanShare {
+        Objects.requireNonNull(value, "value must not be null");
+        if (index < 1 || index > 255) throw new IllegalArgumentException("index must be between 1 and 255");
+    }
+
+    public byte[] encode() {
+        byte[] out = new byte[ENCODED_LENGTH];
+        out[0] = (byte) index;
+        Secp256r1.toFixedBytes(value, out, 1);
+        return out;
+    }
+
+    /**
+     * @throws IllegalArgumentException on a malformed encoding or a value outside {@code [0, n)}
+     */
+    public static FeldmanShare decode(byte[] encoded) {
+        if (encoded.length != ENCODED_LENGTH) throw new IllegalArgumentException("Invalid share length");
+        byte[] bytes = new byte[Secp256r1.SCALAR_BYTES];
+        System.arraycopy(encoded, 1, bytes, 0, bytes.length);
+        BigInteger value = new BigInteger(1, bytes);
+        if (value.compareTo(Secp256r1.ORDER) >= 0) throw new IllegalArgumentException("Share value out of range");
+        return new FeldmanShare(encoded[0] & 0xFF, value);
+    }
+}
@@ -0,0 +1,249 @@
+package com.basler182.cryptopenscrux.vss;
+
+import com.basler182.cryptopenscrux.random.RandomnessProvider;
+
+import javax.crypto.AEADBadTagException;
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Feldman verifiable secret sharing over the prime-order group of {@link Secp256r1}.
+ * <p>
+ * The dealer draws a uniformly random key {@code s} in {@code Z_n}, shares it with a random polynomial {@code f}
+ * of degree {@code k - 1} and {@code f(0) = s}, and publishes {@code C_j = a_j * G} for all coefficients together
+ * with the secret sealed under AES-256-GCM with key {@code SHA-256(s)}. The holder of share {@code x} accepts it
+ * iff {@code f(x) * G == sum_j x^j * C_j}. The left side uses the precomputed generator table, the right side
+ * Horner's rule over the commitments. Recovery interpolates {@code s} and opens the sealed secret, which also
+ * authenticates the commitments.
+ * <p>
+ * Many shares of one dealing are verified together with random weights {@code r}: they are all valid (except with
+ * probability about 2^-{@value #WEIGHT_BITS}) iff {@code (sum r * y) * G == sum_j (sum r * x^j) * C_j}, one
+ * generator multiplication and one multi-exponentiation over the commitments no matter how many shares there are.
+ * A failing batch is bisected to find the invalid shares.
+ * <p>
+ * {@code C_0 = s * G} commits to the random key only, so the commitments reveal nothing about the secret beyond its
+ * length, whatever its entropy.
+ */
+public final class FeldmanVss {
+
+    static final int WEIGHT_BITS = 128;
+
+    private static final String CIPHER = "AES/GCM/NoPadding";
+
+    /** Random coefficients are reduced from this many bytes, so the bias mod {@code n} is below 2^-128. */
+    private static final int COEFFICIENT_BYTES = 48;
+
+    /**
+     * Commitments and shares of one dealing; share {@code x} is at list position {@code x - 1}.
+     */
+    public record Dealing(FeldmanCommitments commitments, List<FeldmanShare> shares) {
+    }
+
+    private final RandomnessProvider random;
+
+    public FeldmanVss(RandomnessProvider random) {
+        this.random = Objects.requireNonNull(random, "random must not be null");
+    }
+
+    /**
+     * Deals {@code n} shares of threshold {@code k} of {@code secret}.
+     *
+     * @throws IllegalArgumentException on an empty secret or an invalid scheme
+     */
+    public Dealing deal(byte[] secret, int k, int n) {
+        Objects.requireNonNull(secret, "secret must not be null");
+        if (secret.length == 0) throw new IllegalArgumentException("secret must not be empty");
+        if (k < 2 || n < k || n > 255) throw new IllegalArgumentException("Invalid scheme: k=" + k + ", n=" + n);
+        BigInteger[] coefficients = new BigInteger[k];
+        EcPoint[] points = new EcPoint[k];
+        for (int j = 0; j < k; j++) {
+            coefficients[j] = randomScalar();
+            points[j] = Secp256r1.multiplyGenerator(coefficients[j]);
+        }
+        List<FeldmanShare> shares = new ArrayList<>(n);
+        for (int x = 1; x <= n; x++) {
+            shares.add(new FeldmanShare(x, evaluate(coefficients, x)));
+        }
+
+        byte[] sealed = new byte[FeldmanCommitments.NONCE_LENGTH + secret.length + FeldmanCommitments.TAG_LENGTH];
+        random.nextBytes(sealed, 0, FeldmanCommitments.NONCE_LENGTH);
+        SecretKeySpec key = secretKey(coefficients[0]);
+        Arrays.fill(coefficients, null);
+        try {
+            Cipher cipher = Cipher.getInstance(CIPHER);
+            cipher.init(Cipher.ENCRYPT_MODE, key, nonce(sealed));
+            cipher.updateAAD(FeldmanCommitments.associatedData(k, points));
+            cipher.doFinal(secret, 0, secret.length, sealed, FeldmanCommitments.NONCE_LENGTH);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+        return new Dealing(new FeldmanCommitments(k, points, sealed), List.copyOf(shares));
+    }
+
+    /**
+     * Checks one share against the commitments.
+     */
+    public boolean verify(FeldmanCommitments commitments, FeldmanShare share) {
+        EcPoint expected = Secp256r1.evaluate(commitments.points(), share.index());
+        return Secp256r1.multiplyGenerator(share.value()).equals(expected);
+    }
+
+    /**
+     * Verifies all {@code shares} of one dealing by random linear combination; entry {@code i} of the result tells
+     * whether share {@code i} is valid.
+     */
+    public boolean[] verifyAll(FeldmanCommitments commitments, List<FeldmanShare> shares) {
+        boolean[] valid = new boolean[shares.size()];
+        if (!shares.isEmpty()) verifyRange(commitments, shares, 0, shares.size(), valid);
+        return valid;
+    }
+
+    /**
+     * Recovers the secret from the first {@code threshold} valid shares with distinct indexes.
+     *
+     * @throws IllegalArgumentException if fewer valid shares are given, naming the invalid share indexes
+     * @throws IllegalStateException    if the sealed secret fails authentication under the recovered key
+     */
+    public byte[] recover(FeldmanCommitments commitments, List<FeldmanShare> shares) {
+        boolean[] valid = verifyAll(commitments, shares);
+        int k = commitments.threshold();
+        List<FeldmanShare> used = new ArrayList<>(k);
+        List<Integer> invalid = new ArrayList<>();
+        boolean[] seen = new boolean[256];
+        for (int i = 0; i < shares.size(); i++) {
+            FeldmanShare share = shares.get(i);
+            if (!valid[i]) {
+                invalid.add(share.index());
+            } else if (used.size() < k && !seen[share.index()]) {
+                seen[share.index()] = true;
+                used.add(share);
+            }
+        }
+        if (used.size() < k) {
+            throw new IllegalArgumentException("Insufficient valid shares: " + used.size() + " of " + k
+                    + (invalid.isEmpty() ? "" : ", invalid share indexes " + invalid));
+        }
+
+        BigInteger[] weights = lagrangeWeightsAtZero(used);
+        BigInteger value = BigInteger.ZERO;
+        for (int i = 0; i < k; i++) {
+            value = value.add(weights[i].multiply(used.get(i).value()));
+        }
+        SecretKeySpec key = secretKey(value.mod(Secp256r1.ORDER));
+        byte[] sealed = commitments.sealedSecret();
+        try {
+            Cipher cipher = Cipher.getInstance(CIPHER);
+            cipher.init(Cipher.DECRYPT_MODE, key, nonce(sealed));
+            cipher.updateAAD(FeldmanCommitments.associatedData(k, commitments.points()));
+            return cipher.doFinal(sealed, FeldmanCommitments.NONCE_LENGTH, sealed.length - FeldmanCommitments.NONCE_LENGTH);
+        } catch (AEADBadTagException e) {
+            throw new IllegalStateException("Sealed secret failed authentication", e);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void verifyRange(FeldmanCommitments commitments, List<FeldmanShare> shares, int from, int to, boolean[] valid) {
+        if (batchHolds(commitments, shares, from, to)) {
+            for (int i = from; i < to; i++) valid[i] = true;
+        } else if (to - from > 1) {
+            int mid = (from + to) >>> 1;
+            verifyRange(commitments, shares, from, mid, valid);
+            verifyRange(commitments, shares, mid, to, valid);
+        }
+    }
+
+    /** Whether the random linear combination of the shares in {@code [from, to)} verifies. */
+    private boolean batchHolds(FeldmanCommitments commitments, List<FeldmanShare> shares, int from, int to) {
+        if (to - from == 1) return verify(commitments, shares.get(from));
+        BigInteger n = Secp256r1.ORDER;
+        int k = commitments.threshold();
+        BigInteger lhs = BigInteger.ZERO;
+        BigInteger[] exponents = new BigInteger[k];
+        Arrays.fill(exponents, BigInteger.ZERO);
+        for (int i = from; i < to; i++) {
+            FeldmanShare share = shares.get(i);
+            BigInteger x = BigInteger.valueOf(share.index());
+            BigInteger r = weight();
+            lhs = lhs.add(r.multiply(share.value())).mod(n);
+            // r * x^j stays reduced, so its size does not grow with the threshold.
+            BigInteger rx = r;
+            for (int j = 0; j < k; j++) {
+                exponents[j] = exponents[j].add(rx).mod(n);
+                rx = rx.multiply(x).mod(n);
+            }
+        }
+        return Secp256r1.multiplyGenerator(lhs).equals(Secp256r1.multiExp(commitments.points(), exponents));
+    }
+
+    /** {@code l_i(0) = prod_{j != i} x_j / (x_j - x_i) mod n}. */
+    private static BigInteger[] lagrangeWeightsAtZero(List<FeldmanShare> shares) {
+        BigInteger n = Secp256r1.ORDER;
+        BigInteger[] weights = new BigInteger[shares.size()];
+        for (int i = 0; i < shares.size(); i++) {
+            BigInteger numerator = BigInteger.ONE;
+            BigInteger denominator = BigInteger.ONE;
+            for (int j = 0; j < shares.size(); j++) {
+                if (i == j) continue;
+                numerator = numerator.multiply(BigInteger.valueOf(shares.get(j).index()));
+                denominator = denominator.multiply(BigInteger.valueOf(shares.get(j).index() - shares.get(i).index()));
+            }
+            weights[i] = numerator.multiply(denominator.mod(n).modInverse(n)).mod(n);
+        }
+        return weights;
+    }
+
+    /** {@code f(x) mod n} for coefficients lowest degree first. */
+    private static BigInteger evaluate(BigInteger[] coefficients, int x) {
+        BigInteger bx = BigInteger.valueOf(x);
+        BigInteger result = BigInteger.ZERO;
+        for (int j = coefficients.length - 1; j >= 0; j--) {
+            result = result.multiply(bx).add(coefficients[j]).mod(Secp256r1.ORDER);
+        }
+        return result;
+    }
+
+    private static GCMParameterSpec nonce(byte[] sealed) {
+        return new GCMParameterSpec(FeldmanCommitments.TAG_LENGTH * 8, sealed, 0, FeldmanCommitments.NONCE_LENGTH);
+    }
+
+    /** AES-256 key {@code SHA-256(s)} over the 32-byte big-endian encoding of {@code s}. */
+    private static SecretKeySpec secretKey(BigInteger s) {
+        byte[] encoded = new byte[Secp256r1.SCALAR_BYTES];
+        Secp256r1.toFixedBytes(s, encoded, 0);
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(encoded);
+            SecretKeySpec key = new SecretKeySpec(digest, "AES");
+            Arrays.fill(digest, (byte) 0);
+            return key;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            Arrays.fill(encoded, (byte) 0);
+        }
+    }
+
+    private BigInteger randomScalar() {
+        byte[] bytes = new byte[COEFFICIENT_BYTES];
+        random.nextBytes(bytes);
+        BigInteger scalar = new BigInteger(1, bytes).mod(Secp256r1.ORDER);
+        Arrays.fill(bytes, (byte) 0);
+        return scalar;
+    }
+
+    /** A random odd, hence non-zero, batch weight. */
+    private BigInteger weight() {
+        byte[] bytes = new byte[WEIGHT_BITS / 8];
+        random.nextBytes(bytes);
+        bytes[bytes.length - 1] |= 1;
+        return new BigInteger(1, bytes);
+    }
+}
@@ -0,0 +1,46 @@
+package com.basler182.cryptopenscrux.vss;
+
+import java.math.BigInteger;
+
+/**
+ * Precomputed multiples {@code d * 16^w * base} for every 4-bit digit {@code d} and window {@code w} of a 256-bit
+ * scalar, in affine coordinates.
+ * <p>
+ * Multiplying by {@code k} is then one mixed addition per non-zero digit and no doublings at all: 64 additions
+ * instead of 256 doublings plus 64 additions. Building the table costs a few hundred point operations and one
+ * field inversion, so it only pays off for a base that is multiplied many times, like the generator.
+ */
+final class FixedBaseTable {
+
+    private static final int DIGITS = 15;
+
+    /** {@code points[w * 15 + d - 1] = d * 16^w * base}. */
+    private final EcPoint[] points;
+
+    FixedBaseTable(EcPoint base) {
+        if (base.isInfinity()) throw new IllegalArgumentException("base must not be infinity");
+        Secp256r1.Jacobian[] multiples = new Secp256r1.Jacobian[Secp256r1.WINDOWS * DIGITS];
+        EcPoint windowBase = base;
+        for (int w = 0; w < Secp256r1.WINDOWS; w++) {
+            Secp256r1.Jacobian acc = Secp256r1.Jacobian.of(windowBase);
+            multiples[w * DIGITS] = acc;
+            for (int d = 1; d < DIGITS; d++) {
+                acc = Secp256r1.addMixed(acc, windowBase);
+                multiples[w * DIGITS + d] = acc;
+            }
+            // 16 * windowBase = 15 * windowBase + windowBase.
+            windowBase = Secp256r1.toAffine(Secp256r1.addMixed(acc, windowBase));
+        }
+        this.points = Secp256r1.normalizeAll(multiples, multiples.length);
+    }
+
+    Secp256r1.Jacobian multiply(BigInteger k) {
+        byte[] digits = Secp256r1.windowDigits(k);
+        Secp256r1.Jacobian acc = Secp256r1.Jacobian.INFINITY;
+        for (int w = 0; w < Secp256r1.WINDOWS; w++) {
+            int d = digits[w];
+            if (d != 0) acc = Secp256r1.addMixed(acc, points[w * DIGITS + d - 1]);
+        }
+        return acc;
+    }
+}
@@ -0,0 +1,302 @@
+package com.basler182.cryptopenscrux.vss;
+
+import java.math.BigInteger;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.spec.ECFieldFp;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+
+/**
+ * Group arithmetic on NIST P-256 with {@link BigInteger}, using the curve parameters shipped with the JDK.
+ * <p>
+ * Points are accumulated in Jacobian coordinates {@code (X, Y, Z) ~ (X / Z^2, Y / Z^3)} so that additions and
+ * doublings need no field inversion; tables of fixed points are normalized to affine coordinates with a single
+ * inversion (Montgomery's trick) and added with the cheaper mixed formulas. Multiples of the generator use a
+ * {@link FixedBaseTable}; sums of several multiples use Straus' interleaved windows, sharing one doubling chain.
+ * <p>
+ * {@code BigInteger} arithmetic is not constant time. This is fine for verification, which only handles public
+ * commitments and shares, but means dealing should run on a machine where timing is not observable.
+ */
+public final class Secp256r1 {
+
+    static final BigInteger P;
+    /** The prime order of the group. */
+    public static final BigInteger ORDER;
+    static final BigInteger B;
+
+    private static final BigInteger THREE = BigInteger.valueOf(3);
+    private static final BigInteger SQRT_EXPONENT;
+
+    static final int SCALAR_BYTES = 32;
+    private static final int WINDOW_BITS = 4;
+    private static final int WINDOW_SIZE = 1 << WINDOW_BITS;
+    static final int WINDOWS = SCALAR_BYTES * 8 / WINDOW_BITS;
+
+    private static final EcPoint GENERATOR;
+
+    static {
+        ECParameterSpec spec;
+        try {
+            AlgorithmParameters params = AlgorithmParameters.getInstance("EC");
+            params.init(new ECGenParameterSpec("secp256r1"));
+            spec = params.getParameterSpec(ECParameterSpec.class);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("secp256r1 parameters unavailable", e);
+        }
+        P = ((ECFieldFp) spec.getCurve().getField()).getP();
+        ORDER = spec.getOrder();
+        B = spec.getCurve().getB();
+        if (!spec.getCurve().getA().equals(P.subtract(THREE)) || !P.testBit(0) || !P.testBit(1)) {
+            throw new IllegalStateException("Unexpected secp256r1 parameters");
+        }
+        // p = 3 (mod 4), so square roots are a single exponentiation.
+        SQRT_EXPONENT = P.add(BigInteger.ONE).shiftRight(2);
+        GENERATOR = EcPoint.of(spec.getGenerator().getAffineX(), spec.getGenerator().getAffineY());
+    }
+
+    /** Built on first use; about a thousand affine points. */
+    private static final class GeneratorTable {
+        static final FixedBaseTable TABLE = new FixedBaseTable(GENERATOR);
+    }
+
+    private Secp256r1() {  }
+
+    public static EcPoint generator() {
+        return GENERATOR;
+    }
+
+    /** {@code k * G}, using the precomputed generator table. */
+    public static EcPoint multiplyGenerator(BigInteger k) {
+        return toAffine(GeneratorTable.TABLE.multiply(k));
+    }
+
+    /** {@code k * point} with a 4-bit window. */
+    public static EcPoint multiply(EcPoint point, BigInteger k) {
+        return multiExp(new EcPoint[]{point}, new BigInteger[]{k});
+    }
+
+    /**
+     * {@code sum_i scalars[i] * bases[i]} by Straus' method: one window table per base and a single shared chain of
+     * doublings, so {@code m} bases cost about as many doublings as one.
+     */
+    public static EcPoint multiExp(EcPoint[] bases, BigInteger[] scalars) {
+        if (bases.length != scalars.length) throw new IllegalArgumentException("bases and scalars differ in length");
+        int m = bases.length;
+        EcPoint[][] tables = new EcPoint[m][];
+        byte[][] digits = new byte[m][];
+        Jacobian[] multiples = new Jacobian[m * (WINDOW_SIZE - 1)];
+        int used = 0;
+        for (int i = 0; i < m; i++) {
+            if (bases[i].isInfinity()) continue;
+            Jacobian p = Jacobian.of(bases[i]);
+            multiples[used * (WINDOW_SIZE - 1)] = p;
+            for (int d = 1; d < WINDOW_SIZE - 1; d++) {
+                multiples[used * (WINDOW_SIZE - 1) + d] = addMixed(multiples[used * (WINDOW_SIZE - 1) + d - 1], bases[i]);
+            }
+            digits[used] = windowDigits(scalars[i]);
+            used++;
+        }
+        EcPoint[] affine = normalizeAll(multiples, used * (WINDOW_SIZE - 1));
+        for (int i = 0; i < used; i++) {
+            tables[i] = new EcPoint[WINDOW_SIZE - 1];
+            System.arraycopy(affine, i * (WINDOW_SIZE - 1), tables[i], 0, WINDOW_SIZE - 1);
+        }
+        Jacobian acc = Jacobian.INFINITY;
+        for (int w = WINDOWS - 1; w >= 0; w--) {
+            for (int b = 0; b < WINDOW_BITS; b++) acc = twice(acc);
+            for (int i = 0; i < used; i++) {
+                int d = digits[i][w];
+                if (d != 0) acc = addMixed(acc, tables[i][d - 1]);
+            }
+        }
+        return toAffine(acc);
+    }
+
+    /**
+     * {@code sum_j x^j * coefficients[j]} by Horner's rule in the group. With a share index {@code x < 256} every
+     * step is eight doublings and a few additions, cheaper than multiplying by the full-size powers of {@code x}.
+     */
+    public static EcPoint evaluate(EcPoint[] coefficients, int x) {
+        if (x < 1) throw new IllegalArgumentException("x must be >= 1");
+        Jacobian acc = Jacobian.INFINITY;
+        for (int j = coefficients.length - 1; j >= 0; j--) {
+            acc = multiplySmall(acc, x);
+            if (!coefficients[j].isInfinity()) acc = addMixed(acc, coefficients[j]);
+        }
+        return toAffine(acc);
+    }
+
+    public static EcPoint add(EcPoint a, EcPoint b) {
+        if (b.isInfinity()) return a;
+        return toAffine(addMixed(Jacobian.of(a), b));
+    }
+
+    public static EcPoint negate(EcPoint a) {
+        return a.isInfinity() ? a : EcPoint.affine(a.x(), P.subtract(a.y()));
+    }
+
+    static boolean isOnCurve(BigInteger x, BigInteger y) {
+        if (x.signum() < 0 || x.compareTo(P) >= 0 || y.signum() < 0 || y.compareTo(P) >= 0) return false;
+        return y.multiply(y).mod(P).equals(curveRhs(x));
+    }
+
+    /** The {@code y} with the given parity on the curve at {@code x}, or {@code null} if there is none. */
+    static BigInteger decompressY(BigInteger x, boolean odd) {
+        if (x.compareTo(P) >= 0) return null;
+        BigInteger rhs = curveRhs(x);
+        BigInteger y = rhs.modPow(SQRT_EXPONENT, P);
+        if (!y.multiply(y).mod(P).equals(rhs)) return null;
+        if (y.testBit(0) != odd) y = P.subtract(y).mod(P);
+        return y;
+    }
+
+    /** {@code x^3 - 3x + b mod p}. */
+    private static BigInteger curveRhs(BigInteger x) {
+        return x.multiply(x).subtract(THREE).multiply(x).add(B).mod(P);
+    }
+
+    /** Writes {@code 0 <= value < 2^256} big-endian to {@code dst[off, off + 32)}. */
+    static void toFixedBytes(BigInteger value, byte[] dst, int off) {
+        byte[] raw = value.toByteArray();
+        int len = Math.min(raw.length, SCALAR_BYTES);
+        for (int i = 0; i < SCALAR_BYTES - len; i++) dst[off + i] = 0;
+        System.arraycopy(raw, raw.length - len, dst, off + SCALAR_BYTES - len, len);
+    }
+
+    /** The 4-bit digits of {@code k mod n}, least significant first. */
+    static byte[] windowDigits(BigInteger k) {
+        byte[] bytes = new byte[SCALAR_BYTES];
+        toFixedBytes(k.mod(ORDER), bytes, 0);
+        byte[] digits = new byte[WINDOWS];
+        for (int i = 0; i < SCALAR_BYTES; i++) {
+            int b = bytes[SCALAR_BYTES - 1 - i] & 0xFF;
+            digits[2 * i] = (byte) (b & 0x0F);
+            digits[2 * i + 1] = (byte) (b >>> 4);
+        }
+        return digits;
+    }
+
+    // ---- Jacobian arithmetic (a = -3) ----
+
+    record Jacobian(BigInteger x, BigInteger y, BigInteger z) {
+
+        static final Jacobian INFINITY = new Jacobian(BigInteger.ONE, BigInteger.ONE, BigInteger.ZERO);
+
+        static Jacobian of(EcPoint p) {
+            return p.isInfinity() ? INFINITY : new Jacobian(p.x(), p.y(), BigInteger.ONE);
+        }
+
+        boolean isInfinity() {
+            return z.signum() == 0;
+        }
+    }
+
+    /** {@code 2p}, dbl-2001-b. */
+    static Jacobian twice(Jacobian p) {
+        if (p.isInfinity() || p.y().signum() == 0) return Jacobian.INFINITY;
+        BigInteger delta = sqr(p.z());
+        BigInteger gamma = sqr(p.y());
+        BigInteger beta = mul(p.x(), gamma);
+        BigInteger alpha = mul(sub(p.x(), delta), p.x().add(delta)).multiply(THREE).mod(P);
+        BigInteger x3 = sub(sqr(alpha), beta.shiftLeft(3).mod(P));
+        BigInteger z3 = sub(sub(sqr(p.y().add(p.z())), gamma), delta);
+        BigInteger y3 = sub(mul(alpha, sub(beta.shiftLeft(2).mod(P), x3)), sqr(gamma).shiftLeft(3).mod(P));
+        return new Jacobian(x3, y3, z3);
+    }
+
+    /** {@code p + q} for affine {@code q}, madd-2007-bl. */
+    static Jacobian addMixed(Jacobian p, EcPoint q) {
+        if (q.isInfinity()) return p;
+        if (p.isInfinity()) return Jacobian.of(q);
+        BigInteger z1z1 = sqr(p.z());
+        BigInteger u2 = mul(q.x(), z1z1);
+        BigInteger s2 = mul(mul(q.y(), p.z()), z1z1);
+        BigInteger h = sub(u2, p.x());
+        BigInteger r = sub(s2, p.y()).shiftLeft(1).mod(P);
+        if (h.signum() == 0) return r.signum() == 0 ? twice(p) : Jacobian.INFINITY;
+        BigInteger hh = sqr(h);
+        BigInteger i = hh.shiftLeft(2).mod(P);
+        BigInteger j = mul(h, i);
+        BigInteger v = mul(p.x(), i);
+        BigInteger x3 = sub(sub(sqr(r), j), v.shiftLeft(1).mod(P));
+        BigInteger y3 = sub(mul(r, sub(v, x3)), mul(p.y(), j).shiftLeft(1).mod(P));
+        BigInteger z3 = sub(sub(sqr(p.z().add(h)), z1z1), hh);
+        return new Jacobian(x3, y3, z3);
+    }
+
+    /** {@code p + q}, add-2007-bl. */
+    static Jacobian add(Jacobian p, Jacobian q) {
+        if (p.isInfinity()) return q;
+        if (q.isInfinity()) return p;
+        BigInteger z1z1 = sqr(p.z());
+        BigInteger z2z2 = sqr(q.z());
+        BigInteger u1 = mul(p.x(), z2z2);
+        BigInteger u2 = mul(q.x(), z1z1);
+        BigInteger s1 = mul(mul(p.y(), q.z()), z2z2);
+        BigInteger s2 = mul(mul(q.y(), p.z()), z1z1);
+        BigInteger h = sub(u2, u1);
+        BigInteger r = sub(s2, s1).shiftLeft(1).mod(P);
+        if (h.signum() == 0) return r.signum() == 0 ? twice(p) : Jacobian.INFINITY;
+        BigInteger i = sqr(h.shiftLeft(1));
+        BigInteger j = mul(h, i);
+        BigInteger v = mul(u1, i);
+        BigInteger x3 = sub(sub(sqr(r), j), v.shiftLeft(1).mod(P));
+        BigInteger y3 = sub(mul(r, sub(v, x3)), mul(s1, j).shiftLeft(1).mod(P));
+        BigInteger z3 = mul(sub(sub(sqr(p.z().add(q.z())), z1z1), z2z2), h);
+        return new Jacobian(x3, y3, z3);
+    }
+
+    /** {@code x * p} for a small positive {@code x}, left to right. */
+    private static Jacobian multiplySmall(Jacobian p, int x) {
+        if (p.isInfinity()) return p;
+        Jacobian acc = p;
+        for (int bit = 30 - Integer.numberOfLeadingZeros(x); bit >= 0; bit--) {
+            acc = twice(acc);
+            if ((x >>> bit & 1) != 0) acc = add(acc, p);
+        }
+        return acc;
+    }
+
+    static EcPoint toAffine(Jacobian p) {
+        if (p.isInfinity()) return EcPoint.INFINITY;
+        BigInteger zInv = p.z().modInverse(P);
+        BigInteger zInv2 = sqr(zInv);
+        return EcPoint.affine(mul(p.x(), zInv2), mul(p.y(), mul(zInv2, zInv)));
+    }
+
+    /**
+     * Affine forms of {@code points[0, count)} with one field inversion; none of them may be infinity.
+     */
+    static EcPoint[] normalizeAll(Jacobian[] points, int count) {
+        EcPoint[] result = new EcPoint[count];
+        if (count == 0) return result;
+        BigInteger[] prefix = new BigInteger[count];
+        BigInteger running = BigInteger.ONE;
+        for (int i = 0; i < count; i++) {
+            prefix[i] = running;
+            running = mul(running, points[i].z());
+        }
+        BigInteger inv = running.modInverse(P);
+        for (int i = count - 1; i >= 0; i--) {
+            BigInteger zInv = mul(inv, prefix[i]);
+            inv = mul(inv, points[i].z());
+            BigInteger zInv2 = sqr(zInv);
+            result[i] = EcPoint.affine(mul(points[i].x(), zInv2), mul(points[i].y(), mul(zInv2, zInv)));
+        }
+        return result;
+    }
+
+    private static BigInteger mul(BigInteger a, BigInteger b) {
+        return a.multiply(b).mod(P);
+    }
+
+    private static BigInteger sqr(BigInteger a) {
+        return a.multiply(a).mod(P);
+    }
+
+    private static BigInteger sub(BigInteger a, BigInteger b) {
+        BigInteger r = a.subtract(b);
+        return r.signum() < 0 ? r.add(P) : r;
+    }
+}
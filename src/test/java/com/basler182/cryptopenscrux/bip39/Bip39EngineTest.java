@@ -0,0 +1,109 @@
+package com.basler182.cryptopenscrux.bip39;
+
+import com.basler182.cryptopenscrux.util.HexUtil;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Bip39EngineTest {
+
+    private final Bip39Engine engine = Bip39Engine.english();
+
+    @Test
+    void givenReferenceVector_whenToMnemonicAndToSeed_thenMatchesBip39TestVector() {
+        // given: first vector of the reference BIP-39 test suite
+        byte[] entropy = new byte[16];
+
+        // when
+        List<String> mnemonic = engine.toMnemonic(entropy);
+        byte[] seed = engine.toSeed(mnemonic, "TREZOR");
+
+        // then
+        assertEquals("abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon about",
+                String.join(" ", mnemonic));
+        assertEquals("C55257C360C07C72029AEBC1B53C05ED0362ADA38EAD3E3E9EFA3708E53495531F09A6987599D18264C1E1C92F2CF141630C7A3C4AB7C81B2F001698E7463B04",
+                HexUtil.bytesToHex(seed));
+    }
+
+    @Test
+    void givenAllOnesEntropy_whenToMnemonic_thenMatchesKnownChecksumWord() {
+        // given
+        byte[] entropy = new byte[32];
+        Arrays.fill(entropy, (byte) 0xFF);
+
+        // when
+        List<String> mnemonic = engine.toMnemonic(entropy);
+
+        // then
+        assertEquals(24, mnemonic.size());
+        assertEquals("vote", mnemonic.get(23), "24-word all-ones vector ends with the checksum word 'vote'");
+    }
+
+    @Test
+    void givenRandomEntropyOfEveryLength_whenRoundTrip_thenEntropyIsRecovered() {
+        Random random = new Random(5);
+        for (int words : new int[]{12, 15, 18, 21, 24}) {
+            // given
+            byte[] entropy = new byte[Bip39Engine.entropyLength(words)];
+            random.nextBytes(entropy);
+
+            // when
+            List<String> mnemonic = engine.toMnemonic(entropy);
+
+            // then
+            assertEquals(words, mnemonic.size());
+            assertArrayEquals(entropy, engine.toEntropy(mnemonic));
+            assertTrue(engine.isValid(mnemonic));
+        }
+    }
+
+    @Test
+    void givenInvalidMnemonics_whenToEntropy_thenThrowsIllegalArgumentException() {
+        // given
+        List<String> badChecksum = List.of("abandon", "abandon", "abandon", "abandon", "abandon", "abandon",
+                "abandon", "abandon", "abandon", "abandon", "abandon", "abandon");
+        List<String> unknownWord = List.of("abandon", "abandon", "abandon", "abandon", "abandon", "abandon",
+                "abandon", "abandon", "abandon", "abandon", "abandon", "bitcoin");
+
+        // when / then
+        assertThrows(IllegalArgumentException.class, () -> engine.toEntropy(badChecksum));
+        assertThrows(IllegalArgumentException.class, () -> engine.toEntropy(unknownWord));
+        assertThrows(IllegalArgumentException.class, () -> engine.toEntropy(badChecksum.subList(0, 11)));
+        assertFalse(engine.isValid(badChecksum));
+    }
+
+    @Test
+    void givenBatch_whenToSeedsOnForkJoinPool_thenMatchesJdkPbkdf2InOrder() throws Exception {
+        // given
+        List<Bip39Engine.SeedRequest> requests = IntStream.range(0, 16)
+                .mapToObj(i -> new Bip39Engine.SeedRequest(String.join(" ", engine.toMnemonic(new byte[16 + (i % 5) * 4])), "pass" + i))
+                .toList();
+        SecretKeyFactory factory = SecretKeyFactory.getInstance("PBKDF2WithHmacSHA512");
+
+        // when
+        ForkJoinPool pool = new ForkJoinPool(4);
+        List<byte[]> seeds;
+        try {
+            seeds = Bip39Engine.toSeeds(requests, pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        // then
+        for (int i = 0; i < requests.size(); i++) {
+            Bip39Engine.SeedRequest r = requests.get(i);
+            byte[] expected = factory.generateSecret(new PBEKeySpec(r.mnemonic().toCharArray(),
+                    ("mnemonic" + r.passphrase()).getBytes(StandardCharsets.UTF_8), 2048, 512)).getEncoded();
+            assertArrayEquals(expected, seeds.get(i), "seed " + i);
+        }
+    }
+}
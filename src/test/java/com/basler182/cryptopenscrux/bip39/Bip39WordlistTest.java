@@ -0,0 +1,66 @@
+package com.basler182.cryptopenscrux.bip39;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Bip39WordlistTest {
+
+    private final Bip39Wordlist english = Bip39Wordlist.english();
+
+    @Test
+    void givenEnglishList_whenLoaded_thenIsSharedAndHasBoundaryWords() {
+        // then
+        assertSame(english, Bip39Wordlist.english(), "lists are loaded once and shared");
+        assertEquals(2048, english.size());
+        assertEquals("abandon", english.word(0));
+        assertEquals("zoo", english.word(2047));
+    }
+
+    @Test
+    void givenEveryWord_whenIndexOf_thenReturnsItsIndex() {
+        for (int i = 0; i < english.size(); i++) {
+            // when / then
+            assertEquals(i, english.indexOf(english.word(i)), "reverse lookup of " + english.word(i));
+        }
+        assertEquals(-1, english.indexOf("bitcoin"), "unknown words are not found");
+        assertEquals(-1, english.indexOf("abando"), "partial words are not found");
+        assertEquals(3, english.indexOf(" about "), "surrounding blanks are ignored");
+    }
+
+    @Test
+    void givenFourLetterPrefixes_whenIndexOfPrefix_thenResolvesUniqueWord() {
+        // when / then
+        assertEquals(english.indexOf("abandon"), english.indexOfPrefix("aban"));
+        assertEquals(english.indexOf("abandon"), english.indexOfPrefix("abandon"));
+        assertEquals(english.indexOf("zoo"), english.indexOfPrefix("zoo"));
+        assertEquals(-1, english.indexOfPrefix("abanx"), "longer input must still match the word");
+        assertEquals(-1, english.indexOfPrefix("ab"), "too short to be unique");
+        for (int i = 0; i < english.size(); i++) {
+            String w = english.word(i);
+            assertEquals(i, english.indexOfPrefix(w.substring(0, Math.min(4, w.length()))), "prefix of " + w);
+        }
+    }
+
+    @Test
+    void givenPrefix_whenComplete_thenReturnsSortedMatchesUpToLimit() {
+        // when
+        List<String> all = english.complete("aba", 10);
+        List<String> limited = english.complete("a", 3);
+
+        // then
+        assertEquals(List.of("abandon"), all);
+        assertEquals(List.of("abandon", "ability", "able"), limited);
+        assertTrue(english.complete("qq", 5).isEmpty());
+    }
+
+    @Test
+    void givenEveryLanguage_whenOf_thenItsListIsBundledAndLoads() {
+        for (Bip39Language language : Bip39Language.values()) {
+            // when / then
+            assertEquals(Bip39Wordlist.SIZE, Bip39Wordlist.of(language).size());
+        }
+    }
+}
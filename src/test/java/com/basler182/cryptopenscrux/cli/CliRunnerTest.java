@@ -0,0 +1,72 @@
+package com.basler182.cryptopenscrux.cli;
+
+import com.basler182.cryptopenscrux.service.BatchProcessor;
+import com.basler182.cryptopenscrux.service.CryptoService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CliRunnerTest {
+
+    private final BatchProcessor batchProcessor = new BatchProcessor(new CryptoService(), new ObjectMapper(), 4);
+
+    @Test
+    void givenNdjsonJobs_whenRun_thenWritesResultsAndRecordsLatencyPerOp() throws IOException {
+        // given
+        CliRunner runner = new CliRunner(batchProcessor, List.of(CliRunner.STDIO), CliRunner.STDIO, 2);
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < 20; i++) {
+            input.append("{\"id\":\"s").append(i).append("\",\"op\":\"split\",\"secret\":\"s").append(i).append("\",\"k\":2,\"n\":3}\n");
+        }
+        input.append("{\"id\":\"m\",\"op\":\"mnemonic\",\"words\":12}\n");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        LatencyStats stats = runner.run(new ByteArrayInputStream(input.toString().getBytes(StandardCharsets.UTF_8)), out);
+
+        // then
+        assertEquals(21, out.toString(StandardCharsets.UTF_8).lines().count(), "one result line per job");
+        assertEquals(20, stats.summary("split").count());
+        assertEquals(1, stats.summary("mnemonic").count());
+        assertEquals(0, runner.getExitCode(), "all jobs succeeded");
+    }
+
+    @Test
+    void givenFailingJob_whenRun_thenExitCodeIsOne() throws IOException {
+        // given
+        CliRunner runner = new CliRunner(batchProcessor, List.of(CliRunner.STDIO), CliRunner.STDIO, 0);
+        byte[] input = "{\"id\":\"bad\",\"op\":\"split\",\"secret\":\"x\",\"k\":3,\"n\":2}\n".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        LatencyStats stats = runner.run(new ByteArrayInputStream(input), new ByteArrayOutputStream());
+
+        // then
+        assertEquals(1, stats.summary("split").failed());
+        assertEquals(1, runner.getExitCode());
+    }
+
+    @Test
+    void givenOutputThatFails_whenRun_thenRethrowsAndExitCodeIsTwo() {
+        // given
+        CliRunner runner = new CliRunner(batchProcessor, List.of(CliRunner.STDIO), CliRunner.STDIO, 2);
+        byte[] input = "{\"id\":\"m\",\"op\":\"mnemonic\",\"words\":12}\n".getBytes(StandardCharsets.UTF_8);
+        OutputStream brokenPipe = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        // when / then
+        assertThrows(IOException.class, () -> runner.run(new ByteArrayInputStream(input), brokenPipe));
+        assertEquals(CliRunner.EXIT_IO_FAILED, runner.getExitCode());
+    }
+}
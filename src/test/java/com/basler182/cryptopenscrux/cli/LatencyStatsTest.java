@@ -0,0 +1,34 @@
+package com.basler182.cryptopenscrux.cli;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyStatsTest {
+
+    @Test
+    void givenRecordedLatencies_whenSummary_thenReportsNearestRankPercentiles() {
+        // given
+        LatencyStats stats = new LatencyStats();
+        for (int i = 1; i <= 200; i++) {
+            stats.record("split", i * 1_000L, i % 50 == 0);
+        }
+        stats.record(null, 5L, true);
+        stats.finish();
+
+        // when
+        LatencyStats.Summary split = stats.summary("split");
+        String report = stats.report();
+
+        // then
+        assertEquals(200, split.count());
+        assertEquals(4, split.failed());
+        assertEquals(100_000L, split.p50(), "p50 is the 100th of 200 samples");
+        assertEquals(198_000L, split.p99(), "p99 is the 198th of 200 samples");
+        assertEquals(200_000L, split.max());
+        assertEquals(1, stats.summary("invalid").count(), "malformed jobs are counted under 'invalid'");
+        assertEquals(0, stats.summary("combine").count());
+        assertTrue(report.startsWith("jobs=201 failed=5 "), report);
+        assertTrue(report.contains("split     n=200 failed=4 p50=0.100 ms p99=0.198 ms max=0.200 ms"), report);
+    }
+}
@@ -0,0 +1,122 @@
+package com.basler182.cryptopenscrux.metrics;
+
+import com.basler182.cryptopenscrux.random.BufferedSecureRandomProvider;
+import com.basler182.cryptopenscrux.service.CryptoService;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CryptoMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private final CryptoService cryptoService =
+            new CryptoService(BufferedSecureRandomProvider.createDefault(), new CryptoMetrics(registry));
+
+    @Test
+    void givenSplitAndCombine_whenCalled_thenTimersAndSummariesRecorded() {
+        // given
+        String secret = "metrics secret";
+
+        // when
+        List<String> shares = new ArrayList<>(cryptoService.splitSecret(secret, 3, 5).values());
+        cryptoService.combineShares(shares.subList(0, 3));
+        cryptoService.generateMnemonic(24);
+
+        // then
+        assertEquals(1, registry.get("cryptopenscrux.split").timer().count());
+        assertEquals(1, registry.get("cryptopenscrux.combine").timer().count());
+        assertEquals(1, registry.get("cryptopenscrux.mnemonic").timer().count());
+        assertEquals(secret.length(), registry.get("cryptopenscrux.secret.size").tag("operation", "split")
+                .summary().totalAmount());
+        assertEquals(3, registry.get("cryptopenscrux.scheme.threshold").tag("operation", "split").summary().max());
+        assertEquals(5, registry.get("cryptopenscrux.scheme.shares").tag("operation", "split").summary().max());
+        assertEquals(32, registry.get("cryptopenscrux.secret.size").tag("operation", "mnemonic").summary().max());
+    }
+
+    @Test
+    void givenPositionedFileChannel_whenSplitFile_thenSecretSizeCountsOnlyTheSplitBytes(@TempDir Path dir) throws IOException {
+        // given
+        Path file = Files.write(dir.resolve("secret.bin"), new byte[1000]);
+        List<ByteArrayOutputStream> outputs = List.of(new ByteArrayOutputStream(), new ByteArrayOutputStream());
+
+        // when
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            channel.position(400);
+            cryptoService.splitFile(channel, 2, 2, outputs);
+        }
+
+        // then
+        assertEquals(600, registry.get("cryptopenscrux.secret.size").tag("operation", "split").summary().totalAmount());
+        assertEquals(601, outputs.get(0).size(), "index byte plus the split bytes");
+    }
+
+    @Test
+    void givenInvalidInput_whenSplitOrCombine_thenFailureCountedByReason() {
+        // given
+        List<String> shares = new ArrayList<>(cryptoService.splitSecret("abc", 2, 3).values());
+
+        // when
+        assertThrows(IllegalArgumentException.class, () -> cryptoService.splitSecret("abc", 1, 3));
+        assertThrows(IllegalArgumentException.class, () -> cryptoService.combineShares(List.of(shares.get(0), shares.get(0))));
+        assertThrows(IllegalArgumentException.class, () -> cryptoService.combineShares(List.of("ZZZZ", "ZZZZ")));
+
+        // then
+        assertEquals(1, failures("split", "invalid_scheme"));
+        assertEquals(1, failures("combine", "invalid_index"));
+        assertEquals(1, failures("combine", CryptoMetrics.MALFORMED_REASON));
+        assertEquals(0, registry.get("cryptopenscrux.combine").timer().count(), "failed calls must not be timed");
+    }
+
+    @Test
+    void givenRecordedCalls_whenInspectingMeters_thenNoTagContainsSecretMaterial() {
+        // given
+        String secret = "do-not-leak-me";
+        List<String> shares = new ArrayList<>(cryptoService.splitSecret(secret, 2, 2).values());
+
+        // when
+        cryptoService.combineShares(shares);
+
+        // then
+        for (Meter meter : registry.getMeters()) {
+            for (Tag tag : meter.getId().getTags()) {
+                assertFalse(tag.getValue().contains(secret));
+                for (String share : shares) {
+                    assertFalse(tag.getValue().contains(share));
+                }
+            }
+        }
+    }
+
+    @Test
+    void givenNoopMetrics_whenRecording_thenNothingHappens() {
+        // given
+        CryptoMetrics noop = CryptoMetrics.noop();
+
+        // when
+        long start = noop.start();
+        noop.recordSplit(start, 10, 2, 3);
+        noop.recordFailure(CryptoMetrics.Operation.COMBINE, new IllegalArgumentException());
+
+        // then
+        assertFalse(noop.isEnabled());
+        assertEquals(0L, start, "disabled metrics must not read the clock");
+    }
+
+    private double failures(String operation, String reason) {
+        return registry.get("cryptopenscrux.failures").tag("operation", operation).tag("reason", reason).counter().count();
+    }
+}
@@ -0,0 +1,101 @@
+package com.basler182.cryptopenscrux.random;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BufferedSecureRandomProviderTest {
+
+    @Test
+    void givenPartialReads_whenNextBytes_thenHandedOutBytesAreWipedFromBuffer() {
+        // given
+        BufferedSecureRandomProvider provider = new BufferedSecureRandomProvider("DRBG", 64);
+        byte[] dst = new byte[10];
+
+        // when
+        provider.nextBytes(dst, 2, 6);
+
+        // then
+        byte[] buffer = provider.currentThreadBuffer();
+        for (int i = 0; i < 6; i++) {
+            assertEquals(0, buffer[i], "consumed byte " + i + " must be zeroed");
+        }
+        assertEquals(0, dst[0], "bytes outside the range stay untouched");
+        assertEquals(0, dst[9], "bytes outside the range stay untouched");
+    }
+
+    @Test
+    void givenRequestsLargerThanBuffer_whenNextBytes_thenAllBytesAreFilled() {
+        // given
+        BufferedSecureRandomProvider provider = new BufferedSecureRandomProvider("DRBG", 16);
+        byte[] a = new byte[1000];
+        byte[] b = new byte[1000];
+
+        // when
+        provider.nextBytes(a, 0, 1000);
+        provider.nextBytes(b, 1, 999);
+
+        // then
+        assertFalse(Arrays.equals(a, b), "successive draws must differ");
+        long zeros = 0;
+        for (byte v : b) if (v == 0) zeros++;
+        assertTrue(zeros < 30, "buffer refills must not leave zeroed gaps");
+    }
+
+    @Test
+    void givenNonPowerOfTwoBound_whenNextInt_thenValuesStayInRangeAndCoverIt() {
+        // given
+        RandomnessProvider provider = BufferedSecureRandomProvider.createDefault();
+        boolean[] seen = new boolean[2048];
+
+        // when
+        for (int i = 0; i < 100_000; i++) {
+            int v = provider.nextInt(2048 - 5);
+            assertTrue(v >= 0 && v < 2043, "value out of range: " + v);
+            seen[v] = true;
+        }
+
+        // then
+        int covered = 0;
+        for (boolean s : seen) if (s) covered++;
+        assertTrue(covered > 2000, "nextInt should cover the range");
+        assertThrows(IllegalArgumentException.class, () -> provider.nextInt(0));
+    }
+
+    @Test
+    void givenUnknownAlgorithm_whenCreate_thenFailsFast() {
+        assertThrows(IllegalStateException.class, () -> new BufferedSecureRandomProvider("NoSuchRng", 64));
+    }
+
+    @Test
+    void givenPlatformAndVirtualThreads_whenNextBytesConcurrently_thenEveryCallSucceeds() throws Exception {
+        // given
+        BufferedSecureRandomProvider provider = new BufferedSecureRandomProvider("DRBG", 128);
+        List<Future<byte[]>> results = new ArrayList<>();
+
+        // when
+        try (ExecutorService platform = Executors.newFixedThreadPool(4);
+             ExecutorService virtual = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 200; i++) {
+                ExecutorService executor = i % 2 == 0 ? platform : virtual;
+                results.add(executor.submit(() -> {
+                    byte[] buf = new byte[300];
+                    provider.nextBytes(buf);
+                    return buf;
+                }));
+            }
+        }
+
+        // then
+        for (Future<byte[]> f : results) {
+            assertEquals(300, f.get().length);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.basler182.cryptopenscrux.secret;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SecretBufferPoolTest {
+
+    @Test
+    void givenClosedBuffer_whenReacquired_thenMemoryIsReusedAndZeroed() {
+        // given
+        SecretBufferPool pool = new SecretBufferPool(4, 4096);
+        SecretBuffer first = pool.acquire(300);
+        ByteBuffer view = first.buffer();
+        for (int i = 0; i < first.length(); i++) {
+            first.put(i, (byte) 0x5A);
+        }
+
+        // when
+        first.close();
+        SecretBuffer second = pool.acquire(400);
+
+        // then
+        assertTrue(first.isClosed());
+        assertEquals(0, pool.idleCount(), "the released buffer must be handed out again");
+        for (int i = 0; i < view.capacity(); i++) {
+            assertEquals(0, view.get(i), "released memory must be zeroed");
+        }
+        assertEquals(400, second.length());
+        second.close();
+        assertEquals(1, pool.idleCount());
+    }
+
+    @Test
+    void givenClosedBuffer_whenAccessed_thenThrowsAndCloseIsIdempotent() {
+        // given
+        SecretBufferPool pool = new SecretBufferPool(4, 4096);
+        SecretBuffer buffer = pool.acquire(8);
+
+        // when
+        buffer.close();
+        buffer.close();
+
+        // then
+        assertThrows(IllegalStateException.class, () -> buffer.get(0));
+        assertThrows(IllegalStateException.class, buffer::buffer);
+        assertEquals(1, pool.idleCount(), "a double close must not release twice");
+    }
+
+    @Test
+    void givenOversizedRequest_whenClosed_thenNotRetained() {
+        // given
+        SecretBufferPool pool = new SecretBufferPool(4, 1024);
+
+        // when
+        SecretBuffer buffer = pool.acquire(5000);
+        buffer.close();
+
+        // then
+        assertEquals(0, pool.idleCount());
+    }
+
+    @Test
+    void givenText_whenAcquireUtf8_thenEncodedWithoutHeapCopy() {
+        // given
+        String text = "Grüße 🔑 secret";
+
+        // when
+        try (SecretBuffer buffer = SecretBufferPool.shared().acquireUtf8(text)) {
+            // then
+            byte[] expected = text.getBytes(StandardCharsets.UTF_8);
+            assertEquals(expected.length, buffer.length());
+            byte[] actual = new byte[buffer.length()];
+            buffer.get(0, actual, 0, actual.length);
+            assertArrayEquals(expected, actual);
+        }
+        assertThrows(IllegalArgumentException.class, () -> SecretBufferPool.shared().acquireUtf8("\uD800x"));
+    }
+}
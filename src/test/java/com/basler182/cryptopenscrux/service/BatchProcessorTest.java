@@ -0,0 +1,102 @@
+package com.basler182.cryptopenscrux.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchProcessorTest {
+
+    private final CryptoService cryptoService = new CryptoService();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final BatchProcessor batchProcessor = new BatchProcessor(cryptoService, objectMapper, 4);
+
+    @Test
+    void givenMixedNdjsonBatch_whenProcess_thenWritesOneResultLinePerJob() throws IOException {
+        // given
+        Map<Integer, String> shares = cryptoService.splitSecret("zoo zoo wrong", 2, 3);
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < 50; i++) {
+            input.append(objectMapper.writeValueAsString(new BatchJob("s" + i, "split", "secret " + i, 2, 3, null, null))).append('\n');
+        }
+        input.append(objectMapper.writeValueAsString(
+                new BatchJob("c", "combine", null, null, null, List.of(shares.get(1), shares.get(3)), null))).append('\n');
+        input.append('\n');
+        input.append(objectMapper.writeValueAsString(new BatchJob("bad", "split", "x", 3, 2, null, null))).append('\n');
+        input.append("{not json\n");
+
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long jobs = batchProcessor.process(new ByteArrayInputStream(input.toString().getBytes(StandardCharsets.UTF_8)), out);
+
+        // then
+        List<BatchResult> results = Arrays.stream(out.toString(StandardCharsets.UTF_8).split("\n"))
+                .map(l -> {
+                    try {
+                        return objectMapper.readValue(l, BatchResult.class);
+                    } catch (IOException e) {
+                        throw new AssertionError(e);
+                    }
+                })
+                .toList();
+        assertEquals(53, jobs, "blank lines are skipped");
+        assertEquals(53, results.size(), "one result line per job");
+        Map<String, BatchResult> byId = results.stream().filter(r -> r.id() != null)
+                .collect(Collectors.toMap(BatchResult::id, r -> r));
+        assertEquals(3, byId.get("s7").shares().size(), "split job returns n shares");
+        assertEquals("secret 7", cryptoService.combineShares(List.of(byId.get("s7").shares().get(1), byId.get("s7").shares().get(2))));
+        assertEquals("zoo zoo wrong", byId.get("c").secret(), "combine job returns the secret");
+        assertNotNull(byId.get("bad").error(), "invalid parameters are reported per job");
+        assertTrue(results.stream().anyMatch(r -> r.id() == null && r.error().startsWith("Malformed job")),
+                "malformed lines are reported without aborting the batch");
+    }
+
+    @Test
+    void givenMalformedLineWithSecret_whenProcess_thenErrorNamesLineButNotInput() throws IOException {
+        // given
+        String input = "\n{\"id\":\"ok\",\"op\":\"mnemonic\",\"words\":12}\n"
+                + "{\"op\":\"split\",\"secret\":TOPSECRETVALUE,\"k\":2,\"n\":3}\n";
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        batchProcessor.process(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), out);
+
+        // then
+        String output = out.toString(StandardCharsets.UTF_8);
+        assertFalse(output.contains("TOPSECRETVALUE"), output);
+        assertTrue(output.contains("\"Malformed job on line 3\""), output);
+    }
+
+    @Test
+    void givenOutputThatFails_whenProcess_thenStopsReadingAndRethrowsWriteFailure() throws IOException {
+        // given
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            input.append(objectMapper.writeValueAsString(new BatchJob("s" + i, "split", "secret " + i, 2, 3, null, null))).append('\n');
+        }
+        ByteArrayInputStream in = new ByteArrayInputStream(input.toString().getBytes(StandardCharsets.UTF_8));
+        OutputStream brokenPipe = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        // when
+        IOException e = assertThrows(IOException.class, () -> batchProcessor.process(in, brokenPipe));
+
+        // then
+        assertEquals("Broken pipe", e.getMessage());
+        assertTrue(in.available() > 0, "the rest of the upload is not read after the first write failure");
+    }
+}
@@ -1,11 +1,35 @@
 package com.basler182.cryptopenscrux.service;
 
+import com.basler182.cryptopenscrux.bip39.Bip39Engine;
+import com.basler182.cryptopenscrux.metrics.CryptoMetrics;
+import com.basler182.cryptopenscrux.random.BufferedSecureRandomProvider;
+import com.basler182.cryptopenscrux.secret.SecretBuffer;
+import com.basler182.cryptopenscrux.secret.SecretBufferPool;
+import com.basler182.cryptopenscrux.slip39.Slip39Group;
+import com.basler182.cryptopenscrux.util.BinaryShareCodec;
+import com.basler182.cryptopenscrux.util.HexUtil;
+import com.basler182.cryptopenscrux.vault.ShareVault;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -29,6 +53,12 @@ class CryptoServiceTest {
         // optional: words should be alphabetic (bip-39 wordlist)
         assertTrue(mnemonic.stream().allMatch(w -> w.matches("^[a-z]+$")),
                 "mnemonic words should be lowercase alphabetic");
+        assertTrue(Bip39Engine.english().isValid(mnemonic), "mnemonic must carry a valid BIP-39 checksum");
+    }
+
+    @Test
+    void givenNonStandardWordCount_whenGenerateMnemonic_thenThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> cryptoService.generateMnemonic(20));
     }
 
     @Test
@@ -85,4 +115,389 @@ class CryptoServiceTest {
         assertThrows(IllegalArgumentException.class, () -> cryptoService.splitSecret(sampleSecret, 2, 0),
                 "non-positive total shares should throw IllegalArgumentException");
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenSameShareIndexes_whenCombineRepeatedly_thenLagrangeWeightsAreCached() {
+        // given
+        Map<Integer, String> shares = cryptoService.splitSecret("correct horse battery staple", 3, 5);
+        List<String> subset = List.of(shares.get(4), shares.get(2), shares.get(5));
+        List<String> reordered = List.of(shares.get(5), shares.get(4), shares.get(2));
+
+        // when
+        String first = cryptoService.combineShares(subset);
+        String second = cryptoService.combineShares(reordered);
+
+        // then
+        assertEquals("correct horse battery staple", first);
+        assertEquals(first, second, "share order must not matter");
+        assertEquals(1, cryptoService.lagrangeCacheStats().misses(), "weights computed once");
+        assertEquals(1, cryptoService.lagrangeCacheStats().hits(), "second combine served from cache");
+    }
+
+    @Test
+    void givenMultiChunkBinarySecret_whenSplitStreamAndCombineStreams_thenRoundTrips() throws IOException {
+        // given
+        byte[] secret = new byte[3 * CryptoService.STREAM_CHUNK_SIZE + 17];
+        new Random(1).nextBytes(secret);
+        List<ByteArrayOutputStream> outputs = newOutputs(5);
+
+        // when
+        cryptoService.splitStream(new ByteArrayInputStream(secret), 3, 5, outputs);
+        ByteArrayOutputStream recovered = new ByteArrayOutputStream();
+        cryptoService.combineStreams(List.of(
+                new ByteArrayInputStream(outputs.get(4).toByteArray()),
+                new ByteArrayInputStream(outputs.get(0).toByteArray()),
+                new ByteArrayInputStream(outputs.get(2).toByteArray())), recovered);
+
+        // then
+        assertEquals(secret.length + 1, outputs.getFirst().size(), "share stream = index byte + data");
+        assertEquals(5, outputs.get(4).toByteArray()[0], "share stream starts with its index");
+        assertArrayEquals(secret, recovered.toByteArray(), "streamed shares must reconstruct the secret");
+    }
+
+    @Test
+    void givenFile_whenSplitFileAndCombineStreams_thenRoundTrips(@TempDir Path dir) throws IOException {
+        // given
+        byte[] secret = new byte[CryptoService.STREAM_CHUNK_SIZE + 1000];
+        new Random(2).nextBytes(secret);
+        Path file = Files.write(dir.resolve("secret.bin"), secret);
+        List<ByteArrayOutputStream> outputs = newOutputs(3);
+
+        // when
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            cryptoService.splitFile(channel, 2, 3, outputs);
+        }
+        ByteArrayOutputStream recovered = new ByteArrayOutputStream();
+        cryptoService.combineStreams(List.of(
+                new ByteArrayInputStream(outputs.get(1).toByteArray()),
+                new ByteArrayInputStream(outputs.get(2).toByteArray())), recovered);
+
+        // then
+        assertArrayEquals(secret, recovered.toByteArray(), "mapped split must reconstruct the secret");
+    }
+
+    @Test
+    void givenTruncatedShareStream_whenCombineStreams_thenThrowsIllegalArgumentException() throws IOException {
+        // given
+        List<ByteArrayOutputStream> outputs = newOutputs(3);
+        cryptoService.splitStream(new ByteArrayInputStream(new byte[100]), 2, 3, outputs);
+        byte[] truncated = Arrays.copyOf(outputs.get(1).toByteArray(), 50);
+
+        // when / then
+        assertThrows(IllegalArgumentException.class, () -> cryptoService.combineStreams(List.of(
+                        new ByteArrayInputStream(outputs.get(0).toByteArray()),
+                        new ByteArrayInputStream(truncated)), new ByteArrayOutputStream()),
+                "share streams of different length must be rejected");
+    }
+
+    @Test
+    void givenBinarySecret_whenSplitAndCombineBinaryShares_thenRoundTrips() {
+        // given
+        byte[] secret = new byte[1000];
+        new Random(3).nextBytes(secret);
+        ByteBuffer[] buffers = newShareBuffers(5, secret.length, false);
+
+        // when
+        cryptoService.splitSecret(secret, 3, 5, buffers);
+        byte[] recovered = cryptoService.combineShares(
+                buffers[4].flip(), buffers[1].flip(), buffers[2].flip());
+
+        // then
+        assertArrayEquals(secret, recovered, "binary shares must reconstruct the secret");
+    }
+
+    @Test
+    void givenDirectBuffers_whenSplitAndCombineBinaryShares_thenRoundTrips() {
+        // given
+        byte[] secret = "direct buffer secret".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer[] buffers = newShareBuffers(3, secret.length, true);
+
+        // when
+        cryptoService.splitSecret(secret, 2, 3, buffers);
+        byte[] recovered = cryptoService.combineShares(buffers[0].flip(), buffers[2].flip());
+
+        // then
+        assertArrayEquals(secret, recovered);
+    }
+
+    @Test
+    void givenCorruptedOrMismatchedBinaryShares_whenCombine_thenRejectedBeforeInterpolation() {
+        // given
+        byte[] secret = new byte[64];
+        ByteBuffer[] setA = newShareBuffers(3, secret.length, false);
+        ByteBuffer[] setB = newShareBuffers(3, secret.length, false);
+        cryptoService.splitSecret(secret, 2, 3, setA);
+        cryptoService.splitSecret(secret, 2, 3, setB);
+        ByteBuffer corrupted = setA[1].flip();
+        corrupted.put(30, (byte) (corrupted.get(30) ^ 0x40));
+
+        // when / then
+        assertThrows(IllegalArgumentException.class, () -> cryptoService.combineShares(setA[0].flip(), corrupted),
+                "damaged share must fail the checksum");
+        assertThrows(IllegalArgumentException.class, () -> cryptoService.combineShares(setA[0], setB[1].flip()),
+                "shares from different splits must be rejected");
+        assertThrows(IllegalArgumentException.class, () -> cryptoService.combineShares(setB[0].flip()),
+                "a single share must be rejected");
+    }
+
+    @Test
+    void givenOneCorruptShareOutOfFive_whenCombineSharesRobust_thenSecretRecoveredAndShareReported() {
+        // given
+        String secret = "robust recovery of a longer secret";
+        Map<Integer, String> shares = cryptoService.splitSecret(secret, 3, 5);
+        List<String> all = new ArrayList<>(shares.values());
+        all.set(1, flipHexDigits(all.get(1), 4, 9, 20));
+
+        // when
+        RecoveryResult result = cryptoService.combineSharesRobust(all, 3);
+
+        // then
+        assertEquals(secret, result.secret(), "corrupted share must be corrected");
+        assertEquals(java.util.Set.of(2), result.corruptShareIndexes(), "share 2 must be reported as corrupt");
+        assertTrue(result.hadCorruption());
+    }
+
+    @Test
+    void givenCorruptShareAmongFirstK_whenCombineSharesRobust_thenSecretRecovered() {
+        // given
+        String secret = "first share is bad";
+        List<String> all = new ArrayList<>(cryptoService.splitSecret(secret, 2, 5).values());
+        all.set(0, flipHexDigits(all.get(0), 2, 3));
+
+        // when
+        RecoveryResult result = cryptoService.combineSharesRobust(all, 2);
+
+        // then
+        assertEquals(secret, result.secret());
+        assertEquals(java.util.Set.of(1), result.corruptShareIndexes());
+    }
+
+    @Test
+    void givenIntactShares_whenCombineSharesRobust_thenNoCorruptionReported() {
+        // given
+        String secret = "all good";
+        List<String> all = new ArrayList<>(cryptoService.splitSecret(secret, 3, 5).values());
+
+        // when
+        RecoveryResult result = cryptoService.combineSharesRobust(all, 3);
+
+        // then
+        assertEquals(secret, result.secret());
+        assertFalse(result.hadCorruption());
+    }
+
+    @Test
+    void givenTooManyCorruptShares_whenCombineSharesRobust_thenThrowsOrReturnsDifferentSecret() {
+        // given
+        String secret = "too broken";
+        List<String> all = new ArrayList<>(cryptoService.splitSecret(secret, 3, 5).values());
+        all.set(0, flipHexDigits(all.get(0), 2));
+        all.set(3, flipHexDigits(all.get(3), 2));
+
+        // when / then
+        // Two errors exceed what five shares of threshold 3 can correct: the set is either rejected or, for some
+        // random polynomials, miscorrected to another codeword, but never decoded to the original secret.
+        try {
+            assertNotEquals(secret, cryptoService.combineSharesRobust(all, 3).secret());
+        } catch (IllegalArgumentException expected) {
+            // rejected
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> cryptoService.combineSharesRobust(all.subList(0, 2), 3), "fewer than k shares must be rejected");
+    }
+
+    @Test
+    void givenSecretBuffer_whenSplitAndCombineOffHeap_thenRoundTripsAndMatchesHexShares() {
+        // given
+        byte[] secret = new byte[3 * 64 * 1024 + 17];
+        new Random(14).nextBytes(secret);
+        SecretBufferPool pool = SecretBufferPool.shared();
+
+        try (SecretBuffer input = pool.acquire(secret.length).put(0, secret, 0, secret.length)) {
+            // when
+            SecretBuffer[] shares = cryptoService.splitSecret(input, 3, 5);
+            try (SecretBuffer recovered = cryptoService.combineShares(shares[4], shares[0], shares[2])) {
+                // then
+                assertEquals(5, shares.length);
+                assertEquals(secret.length + 1, shares[1].length());
+                assertEquals(2, shares[1].get(0), "share buffer must start with its index");
+                byte[] actual = new byte[recovered.length()];
+                recovered.get(0, actual, 0, actual.length);
+                assertArrayEquals(secret, actual);
+            } finally {
+                for (SecretBuffer share : shares) share.close();
+            }
+            assertTrue(shares[0].isClosed());
+        }
+    }
+
+    @Test
+    void givenDuplicateShareBuffers_whenCombineOffHeap_thenThrowsIllegalArgumentException() {
+        // given
+        try (SecretBuffer input = SecretBufferPool.shared().acquireUtf8("dup")) {
+            SecretBuffer[] shares = cryptoService.splitSecret(input, 2, 3);
+
+            // when / then
+            assertThrows(IllegalArgumentException.class, () -> cryptoService.combineShares(shares[1], shares[1]));
+            for (SecretBuffer share : shares) share.close();
+        }
+    }
+
+    @Test
+    void givenSequentialSettings_whenSplitSecretLargerThanChunk_thenRangesRoundTripAtMaxThreshold() {
+        // given
+        byte[] secret = new byte[3 * 4096 + 7];
+        new Random(16).nextBytes(secret);
+        ParallelSettings settings = new ParallelSettings(ForkJoinPool.commonPool(), Integer.MAX_VALUE, 4096);
+        CryptoService sequentialService = new CryptoService(
+                BufferedSecureRandomProvider.createDefault(), CryptoMetrics.noop(), settings);
+        ByteBuffer[] buffers = newShareBuffers(255, secret.length, false);
+
+        // when
+        sequentialService.splitSecret(secret, 255, 255, buffers);
+        for (ByteBuffer buffer : buffers) buffer.flip();
+
+        // then
+        assertArrayEquals(secret, cryptoService.combineShares(buffers));
+        assertThrows(IllegalArgumentException.class, () -> new ParallelSettings(
+                ForkJoinPool.commonPool(), Integer.MAX_VALUE, ParallelSettings.MAX_CHUNK_SIZE + 1));
+    }
+
+    @Test
+    void givenParallelSettings_whenSplitAndCombineLargeSecret_thenInteroperatesWithSequentialPath() {
+        // given
+        byte[] secret = new byte[5 * 4096 + 123];
+        new Random(15).nextBytes(secret);
+        char[] text = new char[secret.length];
+        for (int i = 0; i < text.length; i++) {
+            text[i] = (char) ('!' + (secret[i] & 0x3F));
+        }
+        String textSecret = new String(text);
+
+        try (ParallelSettings settings = new ParallelSettings(new ForkJoinPool(4), 1, 4096)) {
+            CryptoService parallelService = new CryptoService(
+                    BufferedSecureRandomProvider.createDefault(), CryptoMetrics.noop(), settings);
+            ByteBuffer[] buffers = newShareBuffers(5, secret.length, true);
+
+            // when
+            List<String> hexShares = new ArrayList<>(parallelService.splitSecret(textSecret, 3, 5).values());
+            parallelService.splitSecret(secret, 3, 5, buffers);
+            for (ByteBuffer buffer : buffers) buffer.flip();
+
+            // then
+            assertEquals(textSecret, cryptoService.combineShares(hexShares.subList(1, 4)), "sequential combine of parallel split");
+            assertEquals(textSecret, parallelService.combineShares(hexShares.subList(2, 5)), "parallel combine");
+            assertArrayEquals(secret, parallelService.combineShares(buffers[0], buffers[3], buffers[4]));
+            assertArrayEquals(secret, cryptoService.combineShares(buffers[1], buffers[2], buffers[4]));
+        }
+    }
+
+    @Test
+    void givenCallerBuffers_whenSplitInto_thenSharesCombineToSecret() {
+        // given
+        byte[] secret = "caller supplied buffers".getBytes(StandardCharsets.UTF_8);
+        byte[][] outputs = new byte[5][secret.length + 3];
+
+        // when
+        cryptoService.splitSecret(secret, 0, secret.length, 3, outputs, 3);
+
+        // then
+        List<String> hex = new ArrayList<>();
+        for (int x : new int[]{2, 4, 5}) {
+            byte[] share = Arrays.copyOfRange(outputs[x - 1], 2, outputs[x - 1].length);
+            share[0] = (byte) x;
+            hex.add(HexUtil.bytesToHex(share));
+        }
+        assertEquals(new String(secret, StandardCharsets.UTF_8), cryptoService.combineShares(hex));
+        assertThrows(IllegalArgumentException.class,
+                () -> cryptoService.splitSecret(secret, 0, secret.length, 3, new byte[5][4], 0), "outputs too small");
+    }
+
+    @Test
+    void givenSlip39Groups_whenSplitAndCombineSlip39_thenRestoresMasterSecret() {
+        // given
+        byte[] secret = new byte[16];
+        new Random(5).nextBytes(secret);
+        List<Slip39Group> groups = List.of(new Slip39Group(2, 3));
+
+        // when
+        List<List<String>> mnemonics = cryptoService.splitSecretSlip39(secret, "TREZOR", 1, groups);
+
+        // then
+        assertEquals(3, mnemonics.get(0).size());
+        assertArrayEquals(secret, cryptoService.combineSharesSlip39(mnemonics.get(0).subList(1, 3), "TREZOR"));
+        assertThrows(IllegalArgumentException.class, () -> cryptoService.combineSharesSlip39(mnemonics.get(0), "\u00e9"));
+    }
+
+    @Test
+    void givenPublishedSlip39Vectors_whenCombineSharesSlip39_thenRecoversExpectedMasterSecrets() {
+        // given: vectors 1, 4, 18 and 21 of the SLIP-0039 reference test vectors, passphrase "TREZOR"
+        Map<String, List<String>> vectors = Map.of(
+                "bb54aac4b89dc868ba37d9cc21b2cece", List.of(
+                        "duckling enlarge academic academic agency result length solution fridge kidney coal piece deal husband erode duke ajar critical decision keyboard"),
+                "b43ceb7e57a0ea8766221624d01b0864", List.of(
+                        "shadow pistol academic always adequate wildlife fancy gross oasis cylinder mustang wrist rescue view short owner flip making coding armed",
+                        "shadow pistol academic acid actress prayer class unknown daughter sweater depict flip twice unkind craft early superior advocate guest smoking"),
+                "989baf9dcaad5b10ca33dfd8cc75e42477025dce88ae83e75a230086a0e00e92", List.of(
+                        "theory painting academic academic armed sweater year military elder discuss acne wildlife boring employer fused large satoshi bundle carbon diagnose anatomy hamster leaves tracks paces beyond phantom capital marvel lips brave detect luck"),
+                "c938b319067687e990e05e0da0ecce1278f75ff58d9853f19dcaeed5de104aae", List.of(
+                        "humidity disease academic always aluminum jewelry energy woman receiver strategy amuse duckling lying evidence network walnut tactics forget hairy rebound impulse brother survive clothes stadium mailman rival ocean reward venture always armed unwrap",
+                        "humidity disease academic agency actress jacket gross physics cylinder solution fake mortgage benefit public busy prepare sharp friar change work slow purchase ruler again tricycle involve viral wireless mixture anatomy desert cargo upgrade"));
+
+        vectors.forEach((expected, mnemonics) -> {
+            // when
+            byte[] masterSecret = cryptoService.combineSharesSlip39(mnemonics, "TREZOR");
+
+            // then
+            assertEquals(expected, HexUtil.bytesToHex(masterSecret).toLowerCase(Locale.ROOT));
+        });
+        // vector 2: the last word of vector 1 replaced, which breaks the RS1024 checksum
+        assertThrows(IllegalArgumentException.class, () -> cryptoService.combineSharesSlip39(List.of(
+                "duckling enlarge academic academic agency result length solution fridge kidney coal piece deal husband erode duke ajar critical decision kidney"),
+                "TREZOR"));
+    }
+
+    @Test
+    void givenVault_whenSplitIntoVaultAndCombineById_thenSecretIsRestoredFromStoredShares(@TempDir Path dir) throws IOException {
+        // given
+        String secret = "kept in the vault";
+        try (ShareVault vault = ShareVault.open(dir.resolve("shares.seg"), new SecretKeySpec(new byte[32], "AES"),
+                BufferedSecureRandomProvider.createDefault())) {
+
+            // when
+            long setId = cryptoService.splitSecret(secret, 3, 5, vault);
+
+            // then
+            assertEquals(5, vault.getSet(setId).size());
+            assertEquals(secret, cryptoService.combineShares(vault, setId));
+            vault.deleteSet(setId);
+            ShareValidationException ex = assertThrows(ShareValidationException.class, () -> cryptoService.combineShares(vault, setId));
+            assertEquals(ShareValidationException.Reason.MISSING_SHARES, ex.reason());
+        }
+    }
+
+    private static String flipHexDigits(String hex, int... positions) {
+        char[] chars = hex.toCharArray();
+        for (int p : positions) {
+            chars[p] = chars[p] == '0' ? '1' : '0';
+        }
+        return new String(chars);
+    }
+
+    private static ByteBuffer[] newShareBuffers(int n, int secretLen, boolean direct) {
+        ByteBuffer[] buffers = new ByteBuffer[n];
+        int len = BinaryShareCodec.encodedLength(secretLen);
+        for (int i = 0; i < n; i++) {
+            buffers[i] = direct ? ByteBuffer.allocateDirect(len) : ByteBuffer.allocate(len);
+        }
+        return buffers;
+    }
+
+    private static List<ByteArrayOutputStream> newOutputs(int n) {
+        List<ByteArrayOutputStream> outputs = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            outputs.add(new ByteArrayOutputStream());
+        }
+        return outputs;
+    }
+}
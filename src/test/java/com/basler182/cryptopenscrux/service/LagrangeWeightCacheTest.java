@@ -0,0 +1,47 @@
+package com.basler182.cryptopenscrux.service;
+
+import com.basler182.cryptopenscrux.util.Gf256Util;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LagrangeWeightCacheTest {
+
+    @Test
+    void givenSameIndexSetInDifferentOrder_whenWeightsFor_thenSecondLookupHitsAndWeightsFollowOrder() {
+        // given
+        LagrangeWeightCache cache = new LagrangeWeightCache(4);
+        byte[] xs = {1, 3, 5};
+        byte[] permuted = {5, 1, 3};
+
+        // when
+        byte[] first = cache.weightsFor(xs);
+        byte[] second = cache.weightsFor(permuted);
+
+        // then
+        assertArrayEquals(Gf256Util.lagrangeWeightsAtZero(xs), first, "weights must match direct computation");
+        assertArrayEquals(new byte[]{first[2], first[0], first[1]}, second, "weights must follow the supplied order");
+        assertEquals(new LagrangeWeightCache.Stats(1, 1, 1), cache.stats(), "one miss then one hit expected");
+    }
+
+    @Test
+    void givenMoreIndexSetsThanCapacity_whenWeightsFor_thenLeastRecentlyUsedIsEvicted() {
+        // given
+        LagrangeWeightCache cache = new LagrangeWeightCache(2);
+        cache.weightsFor(new byte[]{1, 2});
+        cache.weightsFor(new byte[]{1, 3});
+        cache.weightsFor(new byte[]{1, 2}); // touch {1,2}
+
+        // when
+        cache.weightsFor(new byte[]{2, 3}); // evicts {1,3}
+        cache.weightsFor(new byte[]{1, 2});
+        cache.weightsFor(new byte[]{1, 3});
+
+        // then
+        LagrangeWeightCache.Stats stats = cache.stats();
+        assertEquals(2, stats.hits(), "two lookups should hit");
+        assertEquals(4, stats.misses(), "evicted set must be recomputed");
+        assertEquals(2, stats.size(), "cache must stay bounded");
+    }
+}
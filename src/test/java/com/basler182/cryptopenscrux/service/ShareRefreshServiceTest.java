@@ -0,0 +1,104 @@
+package com.basler182.cryptopenscrux.service;
+
+import com.basler182.cryptopenscrux.random.BufferedSecureRandomProvider;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShareRefreshServiceTest {
+
+    private final CryptoService cryptoService = new CryptoService();
+    private final ShareRefreshService refreshService =
+            new ShareRefreshService(BufferedSecureRandomProvider.createDefault(), ParallelSettings.defaults());
+
+    @Test
+    void givenShareSet_whenRefresh_thenEveryShareChangesAndAnyKNewSharesRecoverSecret() {
+        // given
+        String secret = "proactive refresh keeps the secret";
+        List<String> shares = new ArrayList<>(cryptoService.splitSecret(secret, 3, 5).values());
+
+        // when
+        List<String> refreshed = refreshService.refresh(shares, 3);
+
+        // then
+        assertEquals(5, refreshed.size());
+        for (int i = 0; i < shares.size(); i++) {
+            assertEquals(shares.get(i).substring(0, 2), refreshed.get(i).substring(0, 2), "index byte is kept");
+            assertNotEquals(shares.get(i), refreshed.get(i));
+        }
+        assertEquals(secret, cryptoService.combineShares(refreshed.subList(0, 3)));
+        assertEquals(secret, cryptoService.combineShares(List.of(refreshed.get(4), refreshed.get(1), refreshed.get(2))));
+        assertNotEquals(secret, cryptoService.combineShares(List.of(shares.get(0), refreshed.get(1), refreshed.get(2))),
+                "old and refreshed shares must not combine");
+    }
+
+    @Test
+    void givenThreeOfFiveSet_whenReshareToTwoOfFourAndFourOfSeven_thenNewSchemesRecoverSecret() {
+        // given
+        String secret = "re-shared without reconstruction";
+        List<String> shares = new ArrayList<>(cryptoService.splitSecret(secret, 3, 5).values());
+
+        // when
+        Map<Integer, String> smaller = refreshService.reshare(shares.subList(2, 5), 3, 2, 4);
+        Map<Integer, String> larger = refreshService.reshare(shares, 3, 4, 7);
+
+        // then
+        assertEquals(4, smaller.size());
+        assertEquals(secret, cryptoService.combineShares(List.of(smaller.get(1), smaller.get(4))));
+        assertEquals(secret, cryptoService.combineShares(List.of(smaller.get(3), smaller.get(2))));
+        assertEquals(7, larger.size());
+        assertEquals(secret, cryptoService.combineShares(List.of(larger.get(7), larger.get(2), larger.get(5), larger.get(1))));
+    }
+
+    @Test
+    void givenTooFewShares_whenReshare_thenThrowsShareValidationException() {
+        // given
+        List<String> shares = new ArrayList<>(cryptoService.splitSecret("abc", 3, 5).values());
+
+        // when / then
+        ShareValidationException ex = assertThrows(ShareValidationException.class,
+                () -> refreshService.reshare(shares.subList(0, 2), 3, 2, 3));
+        assertEquals(ShareValidationException.Reason.MISSING_SHARES, ex.reason());
+        assertThrows(ShareValidationException.class, () -> refreshService.reshare(shares, 3, 1, 3));
+    }
+
+    @Test
+    void givenThresholdAboveShareCountOrRange_whenRefresh_thenThrowsShareValidationException() {
+        // given
+        List<String> shares = new ArrayList<>(cryptoService.splitSecret("abc", 3, 5).values());
+
+        // when / then
+        ShareValidationException tooFew = assertThrows(ShareValidationException.class, () -> refreshService.refresh(shares, 6));
+        assertEquals(ShareValidationException.Reason.MISSING_SHARES, tooFew.reason());
+        ShareValidationException tooLarge = assertThrows(ShareValidationException.class, () -> refreshService.refresh(shares, 256));
+        assertEquals(ShareValidationException.Reason.INVALID_SCHEME, tooLarge.reason());
+        assertThrows(ShareValidationException.class, () -> refreshService.reshare(shares, 256, 2, 3));
+    }
+
+    @Test
+    void givenThousandShareSets_whenRefreshAllAndReshareAll_thenEverySetStillRecoversItsSecret() {
+        // given
+        List<String> secrets = new ArrayList<>();
+        List<List<String>> sets = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            String secret = "secret-" + i;
+            secrets.add(secret);
+            sets.add(new ArrayList<>(cryptoService.splitSecret(secret, 2, 3).values()));
+        }
+
+        // when
+        List<List<String>> refreshed = refreshService.refreshAll(sets, 2);
+        List<Map<Integer, String>> reshared = refreshService.reshareAll(refreshed, 2, 3, 5);
+
+        // then
+        for (int i = 0; i < secrets.size(); i++) {
+            assertEquals(secrets.get(i), cryptoService.combineShares(refreshed.get(i).subList(1, 3)));
+            Map<Integer, String> set = reshared.get(i);
+            assertEquals(secrets.get(i), cryptoService.combineShares(List.of(set.get(5), set.get(1), set.get(3))));
+        }
+    }
+}
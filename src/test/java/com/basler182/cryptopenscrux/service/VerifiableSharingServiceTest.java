@@ -0,0 +1,90 @@
+package com.basler182.cryptopenscrux.service;
+
+import com.basler182.cryptopenscrux.random.BufferedSecureRandomProvider;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerifiableSharingServiceTest {
+
+    private final VerifiableSharingService service =
+            new VerifiableSharingService(BufferedSecureRandomProvider.createDefault(), ParallelSettings.defaults());
+
+    @Test
+    void givenSplit_whenVerifyAndCombine_thenSharesCheckOutAndSecretIsRecovered() {
+        // given
+        String secret = "correct horse battery staple, but random";
+
+        // when
+        VerifiableSharingService.VerifiableShares split = service.split(secret, 3, 5);
+
+        // then
+        assertEquals(5, split.shares().size());
+        for (String share : split.shares().values()) {
+            assertTrue(service.verify(split.commitments(), share));
+        }
+        List<String> shares = new ArrayList<>(split.shares().values());
+        assertEquals(secret, service.combine(split.commitments(), List.of(shares.get(4), shares.get(0), shares.get(2))));
+    }
+
+    @Test
+    void givenSharesFromAnotherDealing_whenCombine_thenTheyAreRejected() {
+        // given
+        VerifiableSharingService.VerifiableShares first = service.split("first", 2, 3);
+        VerifiableSharingService.VerifiableShares second = service.split("second", 2, 3);
+        List<String> mixed = List.of(second.shares().get(1), first.shares().get(2));
+
+        // when
+        boolean[] valid = service.verifyAll(first.commitments(), mixed);
+
+        // then
+        assertArrayEquals(new boolean[]{false, true}, valid);
+        ShareValidationException e = assertThrows(ShareValidationException.class,
+                () -> service.combine(first.commitments(), mixed));
+        assertEquals(ShareValidationException.Reason.MISSING_SHARES, e.reason());
+        assertEquals("first", service.combine(first.commitments(), List.of(second.shares().get(1), first.shares().get(2), first.shares().get(3))));
+    }
+
+    @Test
+    void givenManyDealings_whenAuditAll_thenEachSetIsCheckedAgainstItsCommitments() {
+        // given
+        List<String> commitments = new ArrayList<>();
+        List<List<String>> shareSets = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            VerifiableSharingService.VerifiableShares split = service.split("secret " + i, 3, 10);
+            commitments.add(split.commitments());
+            shareSets.add(new ArrayList<>(split.shares().values()));
+        }
+        shareSets.get(4).set(2, shareSets.get(3).get(2));
+
+        // when
+        List<boolean[]> audit = service.auditAll(commitments, shareSets);
+
+        // then
+        assertEquals(6, audit.size());
+        for (int i = 0; i < audit.size(); i++) {
+            for (int j = 0; j < 10; j++) {
+                assertEquals(!(i == 4 && j == 2), audit.get(i)[j], "dealing " + i + ", share " + j);
+            }
+        }
+    }
+
+    @Test
+    void givenMalformedInput_whenVerify_thenShareValidationException() {
+        // given
+        VerifiableSharingService.VerifiableShares split = service.split("x", 2, 2);
+
+        // when / then
+        assertEquals(ShareValidationException.Reason.INVALID_SCHEME,
+                assertThrows(ShareValidationException.class, () -> service.split("x", 1, 2)).reason());
+        assertEquals(ShareValidationException.Reason.INVALID_LENGTH,
+                assertThrows(ShareValidationException.class, () -> service.verify(split.commitments(), "01ABCD")).reason());
+        assertEquals(ShareValidationException.Reason.INVALID_INDEX,
+                assertThrows(ShareValidationException.class, () -> service.verify(split.commitments(), "00" + "11".repeat(32))).reason());
+        assertEquals(ShareValidationException.Reason.INVALID_ARGUMENT,
+                assertThrows(ShareValidationException.class, () -> service.verify("02ABCD", split.shares().get(1))).reason());
+    }
+}
@@ -0,0 +1,126 @@
+package com.basler182.cryptopenscrux.slip39;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Slip39CodecTest {
+
+    /** Stand-in list with the SLIP-39 shape: 1024 lowercase words, unique on their first four letters. */
+    private static final Slip39Wordlist WORDLIST = new Slip39Wordlist(IntStream.range(0, Slip39Wordlist.SIZE)
+            .mapToObj(i -> prefix(i) + (i % 2 == 0 ? "ing" : ""))
+            .toList());
+
+    private final Slip39Codec codec = new Slip39Codec(WORDLIST);
+    private final Slip39Engine engine = new Slip39Engine(Slip39EngineTest.seeded(7));
+
+    @Test
+    void givenShares_whenToMnemonicAndParse_thenRoundTrips() {
+        // given
+        byte[] secret = new byte[32];
+        new Random(1).nextBytes(secret);
+        List<Slip39Share> shares = engine.split(secret, new byte[0], 1, List.of(new Slip39Group(2, 3)), false, 2).get(0);
+
+        // when
+        List<Slip39Share> parsed = shares.stream().map(codec::toMnemonic).map(codec::parse).toList();
+
+        // then
+        for (int i = 0; i < shares.size(); i++) {
+            Slip39Share expected = shares.get(i);
+            Slip39Share actual = parsed.get(i);
+            assertArrayEquals(expected.value(), actual.value());
+            assertEquals(expected.identifier(), actual.identifier());
+            assertEquals(expected.iterationExponent(), actual.iterationExponent());
+            assertEquals(expected.memberIndex(), actual.memberIndex());
+            assertEquals(expected.memberThreshold(), actual.memberThreshold());
+            assertFalse(actual.extendable());
+        }
+        assertEquals(Slip39Share.wordCount(32), codec.toMnemonic(shares.get(0)).split(" ").length);
+        assertArrayEquals(secret, engine.recover(parsed, new byte[0]));
+    }
+
+    @Test
+    void given128BitShare_whenToWordIndexes_thenHasTwentyWordsAndValidChecksum() {
+        // given
+        Slip39Share share = new Slip39Share(1234, true, 1, 0, 1, 1, 0, 1, new byte[16]);
+
+        // when
+        int[] words = share.toWordIndexes();
+
+        // then
+        assertEquals(Slip39Share.MIN_WORDS, words.length);
+        assertTrue(Rs1024.verify(true, words, 0, words.length));
+        assertFalse(Rs1024.verify(false, words, 0, words.length), "Customization string is part of the checksum");
+    }
+
+    @Test
+    void givenAnySingleWordSubstitution_whenIsValid_thenRejected() {
+        // given
+        Slip39Share share = engine.split(new byte[16], new byte[0], 1, List.of(new Slip39Group(1, 1)), true, 0).get(0).get(0);
+        String[] words = codec.toMnemonic(share).split(" ");
+
+        // when / then
+        for (int i = 0; i < words.length; i++) {
+            String original = words[i];
+            words[i] = WORDLIST.word((WORDLIST.indexOf(original) + 1 + i) % Slip39Wordlist.SIZE);
+            assertFalse(codec.isValid(String.join(" ", words)), "Substituted word " + i);
+            words[i] = original;
+        }
+        assertTrue(codec.isValid(String.join(" ", words)));
+    }
+
+    @Test
+    void givenAbbreviatedUpperCaseWords_whenParse_thenResolvesToSameShare() {
+        // given
+        Slip39Share share = engine.split(new byte[16], new byte[0], 1, List.of(new Slip39Group(1, 1)), true, 0).get(0).get(0);
+        String abbreviated = List.of(codec.toMnemonic(share).split(" ")).stream()
+                .map(w -> w.substring(0, 4).toUpperCase())
+                .collect(Collectors.joining("  \n"));
+
+        // when
+        Slip39Share parsed = codec.parse(abbreviated);
+
+        // then
+        assertArrayEquals(share.value(), parsed.value());
+        assertEquals(-1, WORDLIST.indexOf("zzzz"));
+        assertEquals(-1, WORDLIST.indexOf(WORDLIST.word(0) + "s"));
+    }
+
+    @Test
+    void givenThousandsOfMnemonics_whenValidateAll_thenFlagsExactlyTheCorruptOnes() {
+        // given
+        List<Slip39Share> shares = engine.split(new byte[16], new byte[0], 1, List.of(new Slip39Group(4, 16)), true, 0).get(0);
+        List<String> mnemonics = new ArrayList<>();
+        for (int i = 0; i < 4000; i++) {
+            String mnemonic = codec.toMnemonic(shares.get(i % shares.size()));
+            if (i % 7 == 0) mnemonic = mnemonic.replaceFirst("^\\S+", WORDLIST.word(i % Slip39Wordlist.SIZE));
+            if (i % 11 == 0) mnemonic = mnemonic + " notaword";
+            mnemonics.add(mnemonic);
+        }
+
+        // when
+        boolean[] valid = codec.validateAll(mnemonics, ForkJoinPool.commonPool());
+
+        // then
+        for (int i = 0; i < valid.length; i++) {
+            boolean corrupted = i % 11 == 0 || (i % 7 == 0 && !mnemonics.get(i).equals(codec.toMnemonic(shares.get(i % shares.size()))));
+            assertEquals(!corrupted, valid[i], "Mnemonic " + i);
+        }
+    }
+
+    private static String prefix(int i) {
+        char[] c = new char[4];
+        for (int d = 3; d >= 0; d--) {
+            c[d] = (char) ('a' + i % 26);
+            i /= 26;
+        }
+        return new String(c);
+    }
+}
@@ -0,0 +1,143 @@
+package com.basler182.cryptopenscrux.slip39;
+
+import com.basler182.cryptopenscrux.random.RandomnessProvider;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Slip39EngineTest {
+
+    private static final byte[] PASSPHRASE = "TREZOR".getBytes(StandardCharsets.US_ASCII);
+
+    private final Slip39Engine engine = new Slip39Engine(seeded(42));
+
+    @Test
+    void givenNonExtendableShare_whenEncrypt_thenMatchesFeistelOverJdkPbkdf2() throws Exception {
+        // given
+        byte[] secret = new byte[16];
+        new Random(1).nextBytes(secret);
+
+        // when
+        byte[] encrypted = Slip39Cipher.encrypt(secret, PASSPHRASE, 0, 7, false);
+
+        // then
+        assertArrayEquals(referenceEncrypt(secret, "TREZOR", 7), encrypted);
+        assertArrayEquals(secret, Slip39Cipher.decrypt(encrypted, PASSPHRASE, 0, 7, false));
+    }
+
+    @Test
+    void givenTwoOfThreeGroups_whenRecoverFromAnyTwoCompleteGroups_thenMasterSecretIsRestored() {
+        // given
+        byte[] secret = new byte[32];
+        new Random(2).nextBytes(secret);
+        List<Slip39Group> groups = List.of(new Slip39Group(1, 1), new Slip39Group(2, 3), new Slip39Group(3, 5));
+
+        // when
+        List<List<Slip39Share>> shares = engine.split(secret, PASSPHRASE, 2, groups, true, 0);
+        List<Slip39Share> groups01 = new ArrayList<>(shares.get(0));
+        groups01.addAll(shares.get(1).subList(1, 3));
+        List<Slip39Share> groups12 = new ArrayList<>(shares.get(1).subList(0, 2));
+        groups12.addAll(List.of(shares.get(2).get(4), shares.get(2).get(0), shares.get(2).get(2)));
+
+        // then
+        assertEquals(5, shares.get(2).size());
+        assertArrayEquals(secret, engine.recover(groups01, PASSPHRASE));
+        assertArrayEquals(secret, engine.recover(groups12, PASSPHRASE));
+    }
+
+    @Test
+    void givenIncompleteGroups_whenRecover_thenThrows() {
+        // given
+        byte[] secret = new byte[16];
+        List<List<Slip39Share>> shares = engine.split(secret, PASSPHRASE, 2,
+                List.of(new Slip39Group(2, 3), new Slip39Group(2, 3)), false, 0);
+        List<Slip39Share> partial = List.of(shares.get(0).get(0), shares.get(0).get(1), shares.get(1).get(2));
+
+        // when / then
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> engine.recover(partial, PASSPHRASE));
+        assertTrue(ex.getMessage().contains("Insufficient"));
+    }
+
+    @Test
+    void givenTamperedShareValue_whenRecover_thenDigestCheckFails() {
+        // given
+        byte[] secret = new byte[16];
+        List<Slip39Share> shares = engine.split(secret, PASSPHRASE, 1, List.of(new Slip39Group(3, 5)), true, 0).get(0);
+        Slip39Share tampered = shares.get(1);
+        byte[] value = tampered.value().clone();
+        value[3] ^= 1;
+        List<Slip39Share> set = List.of(shares.get(0), withValue(tampered, value), shares.get(2));
+
+        // when / then
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> engine.recover(set, PASSPHRASE));
+        assertTrue(ex.getMessage().contains("digest"));
+    }
+
+    @Test
+    void givenWrongPassphrase_whenRecover_thenYieldsDifferentSecret() {
+        // given: SLIP-39 has no passphrase check, a wrong one decrypts to another valid-looking secret
+        byte[] secret = new byte[16];
+        new Random(3).nextBytes(secret);
+        List<Slip39Share> shares = engine.split(secret, PASSPHRASE, 1, List.of(new Slip39Group(2, 2)), true, 0).get(0);
+
+        // when
+        byte[] recovered = engine.recover(shares, new byte[0]);
+
+        // then
+        assertEquals(secret.length, recovered.length);
+        assertFalse(Arrays.equals(secret, recovered));
+    }
+
+    @Test
+    void givenOddLengthSecret_whenSplit_thenThrows() {
+        // when / then
+        assertThrows(IllegalArgumentException.class,
+                () -> engine.split(new byte[17], PASSPHRASE, 1, List.of(new Slip39Group(2, 3)), true, 0));
+        assertThrows(IllegalArgumentException.class, () -> new Slip39Group(1, 3));
+    }
+
+    private static Slip39Share withValue(Slip39Share s, byte[] value) {
+        return new Slip39Share(s.identifier(), s.extendable(), s.iterationExponent(), s.groupIndex(), s.groupThreshold(),
+                s.groupCount(), s.memberIndex(), s.memberThreshold(), value);
+    }
+
+    /** Feistel network written against {@link SecretKeyFactory}'s PBKDF2 instead of the hand-rolled one. */
+    private static byte[] referenceEncrypt(byte[] secret, String passphrase, int identifier) throws Exception {
+        SecretKeyFactory factory = SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256");
+        int half = secret.length / 2;
+        byte[] l = Arrays.copyOfRange(secret, 0, half);
+        byte[] r = Arrays.copyOfRange(secret, half, secret.length);
+        for (int i = 0; i < 4; i++) {
+            byte[] salt = new byte[8 + half];
+            System.arraycopy("shamir".getBytes(StandardCharsets.US_ASCII), 0, salt, 0, 6);
+            salt[6] = (byte) (identifier >>> 8);
+            salt[7] = (byte) identifier;
+            System.arraycopy(r, 0, salt, 8, half);
+            char[] password = ((char) i + passphrase).toCharArray();
+            byte[] f = factory.generateSecret(new PBEKeySpec(password, salt, 2500, half * 8)).getEncoded();
+            for (int j = 0; j < half; j++) f[j] ^= l[j];
+            l = r;
+            r = f;
+        }
+        byte[] out = Arrays.copyOf(r, secret.length);
+        System.arraycopy(l, 0, out, half, half);
+        return out;
+    }
+
+    static RandomnessProvider seeded(long seed) {
+        Random rnd = new Random(seed);
+        return (dst, off, len) -> {
+            byte[] tmp = new byte[len];
+            rnd.nextBytes(tmp);
+            System.arraycopy(tmp, 0, dst, off, len);
+        };
+    }
+}
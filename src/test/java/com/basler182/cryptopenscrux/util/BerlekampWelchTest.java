@@ -0,0 +1,79 @@
+package com.basler182.cryptopenscrux.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class BerlekampWelchTest {
+
+    @Test
+    void givenCodewordWithMaxErrors_whenDecode_thenOriginalPolynomialReturned() {
+        // given
+        Random rnd = new Random(12);
+        for (int trial = 0; trial < 200; trial++) {
+            int k = 1 + rnd.nextInt(5);
+            int m = k + rnd.nextInt(8);
+            byte[] coeffs = new byte[k];
+            rnd.nextBytes(coeffs);
+            byte[] xs = new byte[m];
+            byte[] ys = new byte[m];
+            for (int i = 0; i < m; i++) {
+                xs[i] = (byte) (i + 1);
+                ys[i] = Gf256Util.evaluate(coeffs, xs[i]);
+            }
+            int e = BerlekampWelch.maxCorrectableErrors(m, k);
+            for (int i = 0; i < e; i++) {
+                ys[(i * 3) % m] ^= (byte) (1 + rnd.nextInt(255));
+            }
+
+            // when
+            byte[] decoded = BerlekampWelch.decode(xs, ys, k);
+
+            // then
+            assertArrayEquals(coeffs, decoded, "k=" + k + " m=" + m);
+        }
+    }
+
+    @Test
+    void givenTooManyErrorsWithoutNearbyCodeword_whenDecode_thenReturnsNull() {
+        // given
+        byte[] coeffs = {5, 7, 11};
+        byte[] xs = {1, 2, 3, 4, 5};
+        byte[] ys = new byte[xs.length];
+        for (int i = 0; i < xs.length; i++) {
+            ys[i] = Gf256Util.evaluate(coeffs, xs[i]);
+        }
+        ys[0] ^= 1;
+        ys[1] ^= 1;
+
+        // when
+        byte[] decoded = BerlekampWelch.decode(xs, ys, 3);
+
+        // then
+        // No codeword lies within distance 1 of these points, so the decoder finds no polynomial at all; other
+        // error patterns beyond the radius can land within distance 1 of a different codeword instead.
+        assertNull(decoded, "two errors exceed the correction radius of a (5, 3) code");
+    }
+
+    @Test
+    void givenPoints_whenLagrangeWeightsAt_thenInterpolatesPolynomial() {
+        // given
+        byte[] coeffs = {(byte) 0x9A, 0x13, (byte) 0xE0};
+        byte[] xs = {3, 7, 42};
+        byte x = (byte) 200;
+
+        // when
+        byte[] weights = Gf256Util.lagrangeWeightsAt(xs, x);
+        byte value = 0;
+        for (int i = 0; i < xs.length; i++) {
+            value ^= Gf256Util.mul(weights[i], Gf256Util.evaluate(coeffs, xs[i]));
+        }
+
+        // then
+        assertEquals(Gf256Util.evaluate(coeffs, x), value);
+    }
+}
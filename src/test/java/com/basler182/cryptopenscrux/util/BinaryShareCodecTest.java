@@ -0,0 +1,71 @@
+package com.basler182.cryptopenscrux.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryShareCodecTest {
+
+    @Test
+    void givenShare_whenEncodeAndDecode_thenFieldsAndDataRoundTrip() {
+        // given
+        byte[] data = {1, 2, 3, 4, 5};
+        ByteBuffer buffer = ByteBuffer.allocate(BinaryShareCodec.encodedLength(data.length) + 3);
+        buffer.position(3);
+
+        // when
+        BinaryShareCodec.encode(3, 0x1122334455667788L, 7, data, 0, data.length, buffer);
+        buffer.flip().position(3);
+        BinaryShare share = BinaryShareCodec.decode(buffer);
+
+        // then
+        assertEquals(3, share.threshold());
+        assertEquals(0x1122334455667788L, share.setId());
+        assertEquals(7, share.index());
+        byte[] decoded = new byte[share.dataLength()];
+        share.data().get(decoded);
+        assertArrayEquals(data, decoded, "data must round-trip");
+        assertFalse(buffer.hasRemaining(), "decode must advance past the share");
+    }
+
+    @Test
+    void givenFlippedBit_whenDecode_thenChecksumMismatchIsRejected() {
+        // given
+        byte[] data = new byte[32];
+        ByteBuffer buffer = ByteBuffer.allocate(BinaryShareCodec.encodedLength(data.length));
+        BinaryShareCodec.encode(2, 42L, 1, data, 0, data.length, buffer);
+        buffer.flip();
+        buffer.put(BinaryShareCodec.HEADER_LENGTH + 10, (byte) 0x01);
+
+        // when / then
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> BinaryShareCodec.decode(buffer));
+        assertEquals("Share checksum mismatch", ex.getMessage());
+    }
+
+    @Test
+    void givenTruncatedOrForeignInput_whenDecode_thenThrowsIllegalArgumentException() {
+        // given
+        byte[] data = new byte[8];
+        ByteBuffer buffer = ByteBuffer.allocate(BinaryShareCodec.encodedLength(data.length));
+        BinaryShareCodec.encode(2, 42L, 1, data, 0, data.length, buffer);
+        buffer.flip();
+        ByteBuffer truncated = buffer.duplicate().limit(buffer.limit() - 1);
+        ByteBuffer foreign = ByteBuffer.wrap(new byte[32]);
+
+        // when / then
+        assertThrows(IllegalArgumentException.class, () -> BinaryShareCodec.decode(truncated));
+        assertThrows(IllegalArgumentException.class, () -> BinaryShareCodec.decode(foreign));
+    }
+
+    @Test
+    void givenTooSmallDestination_whenEncode_thenThrowsIllegalArgumentException() {
+        // given
+        byte[] data = new byte[8];
+        ByteBuffer small = ByteBuffer.allocate(BinaryShareCodec.encodedLength(data.length) - 1);
+
+        // when / then
+        assertThrows(IllegalArgumentException.class, () -> BinaryShareCodec.encode(2, 1L, 1, data, 0, data.length, small));
+    }
+}
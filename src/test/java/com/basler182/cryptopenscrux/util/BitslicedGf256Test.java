@@ -0,0 +1,132 @@
+package com.basler182.cryptopenscrux.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BitslicedGf256Test {
+
+    private static final int N = BitslicedGf256.BLOCK_BYTES;
+
+    @Test
+    void givenBlock_whenLoadAndStore_thenRoundTrips() {
+        // given
+        byte[] data = new byte[N + 7];
+        new Random(1).nextBytes(data);
+        long[] planes = new long[2 * BitslicedGf256.PLANES];
+
+        // when
+        BitslicedGf256.load(data, 7, N, planes, BitslicedGf256.PLANES);
+        byte[] restored = new byte[N];
+        BitslicedGf256.store(planes, BitslicedGf256.PLANES, restored, 0, N);
+
+        // then
+        byte[] expected = new byte[N];
+        System.arraycopy(data, 7, expected, 0, N);
+        assertArrayEquals(expected, restored);
+    }
+
+    @Test
+    void givenPackedBlock_whenInspectingPlanes_thenPlaneBHoldsBitBOfEveryByte() {
+        // given
+        byte[] data = new byte[N];
+        new Random(2).nextBytes(data);
+        long[] planes = new long[BitslicedGf256.PLANES];
+
+        // when
+        BitslicedGf256.load(data, 0, N, planes, 0);
+
+        // then
+        for (int b = 0; b < BitslicedGf256.PLANES; b++) {
+            int ones = 0;
+            for (byte value : data) ones += (value >>> b) & 1;
+            assertEquals(ones, Long.bitCount(planes[b]), "plane " + b + " should hold bit " + b + " of all bytes");
+        }
+    }
+
+    @Test
+    void givenAllPairs_whenMul_thenMatchesTables() {
+        for (int a = 0; a < 256; a++) {
+            // given: row a of the product table, 64 lanes at a time
+            byte[] left = new byte[N];
+            Arrays.fill(left, (byte) a);
+            for (int off = 0; off < 256; off += N) {
+                byte[] right = new byte[N];
+                for (int i = 0; i < N; i++) right[i] = (byte) (off + i);
+                long[] x = new long[BitslicedGf256.PLANES];
+                long[] y = new long[BitslicedGf256.PLANES];
+                BitslicedGf256.load(left, 0, N, x, 0);
+                BitslicedGf256.load(right, 0, N, y, 0);
+
+                // when
+                BitslicedGf256.mul(x, y, x);
+                byte[] product = new byte[N];
+                BitslicedGf256.store(x, 0, product, 0, N);
+
+                // then
+                for (int i = 0; i < N; i++) {
+                    assertEquals(Gf256Util.mul((byte) a, right[i]), product[i], a + " * " + (off + i));
+                }
+            }
+        }
+    }
+
+    @Test
+    void givenAllElements_whenInv_thenMatchesTablesAndMapsZeroToZero() {
+        for (int off = 0; off < 256; off += N) {
+            // given
+            byte[] values = new byte[N];
+            for (int i = 0; i < N; i++) values[i] = (byte) (off + i);
+            long[] planes = new long[BitslicedGf256.PLANES];
+            BitslicedGf256.load(values, 0, N, planes, 0);
+
+            // when
+            BitslicedGf256.inv(planes, planes);
+            byte[] inverses = new byte[N];
+            BitslicedGf256.store(planes, 0, inverses, 0, N);
+
+            // then
+            for (int i = 0; i < N; i++) {
+                byte expected = values[i] == 0 ? 0 : Gf256Util.inv(values[i]);
+                assertEquals(expected, inverses[i], "inverse of " + (off + i));
+            }
+        }
+    }
+
+    @Test
+    void givenAnyScalar_whenSelectorsAndMasks_thenBothMatchTables() {
+        // given
+        byte[] data = new byte[N];
+        new Random(3).nextBytes(data);
+        long[] planes = new long[BitslicedGf256.PLANES];
+        BitslicedGf256.load(data, 0, N, planes, 0);
+        long[] tables = new long[2 * BitslicedGf256.SUBSETS];
+        BitslicedGf256.subsetTables(planes, 0, tables, 0);
+
+        for (int c = 0; c < 256; c++) {
+            // when
+            long[] masks = new long[BitslicedGf256.MASKS];
+            BitslicedGf256.scalarMasks((byte) c, masks, 0);
+            long[] viaMasks = new long[BitslicedGf256.PLANES];
+            BitslicedGf256.mulAddScalar(planes, 0, masks, 0, viaMasks, 0);
+            int[] selectors = new int[2 * BitslicedGf256.PLANES];
+            BitslicedGf256.scalarSelectors((byte) c, selectors, 0);
+            long[] viaTables = new long[BitslicedGf256.PLANES];
+            for (int b = 0; b < BitslicedGf256.PLANES; b++) {
+                viaTables[b] = tables[selectors[b]] ^ tables[BitslicedGf256.SUBSETS + selectors[BitslicedGf256.PLANES + b]];
+            }
+
+            // then
+            assertArrayEquals(viaMasks, viaTables, "scalar " + c);
+            byte[] product = new byte[N];
+            BitslicedGf256.store(viaMasks, 0, product, 0, N);
+            byte[] expected = new byte[N];
+            Gf256Util.mul(expected, data, (byte) c);
+            assertArrayEquals(expected, product, "scalar " + c);
+        }
+    }
+}
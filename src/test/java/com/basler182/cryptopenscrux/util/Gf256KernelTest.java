@@ -0,0 +1,136 @@
+package com.basler182.cryptopenscrux.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+class Gf256KernelTest {
+
+    private static final int[] LENGTHS = {0, 1, 15, 16, 63, 64, 65, 127, 128, 1000, 4099};
+
+    @Test
+    void givenVectorModuleEnabled_whenSelectingKernel_thenVectorKernelIsAvailable() {
+        // surefire runs with --add-modules jdk.incubator.vector
+        assertNotNull(Gf256Util.vectorKernelOrNull(), "vector kernel should load when the incubator module is enabled");
+    }
+
+    @Test
+    void givenRandomData_whenVectorMulAdd_thenMatchesScalarKernel() {
+        Gf256Kernel vector = Gf256Util.vectorKernelOrNull();
+        assertNotNull(vector);
+        Gf256Kernel scalar = new ScalarGf256Kernel();
+        Random rnd = new Random(42);
+
+        for (int len : LENGTHS) {
+            for (int c = 0; c < 256; c++) {
+                // given
+                byte[] src = new byte[len + 3];
+                byte[] dst = new byte[len + 5];
+                rnd.nextBytes(src);
+                rnd.nextBytes(dst);
+                byte[] expected = dst.clone();
+
+                // when
+                scalar.mulAdd(expected, 5, src, 3, len, (byte) c);
+                vector.mulAdd(dst, 5, src, 3, len, (byte) c);
+
+                // then
+                assertArrayEquals(expected, dst, "mulAdd mismatch for len=" + len + ", c=" + c);
+            }
+        }
+    }
+
+    @Test
+    void givenRandomData_whenVectorMul_thenMatchesScalarKernel() {
+        Gf256Kernel vector = Gf256Util.vectorKernelOrNull();
+        assertNotNull(vector);
+        Gf256Kernel scalar = new ScalarGf256Kernel();
+        Random rnd = new Random(7);
+
+        for (int len : LENGTHS) {
+            for (int c = 0; c < 256; c++) {
+                // given
+                byte[] src = new byte[len];
+                rnd.nextBytes(src);
+                byte[] expected = new byte[len];
+                byte[] actual = new byte[len];
+
+                // when
+                scalar.mul(expected, 0, src, 0, len, (byte) c);
+                vector.mul(actual, 0, src, 0, len, (byte) c);
+
+                // then
+                assertArrayEquals(expected, actual, "mul mismatch for len=" + len + ", c=" + c);
+            }
+        }
+    }
+
+    @Test
+    void givenRandomData_whenBitslicedMulAddAndMul_thenMatchesScalarKernel() {
+        Gf256Kernel bitsliced = new BitslicedGf256Kernel();
+        Gf256Kernel scalar = new ScalarGf256Kernel();
+        Random rnd = new Random(11);
+
+        for (int len : LENGTHS) {
+            for (int c = 0; c < 256; c += 5) {
+                // given
+                byte[] src = new byte[len + 3];
+                byte[] dst = new byte[len + 5];
+                rnd.nextBytes(src);
+                rnd.nextBytes(dst);
+                byte[] expected = dst.clone();
+                byte[] expectedMul = dst.clone();
+                byte[] actualMul = dst.clone();
+
+                // when
+                scalar.mulAdd(expected, 5, src, 3, len, (byte) c);
+                bitsliced.mulAdd(dst, 5, src, 3, len, (byte) c);
+                scalar.mul(expectedMul, 5, src, 3, len, (byte) c);
+                bitsliced.mul(actualMul, 5, src, 3, len, (byte) c);
+
+                // then
+                assertArrayEquals(expected, dst, "mulAdd mismatch for len=" + len + ", c=" + c);
+                assertArrayEquals(expectedMul, actualMul, "mul mismatch for len=" + len + ", c=" + c);
+            }
+        }
+    }
+
+    @Test
+    void givenRandomMatrix_whenBitslicedMulAddMatrix_thenMatchesRowByRowKernel() {
+        Gf256Kernel bitsliced = new BitslicedGf256Kernel();
+        Gf256Kernel scalar = new ScalarGf256Kernel();
+        Random rnd = new Random(13);
+        int[] lengths = {1, 63, 64, 200, BitslicedGf256Kernel.TILE_BYTES, BitslicedGf256Kernel.TILE_BYTES + 65};
+
+        for (int len : lengths) {
+            for (int[] shape : new int[][]{{1, 1}, {1, 4}, {5, 2}, {7, 6}}) {
+                // given
+                int rows = shape[0];
+                int cols = shape[1];
+                int stride = len + 9;
+                byte[] src = new byte[2 + cols * stride];
+                byte[] matrix = new byte[rows * cols];
+                rnd.nextBytes(src);
+                rnd.nextBytes(matrix);
+                byte[][] expected = new byte[rows][len + 4];
+                byte[][] actual = new byte[rows][];
+                for (int r = 0; r < rows; r++) {
+                    rnd.nextBytes(expected[r]);
+                    actual[r] = expected[r].clone();
+                }
+
+                // when
+                scalar.mulAddMatrix(expected, 4, matrix, cols, src, 2, stride, len);
+                bitsliced.mulAddMatrix(actual, 4, matrix, cols, src, 2, stride, len);
+
+                // then
+                for (int r = 0; r < rows; r++) {
+                    assertArrayEquals(expected[r], actual[r], "row " + r + " for len=" + len + ", " + rows + "x" + cols);
+                }
+            }
+        }
+    }
+}
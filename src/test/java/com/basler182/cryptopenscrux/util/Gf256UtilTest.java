@@ -2,6 +2,7 @@ package com.basler182.cryptopenscrux.util;
 
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -98,4 +99,99 @@ class Gf256UtilTest {
         // when / then
         assertThrows(ArithmeticException.class, () -> Gf256Util.div(a, zero), "Division by 0 should throw");
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenAllPairs_whenMul_thenMatchesShiftAndAddReference() {
+        for (int a = 0; a < 256; a++) {
+            for (int b = 0; b < 256; b++) {
+                // when
+                byte result = Gf256Util.mul((byte) a, (byte) b);
+
+                // then
+                assertEquals(referenceMul(a, b), Byte.toUnsignedInt(result), "mul mismatch for " + a + " * " + b);
+            }
+        }
+    }
+
+    @Test
+    void givenAllNonZeroBytes_whenInvAndDiv_thenConsistentWithMul() {
+        for (int a = 1; a < 256; a++) {
+            // when
+            byte inv = Gf256Util.inv((byte) a);
+
+            // then
+            assertEquals(1, referenceMul(a, Byte.toUnsignedInt(inv)), "a * inv(a) == 1 for " + a);
+            assertEquals(Byte.toUnsignedInt(inv), Byte.toUnsignedInt(Gf256Util.div((byte) 1, (byte) a)), "1 / a == inv(a)");
+        }
+    }
+
+    @Test
+    void givenByte_whenPow_thenMatchesRepeatedMultiplication() {
+        // given
+        byte a = (byte) 0x53;
+        byte expected = 1;
+
+        for (int e = 0; e < 600; e++) {
+            // when / then
+            assertEquals(Byte.toUnsignedInt(expected), Byte.toUnsignedInt(Gf256Util.pow(a, e)), "a^" + e);
+            expected = Gf256Util.mul(expected, a);
+        }
+        assertEquals(0, Gf256Util.pow((byte) 0, 3), "0^e == 0 for e > 0");
+        assertEquals(1, Gf256Util.pow((byte) 0, 0), "0^0 == 1");
+    }
+
+    @Test
+    void givenArrays_whenMulAddAndMul_thenMatchScalarOps() {
+        // given
+        byte[] src = new byte[300];
+        byte[] dst = new byte[300];
+        for (int i = 0; i < src.length; i++) {
+            src[i] = (byte) (i * 7 + 3);
+            dst[i] = (byte) (i * 13 + 1);
+        }
+        byte scalar = (byte) 0xC9;
+        byte[] expectedMulAdd = new byte[dst.length];
+        byte[] expectedMul = new byte[dst.length];
+        for (int i = 0; i < dst.length; i++) {
+            expectedMulAdd[i] = Gf256Util.add(dst[i], Gf256Util.mul(scalar, src[i]));
+            expectedMul[i] = Gf256Util.mul(scalar, src[i]);
+        }
+
+        // when
+        byte[] mulAdd = dst.clone();
+        Gf256Util.mulAdd(mulAdd, src, scalar);
+        byte[] mul = new byte[dst.length];
+        Gf256Util.mul(mul, src, scalar);
+
+        // then
+        assertArrayEquals(expectedMulAdd, mulAdd, "mulAdd should equal dst ^ scalar * src");
+        assertArrayEquals(expectedMul, mul, "mul should equal scalar * src");
+    }
+
+    @Test
+    void givenCoefficients_whenEvaluate_thenMatchesHorner() {
+        // given
+        byte[] coeffs = {(byte) 0x12, (byte) 0x34, (byte) 0x56};
+        byte x = (byte) 0x05;
+
+        // when
+        byte result = Gf256Util.evaluate(coeffs, x);
+
+        // then
+        byte expected = Gf256Util.add(coeffs[0],
+                Gf256Util.mul(x, Gf256Util.add(coeffs[1], Gf256Util.mul(x, coeffs[2]))));
+        assertEquals(Byte.toUnsignedInt(expected), Byte.toUnsignedInt(result), "evaluate should match Horner scheme");
+    }
+
+    private static int referenceMul(int a, int b) {
+        int p = 0;
+        for (int i = 0; i < 8; i++) {
+            if ((b & 1) != 0) p ^= a;
+            boolean carry = (a & 0x80) != 0;
+            a = (a << 1) & 0xFF;
+            if (carry) a ^= 0x1B;
+            b >>= 1;
+        }
+        return p;
+    }
+}
@@ -2,6 +2,9 @@ package com.basler182.cryptopenscrux.util;
 
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class HexUtilTest {
@@ -68,4 +71,60 @@ class HexUtilTest {
         assertThrows(IllegalArgumentException.class, () -> HexUtil.hexToBytes(oddHex),
                 "hexToBytes should throw IllegalArgumentException for odd length strings");
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenNonHexCharacters_whenHexToBytes_thenThrowsIllegalArgumentException() {
+        // when / then
+        assertThrows(IllegalArgumentException.class, () -> HexUtil.hexToBytes("0G"), "G is not a hex digit");
+        assertThrows(IllegalArgumentException.class, () -> HexUtil.hexToBytes("-1"), "minus sign is not a hex digit");
+        assertThrows(IllegalArgumentException.class, () -> HexUtil.hexToBytes("0\u0661"), "non-ASCII digits are rejected");
+    }
+
+    @Test
+    void givenMixedCaseRange_whenDecodeIntoArrayAndBuffer_thenWritesAtOffset() {
+        // given
+        CharSequence text = new StringBuilder("xx0fA0fFyy");
+        byte[] expected = new byte[]{0x0F, (byte) 0xA0, (byte) 0xFF};
+
+        // when
+        byte[] array = new byte[5];
+        int written = HexUtil.decode(text, 2, 8, array, 2);
+        ByteBuffer buffer = ByteBuffer.allocate(4).put((byte) 0x77);
+        int bufferWritten = HexUtil.decode(text, 2, 8, buffer);
+
+        // then
+        assertEquals(3, written);
+        assertArrayEquals(new byte[]{0, 0, 0x0F, (byte) 0xA0, (byte) 0xFF}, array, "decode writes at offset");
+        assertEquals(3, bufferWritten);
+        assertEquals(4, buffer.position(), "buffer position advances");
+        assertArrayEquals(new byte[]{0x77, 0x0F, (byte) 0xA0, (byte) 0xFF}, buffer.array());
+        assertArrayEquals(expected, HexUtil.hexToBytes(text.subSequence(2, 8)));
+    }
+
+    @Test
+    void givenBytes_whenEncodeIntoCharArrayBuilderAndBuffer_thenWritesUppercaseHex() {
+        // given
+        byte[] input = new byte[]{0x01, 0x0F, (byte) 0xA0, (byte) 0xFF};
+
+        // when
+        char[] chars = new char[8];
+        int charsWritten = HexUtil.encode(input, 1, 3, chars, 2);
+        StringBuilder sb = HexUtil.encode(input, 1, 3, new StringBuilder("01"));
+        ByteBuffer ascii = ByteBuffer.allocate(6);
+        int bytesWritten = HexUtil.encode(input, 1, 3, ascii);
+
+        // then
+        assertEquals(6, charsWritten);
+        assertEquals("0FA0FF", new String(chars, 2, 6), "chars written at offset");
+        assertEquals("010FA0FF", sb.toString());
+        assertEquals(6, bytesWritten);
+        assertEquals("0FA0FF", new String(ascii.array(), StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void givenTooSmallDestination_whenDecode_thenThrowsIllegalArgumentException() {
+        // when / then
+        assertThrows(IllegalArgumentException.class, () -> HexUtil.decode("0FA0", 0, 4, new byte[1], 0));
+        assertThrows(IllegalArgumentException.class, () -> HexUtil.decode("0FA0", 0, 4, ByteBuffer.allocate(1)));
+    }
+}
@@ -0,0 +1,53 @@
+package com.basler182.cryptopenscrux.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VandermondeMatrixTest {
+
+    @Test
+    void givenSameScheme_whenOf_thenCachedInstanceReturned() {
+        // given / when
+        VandermondeMatrix first = VandermondeMatrix.of(3, 5);
+        VandermondeMatrix second = VandermondeMatrix.of(3, 5);
+
+        // then
+        assertSame(first, second);
+        assertEquals(3, first.threshold());
+        assertEquals(5, first.shareCount());
+        assertEquals(Gf256Util.pow((byte) 4, 2), first.entry(4, 2));
+        assertThrows(IllegalArgumentException.class, () -> VandermondeMatrix.of(4, 3));
+    }
+
+    @Test
+    void givenCoefficientBlock_whenEncode_thenMatchesPolynomialEvaluationPerByte() {
+        // given
+        int k = 4;
+        int n = 7;
+        int len = VandermondeMatrix.BLOCK_SIZE * 2 + 33;
+        Random rnd = new Random(19);
+        byte[] secret = new byte[len + 5];
+        byte[] coeffs = new byte[(k - 1) * len];
+        rnd.nextBytes(secret);
+        rnd.nextBytes(coeffs);
+        byte[][] shares = new byte[n][len + 2];
+
+        // when
+        VandermondeMatrix.of(k, n).encode(secret, 5, coeffs, len, shares, 2);
+
+        // then
+        byte[] poly = new byte[k];
+        for (int i = 0; i < len; i += 97) {
+            poly[0] = secret[5 + i];
+            for (int j = 1; j < k; j++) {
+                poly[j] = coeffs[(j - 1) * len + i];
+            }
+            for (int x = 1; x <= n; x++) {
+                assertEquals(Gf256Util.evaluate(poly, (byte) x), shares[x - 1][2 + i], "x=" + x + " i=" + i);
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.basler182.cryptopenscrux.vault;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapIndexTest {
+
+    @Test
+    void givenRandomPutsAndRemoves_whenComparedWithHashMap_thenAgreesOnEveryKey() {
+        // given: few distinct set IDs so that probe runs collide, wrap around and shift back on removal
+        OffHeapIndex index = new OffHeapIndex(16);
+        Map<Long, Long> reference = new HashMap<>();
+        Random rnd = new Random(11);
+
+        // when
+        for (int op = 0; op < 200_000; op++) {
+            long setId = rnd.nextInt(300) - 150;
+            int shareIndex = rnd.nextInt(8);
+            long key = setId * 256 + shareIndex;
+            if (rnd.nextInt(3) == 0) {
+                Long expected = reference.remove(key);
+                assertEquals(expected == null ? OffHeapIndex.ABSENT : expected, index.remove(setId, shareIndex));
+            } else {
+                long offset = rnd.nextInt(1 << 30);
+                Long expected = reference.put(key, offset);
+                assertEquals(expected == null ? OffHeapIndex.ABSENT : expected, index.put(setId, shareIndex, offset));
+            }
+        }
+
+        // then
+        assertEquals(reference.size(), index.size());
+        for (long setId = -150; setId < 150; setId++) {
+            for (int shareIndex = 0; shareIndex < 8; shareIndex++) {
+                Long expected = reference.get(setId * 256 + shareIndex);
+                assertEquals(expected == null ? OffHeapIndex.ABSENT : expected, index.get(setId, shareIndex));
+            }
+        }
+        int[] visited = {0};
+        index.forEach((setId, shareIndex, offset) -> {
+            assertEquals(reference.get(setId * 256 + shareIndex), offset);
+            visited[0]++;
+        });
+        assertEquals(reference.size(), visited[0]);
+    }
+}
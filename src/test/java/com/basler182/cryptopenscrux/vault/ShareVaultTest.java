@@ -0,0 +1,197 @@
+package com.basler182.cryptopenscrux.vault;
+
+import com.basler182.cryptopenscrux.random.BufferedSecureRandomProvider;
+import com.basler182.cryptopenscrux.random.RandomnessProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShareVaultTest {
+
+    private static final SecretKey KEY = new SecretKeySpec(new byte[32], "AES");
+    private static final int WINDOW = 4096;
+
+    private final RandomnessProvider random = BufferedSecureRandomProvider.createDefault();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void givenStoredShares_whenReopened_thenIndexIsRebuiltAcrossWindows() throws IOException {
+        // given: enough records to spill over several 4 KiB windows
+        Path file = dir.resolve("vault.seg");
+        try (ShareVault vault = ShareVault.open(file, KEY, random, WINDOW)) {
+            for (long setId = 0; setId < 100; setId++) {
+                for (int x = 1; x <= 3; x++) {
+                    vault.put(setId, x, 2, data(setId, x), 0, data(setId, x).length);
+                }
+            }
+            assertTrue(vault.usedBytes() > 4 * WINDOW);
+        }
+
+        // when
+        try (ShareVault vault = ShareVault.open(file, KEY, random)) {
+            // then
+            assertEquals(300, vault.size());
+            assertArrayEquals(data(42, 3), vault.get(42, 3).data());
+            assertNull(vault.get(42, 4));
+            List<ShareVault.StoredShare> set = vault.getSet(99);
+            assertEquals(List.of(1, 2, 3), set.stream().map(ShareVault.StoredShare::index).toList());
+            assertEquals(2, set.getFirst().threshold());
+            assertTrue(vault.getSet(1000).isEmpty());
+        }
+    }
+
+    @Test
+    void givenReplacedAndDeletedShares_whenCompact_thenOnlyLiveRecordsRemainAndSurviveReopen() throws IOException {
+        // given
+        Path file = dir.resolve("vault.seg");
+        try (ShareVault vault = ShareVault.open(file, KEY, random, WINDOW)) {
+            for (long setId = 0; setId < 50; setId++) {
+                vault.put(setId, 1, 2, data(setId, 1), 0, data(setId, 1).length);
+                vault.put(setId, 2, 2, data(setId, 2), 0, data(setId, 2).length);
+            }
+            for (long setId = 0; setId < 50; setId++) {
+                byte[] replacement = data(setId + 1000, 1);
+                vault.put(setId, 1, 2, replacement, 0, replacement.length);
+                if (setId % 2 == 0) assertTrue(vault.deleteSet(setId));
+            }
+            assertFalse(vault.deleteSet(0));
+            long before = vault.usedBytes();
+
+            // when
+            vault.compact();
+
+            // then
+            assertEquals(50, vault.size());
+            assertTrue(vault.usedBytes() < before / 2, "compaction drops superseded and deleted records");
+            assertEquals(vault.usedBytes() - ShareVault.FILE_HEADER_SIZE, vault.liveBytes());
+            assertArrayEquals(data(1001, 1), vault.get(1, 1).data());
+            assertEquals(2, vault.getSet(49).size());
+            vault.put(7, 3, 2, data(7, 3), 0, data(7, 3).length);
+        }
+        assertFalse(Files.exists(dir.resolve("vault.seg.compact")));
+        try (ShareVault vault = ShareVault.open(file, KEY, random)) {
+            assertEquals(51, vault.size());
+            assertTrue(vault.getSet(0).isEmpty());
+            assertEquals(List.of(1, 2, 3), vault.getSet(7).stream().map(ShareVault.StoredShare::index).toList());
+            assertArrayEquals(data(1007, 1), vault.get(7, 1).data());
+        }
+    }
+
+    @Test
+    void givenManyShares_whenForEachShare_thenVisitsEachLiveShareOnce() throws IOException {
+        // given
+        try (ShareVault vault = ShareVault.open(dir.resolve("vault.seg"), KEY, random, WINDOW)) {
+            for (long setId = 0; setId < 200; setId++) {
+                vault.put(setId, 1, 2, data(setId, 1), 0, data(setId, 1).length);
+            }
+            vault.put(5, 1, 2, data(5, 9), 0, data(5, 9).length);
+            vault.deleteSet(6);
+            Map<Long, String> seen = new HashMap<>();
+
+            // when
+            vault.forEachShare((setId, index, threshold, bytes, length) ->
+                    assertNull(seen.put(setId, new String(bytes, 0, length, StandardCharsets.UTF_8))));
+
+            // then
+            assertEquals(199, seen.size());
+            assertEquals(new String(data(5, 9), StandardCharsets.UTF_8), seen.get(5L));
+            assertFalse(seen.containsKey(6L));
+        }
+    }
+
+    @Test
+    void givenTamperedCiphertextOrWrongKey_whenGet_thenAuthenticationFails() throws IOException {
+        // given
+        Path file = dir.resolve("vault.seg");
+        try (ShareVault vault = ShareVault.open(file, KEY, random, WINDOW)) {
+            vault.put(1, 1, 2, data(1, 1), 0, data(1, 1).length);
+            vault.put(2, 1, 2, data(2, 1), 0, data(2, 1).length);
+        }
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            ch.write(ByteBuffer.wrap(new byte[]{0x55}), ShareVault.FILE_HEADER_SIZE + ShareVault.RECORD_HEADER_SIZE + 2);
+        }
+
+        // when / then
+        try (ShareVault vault = ShareVault.open(file, KEY, random)) {
+            assertThrows(IllegalStateException.class, () -> vault.get(1, 1));
+            assertArrayEquals(data(2, 1), vault.get(2, 1).data());
+        }
+        try (ShareVault vault = ShareVault.open(file, new SecretKeySpec(new byte[16], "AES"), random)) {
+            assertThrows(IllegalStateException.class, () -> vault.get(2, 1));
+        }
+    }
+
+    @Test
+    void givenIndexOutsideOneTo255_whenGet_thenRejectedInsteadOfReturningAnotherShare() throws IOException {
+        // given
+        try (ShareVault vault = ShareVault.open(dir.resolve("vault.seg"), KEY, random, WINDOW)) {
+            vault.put(1, 2, 2, data(1, 2), 0, data(1, 2).length);
+
+            // when / then
+            assertThrows(IllegalArgumentException.class, () -> vault.get(1, 0));
+            assertThrows(IllegalArgumentException.class, () -> vault.get(1, 256));
+            assertArrayEquals(data(1, 2), vault.get(1, 2).data());
+        }
+    }
+
+    @Test
+    void givenHeaderWithZeroWindowSize_whenOpen_thenNotAShareVaultFile() throws IOException {
+        // given
+        Path file = dir.resolve("vault.seg");
+        try (ShareVault vault = ShareVault.open(file, KEY, random, WINDOW)) {
+            vault.put(1, 1, 2, data(1, 1), 0, data(1, 1).length);
+        }
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            ch.write(ByteBuffer.allocate(4).putInt(0).flip(), 8);
+        }
+
+        // when / then
+        IOException e = assertThrows(IOException.class, () -> ShareVault.open(file, KEY, random));
+        assertTrue(e.getMessage().startsWith("Not a share vault file"), e.getMessage());
+    }
+
+    @Test
+    void givenTornTailRecord_whenReopenedAndAppended_thenEarlierRecordsStayReadable() throws IOException {
+        // given: a record header whose length runs past the window, as after a crash mid-append
+        Path file = dir.resolve("vault.seg");
+        long tail;
+        try (ShareVault vault = ShareVault.open(file, KEY, random, WINDOW)) {
+            vault.put(1, 1, 2, data(1, 1), 0, data(1, 1).length);
+            tail = vault.usedBytes();
+        }
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            ch.write(ByteBuffer.allocate(8).putInt(ShareVault.RECORD_MAGIC).putInt(1 << 20).flip(), tail);
+        }
+
+        // when
+        try (ShareVault vault = ShareVault.open(file, KEY, random)) {
+            vault.put(2, 1, 2, data(2, 1), 0, data(2, 1).length);
+        }
+
+        // then
+        try (ShareVault vault = ShareVault.open(file, KEY, random)) {
+            assertEquals(2, vault.size());
+            assertArrayEquals(data(2, 1), vault.get(2, 1).data());
+        }
+    }
+
+    private static byte[] data(long setId, int index) {
+        return ("share " + index + " of set " + setId).getBytes(StandardCharsets.UTF_8);
+    }
+}
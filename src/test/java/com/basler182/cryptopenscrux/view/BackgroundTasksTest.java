@@ -0,0 +1,105 @@
+package com.basler182.cryptopenscrux.view;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.server.Command;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BackgroundTasksTest {
+
+    private final BackgroundTasks tasks = new BackgroundTasks();
+
+    /** A UI that runs access commands immediately, as if the session lock were free. */
+    private static final class DirectUI extends UI {
+        @Override
+        public Future<Void> access(Command command) {
+            command.execute();
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        tasks.shutdown();
+    }
+
+    @Test
+    void givenAttachedUi_whenTaskCompletes_thenResultIsDeliveredThroughAccess() throws InterruptedException {
+        // given
+        List<String> delivered = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(1);
+
+        // when
+        tasks.submit(new DirectUI(), () -> "result", r -> {
+            delivered.add(r);
+            done.countDown();
+        }, e -> fail(e));
+
+        // then
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("result"), delivered);
+    }
+
+    @Test
+    void givenCancelledTask_whenWorkFinishesAnyway_thenNothingIsDelivered() throws InterruptedException {
+        // given
+        AtomicBoolean release = new AtomicBoolean();
+        AtomicReference<Thread> worker = new AtomicReference<>();
+        CountDownLatch started = new CountDownLatch(1);
+        List<Object> delivered = new CopyOnWriteArrayList<>();
+        BackgroundTasks.Task task = tasks.submit(new DirectUI(), () -> {
+            worker.set(Thread.currentThread());
+            started.countDown();
+            // Like CryptoService, this work does not react to interruption.
+            while (!release.get()) Thread.onSpinWait();
+            return "late";
+        }, delivered::add, delivered::add);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // when
+        assertTrue(task.cancel());
+        release.set(true);
+        // The future reports done on cancel; wait for the worker itself to get past delivery.
+        assertTrue(worker.get().join(Duration.ofSeconds(5)));
+
+        // then
+        assertTrue(task.isCancelled());
+        assertFalse(task.cancel(), "second cancel is a no-op");
+        assertTrue(delivered.isEmpty(), "a cancelled task never calls back into the UI");
+    }
+
+    @Test
+    void givenDetachedUi_whenTaskCompletes_thenResultIsDroppedWithoutError() throws InterruptedException {
+        // given
+        UI detached = new UI();
+        List<Object> delivered = new CopyOnWriteArrayList<>();
+
+        // when
+        BackgroundTasks.Task task = tasks.submit(detached, () -> "result", delivered::add, delivered::add);
+        awaitDone(task);
+
+        // then
+        assertFalse(task.isCancelled());
+        assertTrue(delivered.isEmpty(), "a UI without session gets no callbacks");
+    }
+
+    private static void awaitDone(BackgroundTasks.Task task) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!task.isDone()) {
+            if (System.nanoTime() > deadline) fail("task did not finish");
+            Thread.sleep(5);
+        }
+    }
+}
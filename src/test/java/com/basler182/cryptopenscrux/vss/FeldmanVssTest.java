@@ -0,0 +1,127 @@
+package com.basler182.cryptopenscrux.vss;
+
+import com.basler182.cryptopenscrux.random.BufferedSecureRandomProvider;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FeldmanVssTest {
+
+    private final FeldmanVss vss = new FeldmanVss(BufferedSecureRandomProvider.createDefault());
+
+    @Test
+    void givenLongSecret_whenDeal_thenEveryShareVerifiesAndAnyKRecover() {
+        // given
+        byte[] secret = "a secret longer than one scalar of Z_n, sealed under the dealt key".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        FeldmanVss.Dealing dealing = vss.deal(secret, 3, 6);
+
+        // then
+        assertEquals(FeldmanShare.ENCODED_LENGTH, dealing.shares().get(0).encode().length);
+        for (FeldmanShare share : dealing.shares()) {
+            assertTrue(vss.verify(dealing.commitments(), share));
+        }
+        List<FeldmanShare> shares = dealing.shares();
+        assertArrayEquals(secret, vss.recover(dealing.commitments(), shares.subList(0, 3)));
+        assertArrayEquals(secret, vss.recover(dealing.commitments(), List.of(shares.get(5), shares.get(1), shares.get(3))));
+    }
+
+    @Test
+    void givenTamperedShares_whenVerifyAll_thenBisectionFlagsExactlyThose() {
+        // given
+        FeldmanVss.Dealing dealing = vss.deal(new byte[32], 4, 40);
+        List<FeldmanShare> shares = new ArrayList<>(dealing.shares());
+        shares.set(7, tamper(shares.get(7)));
+        shares.set(30, tamper(shares.get(30)));
+
+        // when
+        boolean[] valid = vss.verifyAll(dealing.commitments(), shares);
+
+        // then
+        for (int i = 0; i < shares.size(); i++) {
+            assertEquals(i != 7 && i != 30, valid[i], "share " + (i + 1));
+        }
+        assertFalse(vss.verify(dealing.commitments(), shares.get(7)));
+    }
+
+    @Test
+    void givenInvalidSharesAmongThem_whenRecover_thenSkipsThemOrReportsIndexes() {
+        // given
+        byte[] secret = {1, 2, 3, 4, 5};
+        FeldmanVss.Dealing dealing = vss.deal(secret, 2, 4);
+        List<FeldmanShare> shares = dealing.shares();
+        FeldmanShare forged = tamper(shares.get(0));
+
+        // when
+        byte[] recovered = vss.recover(dealing.commitments(), List.of(forged, shares.get(2), shares.get(3)));
+
+        // then
+        assertArrayEquals(secret, recovered);
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> vss.recover(dealing.commitments(), List.of(forged, shares.get(2))));
+        assertTrue(e.getMessage().contains("[1]"), e.getMessage());
+    }
+
+    @Test
+    void givenDealing_whenEncodedAndDecoded_thenStillVerifies() {
+        // given
+        FeldmanVss.Dealing dealing = vss.deal(new byte[]{42}, 2, 3);
+
+        // when
+        FeldmanCommitments commitments = FeldmanCommitments.decode(dealing.commitments().encode());
+        FeldmanShare share = FeldmanShare.decode(dealing.shares().get(2).encode());
+
+        // then
+        assertEquals(3, share.index());
+        assertTrue(vss.verify(commitments, share));
+        assertArrayEquals(new byte[]{42}, vss.recover(commitments, List.of(share, FeldmanShare.decode(dealing.shares().get(0).encode()))));
+        byte[] truncated = java.util.Arrays.copyOf(dealing.commitments().encode(), 40);
+        assertThrows(IllegalArgumentException.class, () -> FeldmanCommitments.decode(truncated));
+    }
+
+    @Test
+    void givenShortSecret_whenDealtTwice_thenCommitmentsDoNotDependOnIt() {
+        // given
+        byte[] secret = {7};
+        EcPoint secretTimesG = Secp256r1.multiplyGenerator(BigInteger.valueOf(7));
+
+        // when
+        FeldmanVss.Dealing first = vss.deal(secret, 2, 3);
+        FeldmanVss.Dealing second = vss.deal(secret, 2, 3);
+
+        // then
+        assertNotEquals(secretTimesG, first.commitments().points()[0], "C_0 must commit to the key, not the secret");
+        assertNotEquals(first.commitments().points()[0], second.commitments().points()[0]);
+        assertArrayEquals(secret, vss.recover(second.commitments(), second.shares().subList(1, 3)));
+    }
+
+    @Test
+    void givenAlteredSealedSecret_whenRecover_thenAuthenticationFails() {
+        // given
+        FeldmanVss.Dealing dealing = vss.deal("sealed".getBytes(StandardCharsets.UTF_8), 2, 3);
+        byte[] sealed = dealing.commitments().sealedSecret().clone();
+        sealed[FeldmanCommitments.NONCE_LENGTH] ^= 1;
+        FeldmanCommitments altered = new FeldmanCommitments(2, dealing.commitments().points(), sealed);
+
+        // when / then
+        assertTrue(vss.verify(altered, dealing.shares().get(0)), "shares still match the points");
+        assertThrows(IllegalStateException.class, () -> vss.recover(altered, dealing.shares()));
+    }
+
+    @Test
+    void givenInvalidScheme_whenDeal_thenRejected() {
+        assertThrows(IllegalArgumentException.class, () -> vss.deal(new byte[1], 1, 3));
+        assertThrows(IllegalArgumentException.class, () -> vss.deal(new byte[1], 4, 3));
+        assertThrows(IllegalArgumentException.class, () -> vss.deal(new byte[0], 2, 3));
+    }
+
+    private static FeldmanShare tamper(FeldmanShare share) {
+        return new FeldmanShare(share.index(), share.value().add(BigInteger.ONE).mod(Secp256r1.ORDER));
+    }
+}
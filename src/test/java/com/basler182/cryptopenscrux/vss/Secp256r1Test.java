@@ -0,0 +1,101 @@
+package com.basler182.cryptopenscrux.vss;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Secp256r1Test {
+
+    private final Random random = new Random(42);
+
+    @Test
+    void givenGenerator_whenMultipliedByOrder_thenInfinity() {
+        // given
+        EcPoint g = Secp256r1.generator();
+
+        // when
+        EcPoint atOrder = Secp256r1.multiply(g, Secp256r1.ORDER);
+        EcPoint belowOrder = Secp256r1.multiply(g, Secp256r1.ORDER.subtract(BigInteger.ONE));
+
+        // then
+        assertTrue(atOrder.isInfinity());
+        assertEquals(Secp256r1.negate(g), belowOrder);
+    }
+
+    @Test
+    void givenRandomScalars_whenFixedBaseMultiply_thenMatchesWindowedMultiply() {
+        for (int i = 0; i < 20; i++) {
+            // given
+            BigInteger k = new BigInteger(256, random);
+
+            // when
+            EcPoint fixedBase = Secp256r1.multiplyGenerator(k);
+
+            // then
+            assertEquals(Secp256r1.multiply(Secp256r1.generator(), k), fixedBase);
+        }
+        assertTrue(Secp256r1.multiplyGenerator(BigInteger.ZERO).isInfinity());
+        assertEquals(Secp256r1.generator(), Secp256r1.multiplyGenerator(BigInteger.ONE));
+    }
+
+    @Test
+    void givenBases_whenMultiExp_thenEqualsSumOfProducts() {
+        // given
+        EcPoint[] bases = new EcPoint[5];
+        BigInteger[] scalars = new BigInteger[5];
+        EcPoint expected = EcPoint.INFINITY;
+        for (int i = 0; i < bases.length; i++) {
+            bases[i] = i == 2 ? EcPoint.INFINITY : Secp256r1.multiplyGenerator(new BigInteger(256, random));
+            scalars[i] = new BigInteger(256, random);
+            expected = Secp256r1.add(expected, Secp256r1.multiply(bases[i], scalars[i]));
+        }
+
+        // when
+        EcPoint actual = Secp256r1.multiExp(bases, scalars);
+
+        // then
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void givenCoefficients_whenEvaluate_thenMatchesPowersOfX() {
+        // given
+        EcPoint[] coefficients = new EcPoint[4];
+        BigInteger[] powers = new BigInteger[4];
+        for (int j = 0; j < coefficients.length; j++) {
+            coefficients[j] = Secp256r1.multiplyGenerator(new BigInteger(256, random));
+            powers[j] = BigInteger.valueOf(200).pow(j);
+        }
+
+        // when
+        EcPoint horner = Secp256r1.evaluate(coefficients, 200);
+
+        // then
+        assertEquals(Secp256r1.multiExp(coefficients, powers), horner);
+    }
+
+    @Test
+    void givenPoints_whenEncodeAndDecode_thenRoundTripsAndRejectsOffCurve() {
+        // given
+        byte[] encoded = new byte[EcPoint.ENCODED_LENGTH];
+
+        for (int i = 0; i < 10; i++) {
+            EcPoint point = Secp256r1.multiplyGenerator(new BigInteger(256, random));
+
+            // when
+            point.encode(encoded, 0);
+
+            // then
+            assertEquals(point, EcPoint.decode(encoded, 0));
+        }
+        EcPoint.INFINITY.encode(encoded, 0);
+        assertTrue(EcPoint.decode(encoded, 0).isInfinity());
+        encoded[0] = 5;
+        assertThrows(IllegalArgumentException.class, () -> EcPoint.decode(encoded, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> EcPoint.of(Secp256r1.generator().x(), Secp256r1.generator().y().add(BigInteger.ONE)));
+    }
+}